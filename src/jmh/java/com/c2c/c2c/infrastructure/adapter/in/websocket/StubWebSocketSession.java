@@ -0,0 +1,92 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크용 WebSocketSession 스텁
+ *
+ * 실제 소켓 없이 세션 관리/팬아웃 경로만 측정하기 위해 전송은 카운트만 수행
+ */
+class StubWebSocketSession implements WebSocketSession {
+
+    private final String id;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private volatile boolean open = true;
+    private long sentCount;
+
+    StubWebSocketSession(String id) {
+        this.id = id;
+    }
+
+    long getSentCount() {
+        return sentCount;
+    }
+
+    @Override
+    public String getId() { return id; }
+
+    @Override
+    public URI getUri() { return null; }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() { return new HttpHeaders(); }
+
+    @Override
+    public Map<String, Object> getAttributes() { return attributes; }
+
+    @Override
+    public Principal getPrincipal() { return null; }
+
+    @Override
+    public InetSocketAddress getLocalAddress() { return null; }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() { return null; }
+
+    @Override
+    public String getAcceptedProtocol() { return null; }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) { }
+
+    @Override
+    public int getTextMessageSizeLimit() { return 8192; }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) { }
+
+    @Override
+    public int getBinaryMessageSizeLimit() { return 8192; }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() { return List.of(); }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        sentCount++;
+    }
+
+    @Override
+    public boolean isOpen() { return open; }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    @Override
+    public void close(CloseStatus status) {
+        open = false;
+    }
+}
@@ -0,0 +1,115 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket;
+
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * WebSocketSessionManager 방 팬아웃 벤치마크
+ *
+ * 시나리오: 50,000 세션 / 5,000 방 (방당 10명)
+ * - indexedFanout: 방 인덱스 기반 순회 (현재 구현, O(방 인원 수))
+ * - legacyScanFanout: 기존 userToRoom 전체 스캔 방식 재현 (비교 기준, O(전체 접속자 수))
+ * - registerAndRemove: 입장/퇴장 시 인덱스 유지 비용
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=WebSocketSessionManager
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WebSocketSessionManagerBenchmark {
+
+    @Param({"50000"})
+    private int sessionCount;
+
+    @Param({"5000"})
+    private int roomCount;
+
+    private WebSocketSessionManager sessionManager;
+
+    // 기존 전체 스캔 방식 비교용 매핑
+    private final ConcurrentMap<String, String> legacyUserToRoom = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, WebSocketSession> legacyUserToSession = new ConcurrentHashMap<>();
+
+    private String[] roomIds;
+    private int cursor;
+    private int churnCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionManager = new WebSocketSessionManager(new C2CProperties(null, null, null, null, null, null));
+        roomIds = new String[roomCount];
+        for (int r = 0; r < roomCount; r++) {
+            roomIds[r] = "room-" + r;
+        }
+
+        for (int i = 0; i < sessionCount; i++) {
+            String userId = "user-" + i;
+            String roomId = roomIds[i % roomCount];
+            StubWebSocketSession session = new StubWebSocketSession("session-" + i);
+
+            sessionManager.registerSession(session, userId, roomId);
+            legacyUserToRoom.put(userId, roomId);
+            legacyUserToSession.put(userId, session);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionManager.shutdown();
+    }
+
+    @Benchmark
+    public void indexedFanout(Blackhole blackhole) {
+        String roomId = nextRoomId();
+        sessionManager.forEachSessionInRoom(roomId, (userId, session) -> blackhole.consume(session));
+    }
+
+    @Benchmark
+    public void legacyScanFanout(Blackhole blackhole) {
+        String roomId = nextRoomId();
+        Set<String> users = legacyUserToRoom.entrySet().stream()
+                .filter(entry -> roomId.equals(entry.getValue()))
+                .map(entry -> entry.getKey())
+                .collect(Collectors.toSet());
+        users.stream()
+                .map(legacyUserToSession::get)
+                .filter(session -> session != null && session.isOpen())
+                .collect(Collectors.toSet())
+                .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void registerAndRemove(Blackhole blackhole) {
+        int n = churnCursor++;
+        String userId = "churn-" + (n & 1023);
+        StubWebSocketSession session = new StubWebSocketSession("churn-session-" + (n & 1023));
+
+        sessionManager.registerSession(session, userId, roomIds[n % roomCount]);
+        blackhole.consume(sessionManager.removeUserSession(userId));
+    }
+
+    private String nextRoomId() {
+        int index = cursor++;
+        if (cursor == roomCount) {
+            cursor = 0;
+        }
+        return roomIds[index];
+    }
+}
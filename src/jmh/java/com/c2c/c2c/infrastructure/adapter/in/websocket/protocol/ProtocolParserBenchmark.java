@@ -0,0 +1,85 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket.protocol;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProtocolParser 수신 프레임 파싱 벤치마크
+ *
+ * 시나리오: 클라이언트가 보내는 join/msg/ping 프레임 1건 파싱 + 타입 조회
+ * - streamingJoin/Msg/Ping: 스트리밍 토큰 파서 (현재 구현, 타입에 필요한 필드만 디코딩, 맵 조회)
+ * - databindJoin/Msg/Ping: 기존 방식 재현 (readValue로 C2CMessage 전체 바인딩 + values() 순회 조회 2회, 비교 기준)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=ProtocolParser
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProtocolParserBenchmark {
+
+    private static final String JOIN = "{\"t\":\"join\",\"roomId\":\"0003kgeoqlmpy\",\"token\":\"user-5f1c2a9e\"}";
+    private static final String MSG = "{\"t\":\"msg\",\"roomId\":\"0003kgeoqlmpy\",\"text\":\"안녕하세요, 오늘 회의는 3시에 시작합니다\"}";
+    private static final String PING = "{\"t\":\"ping\"}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProtocolParser parser = new ProtocolParser(objectMapper);
+
+    @Benchmark
+    public MessageType streamingJoin() throws Exception {
+        return parser.parse(JOIN).getMessageType();
+    }
+
+    @Benchmark
+    public MessageType streamingMsg() throws Exception {
+        return parser.parse(MSG).getMessageType();
+    }
+
+    @Benchmark
+    public MessageType streamingPing() throws Exception {
+        return parser.parse(PING).getMessageType();
+    }
+
+    @Benchmark
+    public MessageType databindJoin() throws Exception {
+        return databind(JOIN);
+    }
+
+    @Benchmark
+    public MessageType databindMsg() throws Exception {
+        return databind(MSG);
+    }
+
+    @Benchmark
+    public MessageType databindPing() throws Exception {
+        return databind(PING);
+    }
+
+    // 기존 parse + 핸들러의 fromValue 재호출 재현
+    private MessageType databind(String json) throws Exception {
+        if (json.trim().isEmpty()) {
+            throw new IllegalArgumentException("빈 메시지입니다");
+        }
+        C2CMessage message = objectMapper.readValue(json, C2CMessage.class);
+        if (message.getType() == null || message.getType().trim().isEmpty()) {
+            throw new IllegalArgumentException("메시지 타입(t)이 없습니다");
+        }
+        linearLookup(message.getType());
+        return linearLookup(message.getType());
+    }
+
+    private static MessageType linearLookup(String value) {
+        for (MessageType type : MessageType.values()) {
+            if (type.getValue().equals(value)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown message type: " + value);
+    }
+}
@@ -0,0 +1,154 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.model.Message;
+import com.c2c.c2c.domain.port.out.MessageBroker;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Broker.Impl;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.KeyLayout;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MessageBroker 구현체 처리량 비교 벤치마크 (실행 중인 Redis 필요)
+ *
+ * 시나리오: 발행 노드와 수신 노드를 분리하고 (자기 노드 메시지 필터링 회피)
+ * 20개 방에 방당 500건 발행 → 수신 노드가 전부 받을 때까지를 1회로 측정 (결과 단위: 메시지/초)
+ * - REDIS_PUBSUB: PUBLISH / SUBSCRIBE (RedisMessageBroker)
+ * - REDIS_STREAMS: XADD MAXLEN ~ + EXPIRE / 다중 스트림 XREAD COUNT BLOCK (RedisStreamsMessageBroker)
+ *   결과를 보고 운영 값(BROKER_IMPL)을 선택
+ *
+ * 실행: REDIS_URL=redis://localhost:6379 ./gradlew jmh -Pjmh.includes=MessageBroker
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessageBrokerBenchmark {
+
+    private static final int ROOMS = 20;
+    private static final int MESSAGES_PER_ROOM = 500;
+    private static final int TOTAL = ROOMS * MESSAGES_PER_ROOM;
+
+    @Param({"REDIS_PUBSUB", "REDIS_STREAMS"})
+    public Impl impl;
+
+    private final RedisKeys redisKeys = new RedisKeys(KeyLayout.TAGGED);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisAsyncConnection asyncConnection;
+    private RedisMessageListenerContainer listenerContainer;
+    private RedisListenerDispatcher dispatcher;
+    private MessageBroker publisher;
+    private MessageBroker receiver;
+    private String[] roomIds;
+
+    // 측정 1회분 수신 대기 (수신 스레드가 카운트다운)
+    private volatile CountDownLatch received;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        URI uri = URI.create(System.getenv().getOrDefault("REDIS_URL", "redis://localhost:6379"));
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(uri.getHost(), uri.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        if (impl == Impl.REDIS_PUBSUB) {
+            listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(connectionFactory);
+            listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+
+            C2CProperties receiverProperties = properties("receiver");
+            dispatcher = new RedisListenerDispatcher(receiverProperties, new SimpleMeterRegistry());
+            publisher = new RedisMessageBroker(redisTemplate, listenerContainer, new ObjectMapper(),
+                    properties("publisher"), new SimpleMeterRegistry(), dispatcher);
+            receiver = new RedisMessageBroker(redisTemplate, listenerContainer, new ObjectMapper(),
+                    receiverProperties, new SimpleMeterRegistry(), dispatcher);
+        } else {
+            asyncConnection = new RedisAsyncConnection(connectionFactory);
+            publisher = new RedisStreamsMessageBroker(redisTemplate, asyncConnection, new ObjectMapper(),
+                    redisKeys, properties("publisher"), new SimpleMeterRegistry());
+            RedisStreamsMessageBroker streamsReceiver = new RedisStreamsMessageBroker(redisTemplate, asyncConnection,
+                    new ObjectMapper(), redisKeys, properties("receiver"), new SimpleMeterRegistry());
+            streamsReceiver.start();
+            receiver = streamsReceiver;
+        }
+
+        String prefix = "bench-broker-" + System.nanoTime() + "-";
+        roomIds = new String[ROOMS];
+        for (int r = 0; r < ROOMS; r++) {
+            roomIds[r] = prefix + r;
+            receiver.subscribe(roomIds[r], (roomId, message) -> received.countDown());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetLatch() {
+        received = new CountDownLatch(TOTAL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        receiver.unsubscribeAll();
+        if (receiver instanceof RedisStreamsMessageBroker streamsReceiver) {
+            streamsReceiver.stop();
+            for (String roomId : roomIds) {
+                redisTemplate.delete(redisKeys.roomStream(roomId));
+            }
+            asyncConnection.close();
+        }
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+            dispatcher.shutdown();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOTAL)
+    public boolean publishAndReceive() throws InterruptedException {
+        for (int i = 0; i < MESSAGES_PER_ROOM; i++) {
+            for (String roomId : roomIds) {
+                publisher.publish(roomId, new Message("u1", roomId, "message-" + i, LocalDateTime.now()));
+            }
+        }
+        boolean completed = received.await(60, TimeUnit.SECONDS);
+        if (!completed) {
+            throw new IllegalStateException("Receiver missed messages: remaining=" + received.getCount());
+        }
+        return completed;
+    }
+
+    private C2CProperties properties(String nodeId) {
+        return new C2CProperties(null, null, null, null, null,
+                new C2CProperties.Broker(nodeId, true, null, impl, null, null, null, null, null, null));
+    }
+}
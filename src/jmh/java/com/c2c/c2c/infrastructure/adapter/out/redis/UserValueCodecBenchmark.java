@@ -0,0 +1,94 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.model.User;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.ValueFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 세션 값 코덱 벤치마크
+ *
+ * 시나리오: 세션 해시 1건(sessionId, roomId, joinedAt) 기록/조회 시 값 변환 비용
+ * - compactEncode/compactDecode: UserValueCodec COMPACT (현재 기본값, StringRedisSerializer 포함)
+ * - jsonEncode/jsonDecode: 기존 jsonRedisTemplate 방식 (GenericJackson2JsonRedisSerializer, 비교 기준)
+ * - 사용자당 Redis 메모리 비교는 UserRedisRepositoryTest(MEMORY USAGE)에서 확인
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=UserValueCodec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserValueCodecBenchmark {
+
+    private final UserValueCodec compactCodec = new UserValueCodec(ValueFormat.COMPACT);
+    private final StringRedisSerializer stringSerializer = new StringRedisSerializer();
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    private User user;
+    private List<byte[]> compactStored;
+    private List<byte[]> jsonStored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        user = new User("user-5f1c2a9e", "session-8d3b7c41", "room-42af19c3", LocalDateTime.now());
+
+        compactStored = new ArrayList<>();
+        Map<String, String> compactFields = compactCodec.encodeSession(user);
+        for (String field : UserValueCodec.SESSION_FIELDS) {
+            compactStored.add(stringSerializer.serialize(compactFields.get(field)));
+        }
+
+        jsonStored = List.of(
+                jsonSerializer.serialize(user.getSessionId()),
+                jsonSerializer.serialize(user.getRoomId()),
+                jsonSerializer.serialize(user.getJoinedAt().toString()));
+    }
+
+    @Benchmark
+    public void compactEncode(Blackhole blackhole) {
+        for (Map.Entry<String, String> field : compactCodec.encodeSession(user).entrySet()) {
+            blackhole.consume(stringSerializer.serialize(field.getValue()));
+        }
+    }
+
+    @Benchmark
+    public void jsonEncode(Blackhole blackhole) {
+        // 기존 UserRedisRepository.save가 기록하던 필드 (userId 포함)
+        blackhole.consume(jsonSerializer.serialize(user.getUserId()));
+        blackhole.consume(jsonSerializer.serialize(user.getSessionId()));
+        blackhole.consume(jsonSerializer.serialize(user.getRoomId()));
+        blackhole.consume(jsonSerializer.serialize(user.getJoinedAt().toString()));
+    }
+
+    @Benchmark
+    public User compactDecode() {
+        List<String> values = new ArrayList<>(compactStored.size());
+        for (byte[] stored : compactStored) {
+            values.add(stringSerializer.deserialize(stored));
+        }
+        return compactCodec.decodeSession(user.getUserId(), values).orElseThrow();
+    }
+
+    @Benchmark
+    public User jsonDecode() {
+        String sessionId = (String) jsonSerializer.deserialize(jsonStored.get(0));
+        String roomId = (String) jsonSerializer.deserialize(jsonStored.get(1));
+        String joinedAt = (String) jsonSerializer.deserialize(jsonStored.get(2));
+        return new User(user.getUserId(), sessionId, roomId, LocalDateTime.parse(joinedAt));
+    }
+}
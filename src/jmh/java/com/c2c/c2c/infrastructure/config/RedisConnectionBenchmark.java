@@ -0,0 +1,111 @@
+package com.c2c.c2c.infrastructure.config;
+
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.ConnectionMode;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.PipelineFlush;
+import io.lettuce.core.resource.ClientResources;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 연결 설정 조합 벤치마크 (실행 중인 Redis 필요)
+ *
+ * 시나리오: 노드 하나가 여러 스레드에서 동시에 Redis를 사용하는 상황
+ * - singleCommand: 단건 명령 (방 존재 확인, 프레즌스 조회 등 핫패스)
+ * - pipelinedBatch: 파이프라인 1회에 SETEX 100건 (하트비트 모아 쓰기, 세션 저장)
+ * - 매트릭스: connectionMode(shared/pooled) x pipelineFlush x ioThreads
+ *   결과를 보고 운영 값(REDIS_CONNECTION_MODE, REDIS_PIPELINE_FLUSH, REDIS_IO_THREADS)을 선택
+ *
+ * 실행: REDIS_URL=redis://localhost:6379 ./gradlew jmh -Pjmh.includes=RedisConnection
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+public class RedisConnectionBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"SHARED", "POOLED"})
+    public ConnectionMode connectionMode;
+
+    @Param({"EACH_COMMAND", "ON_CLOSE", "BUFFERED"})
+    public PipelineFlush pipelineFlush;
+
+    @Param({"0", "2"})
+    public int ioThreads;
+
+    private ClientResources clientResources;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getenv().getOrDefault("REDIS_URL", "redis://localhost:6379");
+        // 풀 크기는 벤치마크 스레드 수에 맞춤 (풀 대기 시간이 결과에 섞이지 않도록)
+        C2CProperties.Redis redis = new C2CProperties.Redis();
+        redis.setUrl(url);
+        redis.setConnectionMode(connectionMode);
+        redis.setPoolMaxActive(16);
+        redis.setPoolMaxIdle(16);
+        redis.setPoolMinIdle(16);
+        redis.setPipelineFlush(pipelineFlush);
+        redis.setPipelineBufferSize(20);
+        redis.setIoThreads(ioThreads);
+
+        clientResources = RedisConfig.createClientResources(redis);
+        connectionFactory = RedisConfig.createConnectionFactory(redis, clientResources);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        redisTemplate.opsForValue().set("bench:presence", "1");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redisTemplate.delete("bench:presence");
+        connectionFactory.destroy();
+        clientResources.shutdown();
+    }
+
+    @Benchmark
+    public String singleCommand() {
+        return redisTemplate.opsForValue().get("bench:presence");
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<Object> pipelinedBatch() {
+        String prefix = "bench:batch:" + Thread.currentThread().threadId() + ":";
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) {
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    operations.opsForValue().set(prefix + i, "1", 30, TimeUnit.SECONDS);
+                }
+                return null;
+            }
+        });
+    }
+}
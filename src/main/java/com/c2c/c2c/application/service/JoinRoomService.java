@@ -1,22 +1,33 @@
 package com.c2c.c2c.application.service;
 
+import com.c2c.c2c.domain.model.User;
 import com.c2c.c2c.domain.port.in.JoinRoomUseCase;
+import com.c2c.c2c.domain.port.out.AsyncRoomRepository;
+import com.c2c.c2c.domain.port.out.AsyncUserRepository;
 import com.c2c.c2c.domain.port.out.RoomRepository;
-import com.c2c.c2c.domain.port.out.UserRepository;
+import com.c2c.c2c.domain.port.out.RoomRepository.JoinResult;
 import com.c2c.c2c.domain.exception.RoomException;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * 방 입장 Use Case 구현체
  * 
  * 수정된 설계:
  * - Redis-First Architecture: Room 객체 사용 중단, Redis 직접 조작
- * - 실제 데이터는 Redis에서 직접 조회/조작
+ * - 존재 확인/정원 확인/멤버 추가/TTL 해제/프레즌스 갱신을 RoomRepository.join 한 번(1회 왕복, 원자적)으로 처리
+ *   (입장 폭주 시 왕복 수와 입장 간 경합 제거)
+ * - 정원은 C2CProperties.Room.maxMembers로 서버 측에서 강제
+ * - joinRoomAsync: 같은 입장 스크립트를 AsyncRoomRepository로 실행, 스레드를 점유하지 않고 결과를 조합
+ *   세션 ID가 있으면(WebSocket 입장) 세션 정보를 AsyncUserRepository로 이어서 기록
+ *   (세션 기록 실패는 입장을 실패시키지 않음: 멤버십/프레즌스는 이미 입장 스크립트가 기록)
  * - 상세 로깅으로 디버깅 지원
  */
 @Service
@@ -25,11 +36,16 @@ public class JoinRoomService implements JoinRoomUseCase {
     private static final Logger log = LoggerFactory.getLogger(JoinRoomService.class);
     
     private final RoomRepository roomRepository;
-    private final UserRepository userRepository;
+    private final AsyncRoomRepository asyncRoomRepository;
+    private final AsyncUserRepository asyncUserRepository;
+    private final C2CProperties properties;
     
-    public JoinRoomService(RoomRepository roomRepository, UserRepository userRepository) {
+    public JoinRoomService(RoomRepository roomRepository, AsyncRoomRepository asyncRoomRepository,
+                           AsyncUserRepository asyncUserRepository, C2CProperties properties) {
         this.roomRepository = roomRepository;
-        this.userRepository = userRepository;
+        this.asyncRoomRepository = asyncRoomRepository;
+        this.asyncUserRepository = asyncUserRepository;
+        this.properties = properties;
     }
     
     @Override
@@ -42,45 +58,16 @@ public class JoinRoomService implements JoinRoomUseCase {
             
             String roomId = request.roomId();
             String userId = request.userId();
+            int maxMembers = properties.getRoom().getMaxMembers();
             
             log.debug("✅ 입력 검증 완료 - roomId: {}, userId: {}", roomId, userId);
             
-            // 2. 방 존재 여부 확인 (Redis에서 직접 확인)
-            if (!roomRepository.exists(roomId)) {
-                log.error("❌ 방을 찾을 수 없음 - roomId: {}", roomId);
-                throw RoomException.roomNotFound(roomId);
-            }
-            
-            // 3. 방 입장 전 멤버 수 확인
-            Set<String> membersBefore = roomRepository.getMembers(roomId);
-            boolean wasEmpty = membersBefore.isEmpty();
-            log.info("📊 입장 전 방 상태 - 빈 방: {}, 현재 멤버 수: {}", wasEmpty, membersBefore.size());
+            // 2. 원자적 입장 (방 존재 확인 + 정원 확인 + SADD + PERSIST + 프레즌스 + 멤버 목록)
+            JoinResult result = roomRepository.join(roomId, userId, maxMembers,
+                    properties.getHeartbeat().getPresenceTtlSec());
             
-            // 4. Redis에 직접 사용자 추가 (핵심 수정!)
-            log.info("💾 Redis에 사용자 추가 중...");
-            roomRepository.addMember(roomId, userId);
-            log.info("✅ Redis 사용자 추가 완료 - room:{}:members에 {} 추가됨", roomId, userId);
-            
-            // 5. 사용자 프레즌스 설정
-            log.debug("👤 사용자 프레즌스 설정 중...");
-            userRepository.updatePresence(userId);
-            log.debug("✅ 프레즌스 설정 완료 - user:{}:presence", userId);
-            
-            // 6. 입장 후 방 상태 확인
-            Set<String> membersAfter = roomRepository.getMembers(roomId);
-            log.info("🎉 방 입장 성공! roomId: {}, userId: {}, 멤버 수: {} -> {}, 멤버: {}", 
-                     roomId, userId, membersBefore.size(), membersAfter.size(), membersAfter);
-            
-            // 7. 응답 생성
-            return new JoinRoomResponse(
-                roomId,
-                userId,
-                request.nickname(), // displayName으로 사용
-                membersAfter,
-                membersAfter.size(),
-                wasEmpty,
-                LocalDateTime.now()
-            );
+            // 3. 결과 검사 및 응답 생성
+            return toResponse(request, result, maxMembers);
             
         } catch (RoomException e) {
             log.error("❌ 방 입장 비즈니스 오류 - roomId: {}, userId: {}, error: {}", 
@@ -92,4 +79,93 @@ public class JoinRoomService implements JoinRoomUseCase {
             throw new RoomException("방 입장 중 서버 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
+    
+    /**
+     * 방 입장 요청 비동기 처리
+     * 입장 스크립트 응답을 기다리는 동안 호출 스레드를 점유하지 않음
+     */
+    @Override
+    public CompletionStage<JoinRoomResponse> joinRoomAsync(JoinRoomRequest request) {
+        log.info("🚪 방 입장 시작(비동기) - roomId: {}, userId: {}", request.roomId(), request.userId());
+        
+        CompletionStage<JoinRoomResponse> response;
+        try {
+            request.validate();
+            
+            int maxMembers = properties.getRoom().getMaxMembers();
+            response = asyncRoomRepository.joinAsync(request.roomId(), request.userId(), maxMembers,
+                            properties.getHeartbeat().getPresenceTtlSec())
+                    .thenApply(result -> toResponse(request, result, maxMembers))
+                    .thenCompose(joined -> saveSession(request, joined));
+        } catch (Exception e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        
+        // 오류 처리는 동기 경로와 동일 (RoomException 유지, 그 외는 RoomException으로 감쌈)
+        return response.exceptionally(error -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause instanceof RoomException roomException) {
+                log.error("❌ 방 입장 비즈니스 오류 - roomId: {}, userId: {}, error: {}",
+                          request.roomId(), request.userId(), cause.getMessage());
+                throw roomException;
+            }
+            log.error("💥 방 입장 중 예상치 못한 오류 - roomId: {}, userId: {}",
+                      request.roomId(), request.userId(), cause);
+            throw new RoomException("방 입장 중 서버 오류가 발생했습니다: " + cause.getMessage(), cause);
+        });
+    }
+    
+    /**
+     * 세션 정보 기록 (세션 ID가 있는 입장만)
+     * 실패해도 입장 응답은 그대로 반환
+     */
+    private CompletionStage<JoinRoomResponse> saveSession(JoinRoomRequest request, JoinRoomResponse joined) {
+        if (request.sessionId() == null) {
+            return CompletableFuture.completedFuture(joined);
+        }
+        User user = new User(request.userId(), request.sessionId(), request.roomId(), joined.joinedAt());
+        return asyncUserRepository.saveAsync(user)
+                .handle((saved, error) -> {
+                    if (error != null) {
+                        log.warn("세션 정보 기록 실패 - roomId: {}, userId: {}, error: {}",
+                                 request.roomId(), request.userId(), error.getMessage());
+                    }
+                    return joined;
+                });
+    }
+    
+    /**
+     * 입장 결과 검사 및 응답 생성 (동기/비동기 공통)
+     * 방 없음/정원 초과는 RoomException
+     */
+    private JoinRoomResponse toResponse(JoinRoomRequest request, JoinResult result, int maxMembers) {
+        String roomId = request.roomId();
+        String userId = request.userId();
+        
+        switch (result.status()) {
+            case ROOM_NOT_FOUND -> {
+                log.error("❌ 방을 찾을 수 없음 - roomId: {}", roomId);
+                throw RoomException.roomNotFound(roomId);
+            }
+            case ROOM_FULL -> {
+                log.warn("🚫 방 정원 초과 - roomId: {}, 현재 멤버 수: {}, 정원: {}",
+                         roomId, result.members().size(), maxMembers);
+                throw RoomException.roomCapacityExceeded(roomId, result.members().size(), maxMembers);
+            }
+            case JOINED -> log.info("🎉 방 입장 성공! roomId: {}, userId: {}, 빈 방이었음: {}, 멤버 수: {}, 멤버: {}",
+                                    roomId, userId, result.wasEmpty(), result.members().size(), result.members());
+        }
+        
+        // 응답 생성
+        return new JoinRoomResponse(
+            roomId,
+            userId,
+            request.nickname(), // displayName으로 사용
+            result.members(),
+            result.members().size(),
+            result.wasEmpty(),
+            LocalDateTime.now()
+        );
+    }
 }
\ No newline at end of file
@@ -1,14 +1,13 @@
 package com.c2c.c2c.application.service;
 
-import com.c2c.c2c.domain.model.Room;
 import com.c2c.c2c.domain.port.in.LeaveRoomUseCase;
 import com.c2c.c2c.domain.port.out.RoomRepository;
-import com.c2c.c2c.infrastructure.adapter.out.redis.UserRedisRepository;
+import com.c2c.c2c.domain.port.out.RoomRepository.LeaveResult;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Set;
 
 /**
  * 방 퇴장 Use Case 구현체
@@ -17,17 +16,19 @@ import java.util.Set;
  * - 헥사고날 아키텍처: Application 계층에서 도메인 서비스 조율
  * - 명세서 "탭 닫으면 종료", "마지막 1인 퇴장 시: EXPIRE room:{id}:members 300(5분)"
  * - additionalPlan.txt "원자적 빈 방 전이 보장: Lua 한 방으로 SREM→SCARD==0이면 EXPIRE"
+ * - 멤버 제거/빈 방 TTL/프레즌스·세션 삭제/남은 멤버 조회를 RoomRepository.leave 한 번(1회 왕복)으로 처리
+ *   (Room 재구성 후 메모리에서만 변경하던 방식 제거)
  */
 @Service
 @Transactional
 public class LeaveRoomService implements LeaveRoomUseCase {
     
     private final RoomRepository roomRepository;
-    private final UserRedisRepository userRedisRepository;
+    private final C2CProperties properties;
     
-    public LeaveRoomService(RoomRepository roomRepository, UserRedisRepository userRedisRepository) {
+    public LeaveRoomService(RoomRepository roomRepository, C2CProperties properties) {
         this.roomRepository = roomRepository;
-        this.userRedisRepository = userRedisRepository;
+        this.properties = properties;
     }
     
     /**
@@ -35,38 +36,30 @@ public class LeaveRoomService implements LeaveRoomUseCase {
      * 
      * 흐름:
      * 1. 요청 검증
-     * 2. 방 퇴장 처리 
-     * 3. 사용자 오프라인 처리 (선택적)
-     * 4. 응답 생성
+     * 2. 원자적 퇴장 (SREM, 빈 방 TTL, endPresence면 프레즌스/세션 삭제)
+     * 3. 응답 생성
+     * 
+     * 이미 나간 사용자/없는 방이어도 예외 없이 처리 (연결 종료 정리가 중복 호출될 수 있음)
      */
     @Override
     public LeaveRoomResponse leaveRoom(LeaveRoomRequest request) {
         // 1. 요청 검증
         request.validate();
         
-        // 2. 방 조회 및 퇴장 처리
-        Room room = roomRepository.findById(request.roomId())
-                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다: " + request.roomId()));
-        
-        room.removeMember(request.userId());
-        roomRepository.save(room);
-        
-        // 3. 현재 방 멤버 목록 조회 (퇴장 후 상태)
-        Set<String> remainingMembers = room.getMembers();
-        
-        // 4. 사용자 오프라인 처리
-        userRedisRepository.delete(request.userId());
+        // 2. 원자적 퇴장 처리
+        LeaveResult result = roomRepository.leave(request.roomId(), request.userId(),
+                properties.getRoom().getIdleTtlSec(), request.endPresence());
         
-        // 5. 응답 생성 (다른 멤버들에게 퇴장 알림용)
+        // 3. 응답 생성 (다른 멤버들에게 퇴장 알림용)
         return new LeaveRoomResponse(
             request.roomId(),
             request.userId(),
-            remainingMembers,
-            remainingMembers.size(),
-            room.isEmpty(),                     // 빈 방 여부
-            room.isScheduledForDeletion(),      // TTL 적용 여부
+            result.remainingMembers(),
+            result.remainingMembers().size(),
+            result.remainingMembers().isEmpty(),  // 빈 방 여부
+            result.roomEmptied(),                 // TTL 적용 여부
             LocalDateTime.now(),
             request.reason()
         );
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,7 @@
 package com.c2c.c2c.application.service;
 
 import com.c2c.c2c.domain.port.in.ProcessHeartbeatUseCase;
-import com.c2c.c2c.infrastructure.adapter.out.redis.UserRedisRepository;
+import com.c2c.c2c.domain.port.out.PresenceRefresher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -11,14 +11,16 @@ import org.springframework.stereotype.Service;
  * - 헥사고날 아키텍처: Application 계층에서 도메인 서비스 조율
  * - 명세서 "프레즌스 & 하트비트: 클라→서버: 10초 간격 ping" → "서버→클라: pong"
  * - additionalPlan.txt "하트비트·프레즌스 규칙 명문화: 10s ping / 30s 타임아웃 / presence=SETEX 30s"
+ * - 프레즌스 갱신은 PresenceRefresher 포트로 요청만 전달
+ *   (Redis 어댑터는 ping마다 바로 보내지 않고 노드 단위로 모아 파이프라인 기록)
  */
 @Service
 public class ProcessHeartbeatService implements ProcessHeartbeatUseCase {
     
-    private final UserRedisRepository userRedisRepository;
+    private final PresenceRefresher presenceRefresher;
     
-    public ProcessHeartbeatService(UserRedisRepository userRedisRepository) {
-        this.userRedisRepository = userRedisRepository;
+    public ProcessHeartbeatService(PresenceRefresher presenceRefresher) {
+        this.presenceRefresher = presenceRefresher;
     }
     
     /**
@@ -26,7 +28,7 @@ public class ProcessHeartbeatService implements ProcessHeartbeatUseCase {
      * 
      * 흐름:
      * 1. 요청 검증
-     * 2. 사용자 프레즌스 갱신 (Redis: SETEX user:{userId}:presence 30 online)
+     * 2. 사용자 프레즌스 갱신 요청 (다음 플러시에 SETEX user:{userId}:presence 30 online)
      * 3. pong 응답 생성
      */
     @Override
@@ -34,9 +36,8 @@ public class ProcessHeartbeatService implements ProcessHeartbeatUseCase {
         // 1. 요청 검증
         request.validate();
         
-        // 2. 프레즌스 갱신
-        // Redis: SETEX user:{userId}:presence 30 online
-        userRedisRepository.updatePresence(request.userId());
+        // 2. 프레즌스 갱신 (합쳐서 파이프라인 기록, TTL이 충분히 남았으면 생략)
+        presenceRefresher.refresh(request.userId());
         
         // 3. 서버 타임스탬프 및 설정값 응답
         return new HeartbeatResponse(
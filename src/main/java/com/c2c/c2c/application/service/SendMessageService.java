@@ -2,11 +2,15 @@ package com.c2c.c2c.application.service;
 
 import com.c2c.c2c.domain.model.Message;
 import com.c2c.c2c.domain.port.in.SendMessageUseCase;
+import com.c2c.c2c.domain.port.out.AsyncRoomRepository;
 import com.c2c.c2c.domain.port.out.MessageBroker;
 import com.c2c.c2c.domain.port.out.RoomRepository;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * 메시지 전송 Use Case 구현체
@@ -16,16 +20,24 @@ import java.time.LocalDateTime;
  * - 명세서 "메시지 흐름: 송신: 클라 → 서버 → PUBLISH chan:{roomId} payload"
  * - "메시지 본문은 서버에 저장하지 않음(비영속)" - Redis Pub/Sub만 사용
  * - additionalPlan.txt "메시지 JSON 프로토콜 이벤트 이름 정합: t 필드 포함"
+ * - cross-node-fanout 모드: chan:{roomId}로 한 번 발행, 다른 노드가 각자 로컬 세션에 전달
+ *   (발행 노드의 로컬 세션은 WebSocket 핸들러가 직접 전달)
+ * - sendMessageAsync: 방 확인을 AsyncRoomRepository로 조합 (한 스레드가 여러 전송을 동시에 진행)
  */
 @Service
 public class SendMessageService implements SendMessageUseCase {
     
     private final MessageBroker messageBroker;
     private final RoomRepository roomRepository;
+    private final AsyncRoomRepository asyncRoomRepository;
+    private final boolean crossNodeFanout;
     
-    public SendMessageService(MessageBroker messageBroker, RoomRepository roomRepository) {
+    public SendMessageService(MessageBroker messageBroker, RoomRepository roomRepository,
+                              AsyncRoomRepository asyncRoomRepository, C2CProperties properties) {
         this.messageBroker = messageBroker;
         this.roomRepository = roomRepository;
+        this.asyncRoomRepository = asyncRoomRepository;
+        this.crossNodeFanout = properties.getBroker().isCrossNodeFanout();
     }
     
     /**
@@ -47,19 +59,50 @@ public class SendMessageService implements SendMessageUseCase {
         var room = roomRepository.findById(request.roomId())
                 .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다: " + request.roomId()));
         
-        // 3. 메시지 객체 생성
+        // 3~6. 메시지 생성, 발행, 응답
+        return publish(request, room.getMemberCount());
+    }
+    
+    /**
+     * 메시지 전송 비동기 처리
+     * 방 멤버 조회(근접 캐시 적중 시 즉시 완료)를 기다리는 동안 호출 스레드를 점유하지 않음
+     * 발신자는 멤버이므로 멤버가 없으면 방이 없는 것으로 간주 (동기 경로의 findById와 같은 기준)
+     */
+    @Override
+    public CompletionStage<SendMessageResponse> sendMessageAsync(SendMessageRequest request) {
+        try {
+            request.validate();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        
+        return asyncRoomRepository.getMembersAsync(request.roomId())
+                .thenApply(members -> {
+                    if (members.isEmpty()) {
+                        throw new RuntimeException("방을 찾을 수 없습니다: " + request.roomId());
+                    }
+                    return publish(request, members.size());
+                });
+    }
+    
+    private SendMessageResponse publish(SendMessageRequest request, int memberCount) {
+        // 3. 메시지 객체 생성 (수신 시각을 실어 다른 노드가 전달 지연을 측정)
         Message message = new Message(
-            request.fromUserId(),
+            UUID.randomUUID().toString(),
+            request.clientMsgId(),
             request.roomId(),
+            request.fromUserId(),
             request.text(),
-            LocalDateTime.now()
+            request.receivedAt()
         );
         
-        // 4. MessageBroker 발행은 WebSocket 핸들러에서 처리하도록 변경
-        // messageBroker.publish(request.roomId(), message); // 중복 전송 방지를 위해 주석 처리
+        // 4. 다른 노드로 발행 (로컬 세션 전달은 WebSocket 핸들러가 처리, 수신 측에서 자기 노드 메시지는 무시)
+        if (crossNodeFanout) {
+            messageBroker.publish(request.roomId(), message);
+        }
         
         // 5. 수신자 수 계산 (발신자 제외)
-        int recipientCount = Math.max(0, room.getMemberCount() - 1);
+        int recipientCount = Math.max(0, memberCount - 1);
         
         // 6. 응답 생성 (WebSocket 확인 응답용)
         return new SendMessageResponse(
@@ -73,4 +116,4 @@ public class SendMessageService implements SendMessageUseCase {
             recipientCount
         );
     }
-}
\ No newline at end of file
+}
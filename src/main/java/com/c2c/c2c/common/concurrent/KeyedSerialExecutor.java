@@ -0,0 +1,196 @@
+package com.c2c.c2c.common.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 키별 직렬 실행기
+ *
+ * 설계 근거:
+ * - 같은 키(세션 ID, 방 ID 등)의 작업은 제출 순서대로 한 번에 하나씩 실행 - 락 없이 순서 보장
+ * - 서로 다른 키의 작업은 위임 실행기(가상 스레드, 고정 워커 풀 등)에서 병렬 실행
+ * - 레인은 작업이 있을 때만 존재: 비면 즉시 제거되고, 다음 작업은 아무 워커에서나 새 레인으로 시작
+ * - batchSize마다 워커를 양보하여 한 키가 워커를 독점하지 않음
+ * - 비동기 작업(executeAsync)은 반환한 단계가 끝날 때까지 레인을 멈춤: 다음 작업은 완료 후 실행되지만
+ *   대기 동안 워커 스레드는 반납 (이미 완료된 단계면 멈추지 않고 바로 다음 작업)
+ *
+ * @param <K> 순서 보장 단위 키 타입
+ */
+public class KeyedSerialExecutor<K> {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyedSerialExecutor.class);
+
+    private final String name;
+    private final Executor delegate;
+    private final int batchSize;
+
+    // 활성 레인 (대기 작업이 있는 키만 존재)
+    private final ConcurrentMap<K, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+
+    public KeyedSerialExecutor(String name, Executor delegate, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.name = name;
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 키의 레인에 작업 제출
+     *
+     * @param key  순서 보장 단위 키
+     * @param task 실행할 작업
+     */
+    public void execute(K key, Runnable task) {
+        enqueue(key, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 키의 레인에 비동기 작업 제출
+     * 작업이 반환한 단계가 완료(실패 포함)될 때까지 같은 키의 다음 작업은 시작하지 않음
+     *
+     * @param key  순서 보장 단위 키
+     * @param task 실행할 작업 (완료 단계 반환, null이면 즉시 완료로 간주)
+     */
+    public void executeAsync(K key, Supplier<? extends CompletionStage<?>> task) {
+        enqueue(key, task);
+    }
+
+    private void enqueue(K key, Supplier<? extends CompletionStage<?>> task) {
+        pendingTasks.incrementAndGet();
+
+        // 작업 추가와 레인 생성/제거를 같은 키 잠금 안에서 처리하여 유실 방지
+        Lane lane = lanes.compute(key, (k, existing) -> {
+            Lane target = existing != null ? existing : new Lane(k);
+            target.tasks.add(task);
+            return target;
+        });
+
+        // 새 레인은 한 번만 워커에 제출
+        if (lane.started.compareAndSet(false, true)) {
+            submit(lane);
+        }
+    }
+
+    /**
+     * 대기 중인 작업 수 (전체 키 합계)
+     */
+    public int getPendingTaskCount() {
+        return pendingTasks.get();
+    }
+
+    /**
+     * 현재 활성 레인 수
+     */
+    public int getActiveLaneCount() {
+        return lanes.size();
+    }
+
+    private void submit(Lane lane) {
+        try {
+            delegate.execute(lane);
+        } catch (RejectedExecutionException e) {
+            lanes.remove(lane.key, lane);
+            pendingTasks.addAndGet(-lane.tasks.size());
+            logger.error("Serial lane rejected: executor={}, key={}, droppedTasks={}", name, lane.key, lane.tasks.size(), e);
+        }
+    }
+
+    /**
+     * 키별 실행 레인
+     */
+    private final class Lane implements Runnable {
+        private final K key;
+        private final Queue<Supplier<? extends CompletionStage<?>>> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private Lane(K key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            for (int executed = 0; executed < batchSize; ) {
+                Supplier<? extends CompletionStage<?>> task = tasks.poll();
+                if (task == null) {
+                    if (tryRetire()) {
+                        return;
+                    }
+                    continue; // 제거 직전에 새 작업이 들어옴
+                }
+
+                executed++;
+                CompletableFuture<?> pending = start(task);
+                if (pending != null && !pending.isDone()) {
+                    // 레인은 등록된 채로 멈춤 (새 작업은 큐에만 쌓임) → 완료 후 워커에서 이어서 실행
+                    pending.whenComplete((result, error) -> {
+                        complete(error);
+                        submit(this);
+                    });
+                    return;
+                }
+                complete(pending != null && pending.isCompletedExceptionally() ? failure(pending) : null);
+            }
+
+            // 배치 소진: 워커를 양보하고 다시 줄 서기 (다음 실행은 다른 워커일 수 있음)
+            submit(this);
+        }
+
+        private CompletableFuture<?> start(Supplier<? extends CompletionStage<?>> task) {
+            try {
+                CompletionStage<?> stage = task.get();
+                return stage != null ? stage.toCompletableFuture() : null;
+            } catch (Throwable t) {
+                return CompletableFuture.failedFuture(t);
+            }
+        }
+
+        private Throwable failure(CompletableFuture<?> done) {
+            try {
+                done.join();
+                return null;
+            } catch (Throwable t) {
+                return t;
+            }
+        }
+
+        private void complete(Throwable error) {
+            if (error != null) {
+                logger.error("Serial lane task failed: executor={}, key={}", name, key, error);
+            }
+            pendingTasks.decrementAndGet();
+        }
+
+        /**
+         * 대기 작업이 없으면 레인 제거
+         */
+        private boolean tryRetire() {
+            boolean[] retired = new boolean[1];
+            lanes.computeIfPresent(key, (k, lane) -> {
+                if (lane == this && tasks.isEmpty()) {
+                    retired[0] = true;
+                    return null;
+                }
+                return lane;
+            });
+            return retired[0];
+        }
+    }
+}
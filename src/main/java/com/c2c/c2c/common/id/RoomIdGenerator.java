@@ -0,0 +1,72 @@
+package com.c2c.c2c.common.id;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 방 ID 생성기 (노드 + 시각 + 카운터 + 난수, 저장소 조회 없음)
+ *
+ * 설계 근거:
+ * - 앞 13자리 = 시각(밀리초, 41비트) | 카운터(12비트) | 노드(10비트) 63비트
+ *   같은 노드 안에서는 시각+카운터가 단조 증가하므로 중복 없음 → 생성 전 존재 확인 왕복 불필요
+ * - 뒤 12자리 = SecureRandom 60비트: 방 ID가 입장 자격이므로 ID 하나로 이웃 방 ID를 추측할 수 없어야 함
+ *   (이전 UUID 앞 12자리의 48비트보다 많은 추측 불가 비트)
+ * - 노드 비트는 노드 식별자(C2CProperties.Broker.nodeId)의 해시: 노드 간 충돌은 같은 밀리초/카운터/난수에서만 가능하고
+ *   그 경우에도 방 생성 스크립트(c2c_create)가 이미 있는 방을 거부하므로 다음 ID로 재시도하면 됨
+ * - 밀리초당 4096개를 넘거나 시계가 뒤로 가면 다음 밀리초 값을 미리 사용 (단조성 유지, 대기 없음)
+ * - 소문자/숫자 base36 25자리 고정 폭: URL에 그대로 사용 가능하고 문자열 정렬이 생성 순서와 같음
+ */
+public class RoomIdGenerator {
+
+    // 2024-01-01T00:00:00Z 기준 (41비트로 약 69년)
+    static final long EPOCH_MS = 1704067200000L;
+
+    static final int NODE_BITS = 10;
+    static final int COUNTER_BITS = 12;
+    static final int RANDOM_BITS = 60;
+    static final int SEQUENCE_LENGTH = 13;
+    static final int RANDOM_LENGTH = 12;
+    static final int ID_LENGTH = SEQUENCE_LENGTH + RANDOM_LENGTH;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+
+    // 마지막으로 발급한 시각|카운터
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RoomIdGenerator(String nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    RoomIdGenerator(String nodeId, LongSupplier clock) {
+        this.nodeBits = nodeBits(nodeId);
+        this.clock = clock;
+    }
+
+    /**
+     * 새 방 ID
+     *
+     * @return [0-9a-z] 25자리
+     */
+    public String nextId() {
+        long now = Math.max(0L, clock.getAsLong() - EPOCH_MS);
+        long next = sequence.updateAndGet(previous -> Math.max(previous + 1, now << COUNTER_BITS));
+        long random = RANDOM.nextLong() >>> (Long.SIZE - RANDOM_BITS);
+        return pad(Long.toString((next << NODE_BITS) | nodeBits, Character.MAX_RADIX), SEQUENCE_LENGTH)
+                + pad(Long.toString(random, Character.MAX_RADIX), RANDOM_LENGTH);
+    }
+
+    private static String pad(String encoded, int length) {
+        return encoded.length() >= length ? encoded : "0".repeat(length - encoded.length()) + encoded;
+    }
+
+    /**
+     * 노드 식별자 해시의 상위 NODE_BITS 비트 (피보나치 해싱)
+     */
+    static long nodeBits(String nodeId) {
+        return ((nodeId.hashCode() * 0x9E3779B1) >>> (Integer.SIZE - NODE_BITS));
+    }
+}
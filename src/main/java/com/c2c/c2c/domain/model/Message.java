@@ -5,6 +5,7 @@ import com.c2c.c2c.domain.exception.RoomException;
 import com.c2c.c2c.domain.exception.UserException;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -16,6 +17,8 @@ import java.util.UUID;
  * - "메시지 2KB 제한" - 크기 제한 검증
  * - 헥사고날 아키텍처: 순수 도메인 객체, 비즈니스 룰만 포함
  * - WebSocket 프로토콜: msgId, clientMsgId 구분 (확장성)
+ * - ingressTime: 최초 수신 노드가 프레임을 받은 시각 (Instant, 시간대 무관)
+ *   → 노드 간 봉투에 그대로 실어 수신 노드의 전달 지연 측정 기준으로 사용
  */
 public class Message {
     
@@ -25,6 +28,7 @@ public class Message {
     private final String fromUserId;
     private final String text;
     private final LocalDateTime timestamp;
+    private final Instant ingressTime;
     
     // 상수: 명세서의 "메시지 2KB 제한" 요구사항
     public static final int MAX_MESSAGE_SIZE_BYTES = 2048;
@@ -36,6 +40,11 @@ public class Message {
     
     public Message(String messageId, String clientMsgId, String roomId, 
                    String fromUserId, String text) {
+        this(messageId, clientMsgId, roomId, fromUserId, text, Instant.now());
+    }
+    
+    public Message(String messageId, String clientMsgId, String roomId,
+                   String fromUserId, String text, Instant ingressTime) {
         
         // 필수 필드 검증 - 커스텀 예외 사용
         if (messageId == null || messageId.trim().isEmpty()) {
@@ -63,6 +72,7 @@ public class Message {
         this.fromUserId = fromUserId;
         this.text = text;
         this.timestamp = LocalDateTime.now();
+        this.ingressTime = ingressTime != null ? ingressTime : Instant.now();
     }
     
     /**
@@ -116,6 +126,10 @@ public class Message {
         return timestamp;
     }
     
+    public Instant getIngressTime() {
+        return ingressTime;
+    }
+    
     /**
      * 메시지 전송용 데이터 클래스
      * 명세서: "확장 고려 요구사항 - Envelope 스키마 고정"
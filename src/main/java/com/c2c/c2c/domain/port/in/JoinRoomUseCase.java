@@ -18,6 +18,15 @@ public interface JoinRoomUseCase {
      */
     JoinRoomResponse joinRoom(JoinRoomRequest request);
     
+    /**
+     * 방 입장 요청 비동기 처리
+     * Redis 응답을 기다리는 동안 호출 스레드를 점유하지 않음 (오류는 실패한 단계로 전달)
+     * 
+     * @param request 방 입장 요청 정보
+     * @return 방 입장 결과 단계
+     */
+    java.util.concurrent.CompletionStage<JoinRoomResponse> joinRoomAsync(JoinRoomRequest request);
+    
     /**
      * 방 입장 요청 데이터
      */
@@ -26,8 +35,14 @@ public interface JoinRoomUseCase {
         String userId,      // 사용자 ID (세션에서 생성)
         String nickname,    // 닉네임 (선택적)
         String emoji,       // 이모지 (선택적)
-        String token        // 인증 토큰 (향후 확장용)
+        String token,       // 인증 토큰 (향후 확장용)
+        String sessionId    // WebSocket 세션 ID (있으면 비동기 입장 후 세션 정보 기록)
     ) {
+        // 세션 없는 입장 (REST 등)
+        public JoinRoomRequest(String roomId, String userId, String nickname, String emoji, String token) {
+            this(roomId, userId, nickname, emoji, token, null);
+        }
+        
         /**
          * 요청 검증
          * additionalPlan.txt: 오류 응답 표준화를 위한 사전 검증
@@ -29,8 +29,14 @@ public interface LeaveRoomUseCase {
     record LeaveRoomRequest(
         String roomId,      // 방 ID (필수)
         String userId,      // 퇴장하는 사용자 ID (필수)
-        String reason       // 퇴장 사유 (선택적: "disconnect", "explicit", "timeout")
+        String reason,      // 퇴장 사유 (선택적: "disconnect", "explicit", "timeout")
+        boolean endPresence // 프레즌스/세션도 종료 (다른 방으로 옮긴 뒤 늦게 처리되는 이전 방 퇴장이면 false)
     ) {
+        // 현재 등록된 방에서 나가는 일반 퇴장
+        public LeaveRoomRequest(String roomId, String userId, String reason) {
+            this(roomId, userId, reason, true);
+        }
+        
         /**
          * 요청 검증
          */
@@ -1,6 +1,8 @@
 package com.c2c.c2c.domain.port.in;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.CompletionStage;
 
 /**
  * 메시지 전송 Use Case 인바운드 포트
@@ -20,6 +22,15 @@ public interface SendMessageUseCase {
      */
     SendMessageResponse sendMessage(SendMessageRequest request);
     
+    /**
+     * 메시지 전송 비동기 처리
+     * 방 확인을 기다리는 동안 호출 스레드를 점유하지 않음 (오류는 실패한 단계로 전달)
+     * 
+     * @param request 메시지 전송 요청 정보
+     * @return 메시지 전송 결과 단계
+     */
+    CompletionStage<SendMessageResponse> sendMessageAsync(SendMessageRequest request);
+    
     /**
      * 메시지 전송 요청 데이터
      * 명세서 프로토콜: {"t":"msg","roomId":"...","text":"..."}
@@ -28,8 +39,14 @@ public interface SendMessageUseCase {
         String roomId,          // 방 ID (필수)
         String fromUserId,      // 발신자 사용자 ID (필수)
         String text,            // 메시지 내용 (필수)
-        String clientMsgId      // 클라이언트 메시지 ID (중복 방지용, 선택적)
+        String clientMsgId,     // 클라이언트 메시지 ID (중복 방지용, 선택적)
+        Instant receivedAt      // 인바운드 어댑터가 프레임을 받은 시각 (노드 간 전달 지연 측정 기준)
     ) {
+        // 수신 시각을 따로 잡지 않는 호출자는 요청 생성 시각 사용
+        public SendMessageRequest(String roomId, String fromUserId, String text, String clientMsgId) {
+            this(roomId, fromUserId, text, clientMsgId, Instant.now());
+        }
+        
         /**
          * 요청 검증
          * 명세서: "메시지 2KB 제한" 사전 검증
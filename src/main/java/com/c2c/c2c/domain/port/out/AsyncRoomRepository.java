@@ -0,0 +1,38 @@
+package com.c2c.c2c.domain.port.out;
+
+import com.c2c.c2c.domain.port.out.RoomRepository.JoinResult;
+
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 비동기 Room Repository 포트 (헥사고날 아키텍처 아웃바운드 포트)
+ * 
+ * 설계 근거:
+ * - RoomRepository의 요청 경로 연산(입장/멤버/존재)을 응답 대기 없이 진행하는 대응 포트
+ * - 호출 스레드는 Redis 응답을 기다리지 않으므로 한 스레드가 여러 입장/전송을 동시에 진행
+ * - 결과/오류는 CompletionStage로 전달 (동기 포트와 같은 결과 타입 사용)
+ * - 일관성 수준을 받지 않는 조회는 동기 포트와 마찬가지로 근접 캐시 값을 반환할 수 있음
+ * - 퇴장은 동기 포트만 사용: 세션 등록 해제 결과에 따라 프레즌스 종료 여부가 정해지고
+ *   같은 사용자의 다른 방 레인과 순서가 얽히므로 (C2CWebSocketHandler.processUserLeave)
+ */
+public interface AsyncRoomRepository {
+    
+    /**
+     * 방 입장 (원자적, 1회 왕복)
+     * @see RoomRepository#join(String, String, int, long)
+     */
+    CompletionStage<JoinResult> joinAsync(String roomId, String userId, int maxMembers, long presenceTtlSec);
+    
+    /**
+     * 방 멤버 목록 조회
+     * Redis: SMEMBERS room:{roomId}:members
+     */
+    CompletionStage<Set<String>> getMembersAsync(String roomId);
+    
+    /**
+     * 방 존재 여부 확인
+     * Redis: EXISTS room:{roomId}:members room:{roomId}:empty
+     */
+    CompletionStage<Boolean> existsAsync(String roomId);
+}
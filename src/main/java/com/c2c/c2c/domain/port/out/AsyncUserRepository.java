@@ -0,0 +1,35 @@
+package com.c2c.c2c.domain.port.out;
+
+import com.c2c.c2c.domain.model.User;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 비동기 User Repository 포트 (헥사고날 아키텍처 아웃바운드 포트)
+ * 
+ * 설계 근거:
+ * - UserRepository의 세션 저장/조회를 응답 대기 없이 진행하는 대응 포트
+ * - 결과/오류는 CompletionStage로 전달 (동기 포트와 같은 저장 형식 공유)
+ */
+public interface AsyncUserRepository {
+    
+    /**
+     * 사용자 저장/업데이트 (세션 정보 + 프레즌스)
+     * @see UserRepository#save(User)
+     */
+    CompletionStage<User> saveAsync(User user);
+    
+    /**
+     * 사용자 조회
+     */
+    CompletionStage<Optional<User>> findByIdAsync(String userId);
+    
+    /**
+     * 여러 사용자 일괄 조회
+     * 세션이 없는 사용자는 결과에서 제외
+     */
+    CompletionStage<Map<String, User>> findAllAsync(Collection<String> userIds);
+}
@@ -21,12 +21,17 @@ public interface MessageBroker {
     /**
      * 채널 구독 (수신 준비)
      * 명세서: "서버가 해당 chan:{roomId} 구독"
+     * 
+     * 노드당 방 구독은 하나만 유지되며 호출마다 참조 카운트가 증가
+     * 이미 구독 중인 방이면 기존 핸들러를 유지하므로 handler는 방 단위 팬아웃 핸들러여야 함
      */
     void subscribe(String roomId, MessageHandler handler);
     
     /**
      * 채널 구독 해제
      * 정리 작업: 빈 방 또는 연결 종료 시
+     * 
+     * subscribe 1회당 1회 호출, 참조 카운트가 0이 될 때만 실제 구독 해제
      */
     void unsubscribe(String roomId);
     
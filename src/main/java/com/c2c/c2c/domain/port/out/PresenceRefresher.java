@@ -0,0 +1,18 @@
+package com.c2c.c2c.domain.port.out;
+
+/**
+ * 프레즌스 갱신 포트 (헥사고날 아키텍처 아웃바운드 포트)
+ * 
+ * 설계 근거:
+ * - 명세서 "프레즌스 & 하트비트: 30초 미수신 시 오프라인 처리" - ping마다 프레즌스 TTL 연장
+ * - 하트비트 Use Case는 갱신 요청만 전달하고, 기록 방식(모아 쓰기, 갱신 생략, 파이프라인)은 어댑터가 결정
+ */
+public interface PresenceRefresher {
+    
+    /**
+     * 사용자 프레즌스 갱신 요청
+     * 즉시 기록을 보장하지 않음 (구현체가 합치거나 TTL이 충분하면 생략할 수 있음)
+     * 퇴장으로 프레즌스/세션이 없는 사용자는 다시 만들지 않음
+     */
+    void refresh(String userId);
+}
@@ -0,0 +1,29 @@
+package com.c2c.c2c.domain.port.out;
+
+/**
+ * 저장소 조회 일관성 수준
+ * 
+ * 설계 근거:
+ * - 방 존재/멤버 조회는 노드 로컬 근접 캐시로 대부분 처리 (페이지 진입, 메시지 전송 등)
+ * - 입장 허용/ID 중복 확인처럼 판단을 되돌릴 수 없는 조회는 캐시를 거치지 않고 Redis에서 직접 확인
+ * - 복제본 읽기(c2c.redis.replica-reads)가 켜져 있으면 STRICT만 마스터, 나머지는 복제본에서 조회
+ *   (복제 지연만큼 오래된 값 허용: 표시용 멤버 목록)
+ * - 근접 캐시 채우기는 마스터에서 조회: 무효화 직후 복제본을 읽으면 오래된 값이 캐시에 고정됨
+ */
+public enum ReadConsistency {
+    
+    /**
+     * 근접 캐시 허용 (무효화 지연 동안 잠깐 오래된 값일 수 있음, 캐시 미스는 마스터에서 채움)
+     */
+    CACHED,
+    
+    /**
+     * 근접 캐시 없이 복제본에서 조회 (복제 지연만큼 오래된 값일 수 있음)
+     */
+    REPLICA,
+    
+    /**
+     * 항상 Redis 마스터에서 조회 (입장 허용 등 판단용)
+     */
+    STRICT
+}
@@ -4,6 +4,7 @@ import com.c2c.c2c.domain.model.Room;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Room Repository 포트 (헥사고날 아키텍처 아웃바운드 포트)
@@ -12,6 +13,7 @@ import java.util.Set;
  * - 명세서 "저장소 추상화" - RoomRepository 인터페이스로 Redis 구현 추상화
  * - "Redis 키: room:{roomId}:members (Set)" - 방 참여자 관리
  * - 헥사고날 아키텍처: 도메인이 인프라스트럭처에 의존하지 않도록 포트 정의
+ * - 일관성 수준을 받지 않는 조회(exists/getMembers/findById)는 근접 캐시 값을 반환할 수 있음
  */
 public interface RoomRepository {
     
@@ -23,22 +25,64 @@ public interface RoomRepository {
     
     /**
      * 방 조회
-     * Redis: EXISTS room:{roomId}:members로 존재 확인 후 조회
+     * 존재 기준은 exists와 같음 (멤버가 있거나 빈 방 유예 중)
      */
     Optional<Room> findById(String roomId);
     
     /**
      * 방 삭제
-     * Redis: DEL room:{roomId}:members
+     * Redis: DEL room:{roomId}:members room:{roomId}:empty
      */
     void delete(String roomId);
     
     /**
      * 방 멤버 추가
-     * 명세서: "입장: SADD room:{id}:members {uid}"
+     * 명세서: "입장: SADD room:{id}:members {uid}" + 빈 방 유예 표시 제거
      */
     void addMember(String roomId, String userId);
     
+    /**
+     * 방 생성 (원자적, 1회 왕복)
+     * 방이 없을 때만(멤버도 빈 방 유예 표시도 없을 때) 생성자를 첫 멤버로 추가하고 프레즌스 기록
+     *
+     * @param presenceTtlSec 생성자 프레즌스 TTL (초)
+     * @return 생성 여부 (같은 ID의 방이 이미 있으면 false)
+     */
+    boolean create(String roomId, String creatorId, long presenceTtlSec);
+    
+    /**
+     * 방 입장 (원자적, 1회 왕복)
+     * 방 존재 확인 → 정원 확인 → SADD → PERSIST → 프레즌스 갱신 → 멤버 목록 반환을 한 번에 처리
+     * 이미 멤버인 사용자의 재입장은 정원 검사 없이 성공
+     *
+     * @param maxMembers 방 정원 (0 이하면 제한 없음)
+     * @param presenceTtlSec 프레즌스 TTL (초)
+     * @return 입장 결과 (상태, 입장 전 빈 방 여부, 입장 후 멤버 목록)
+     */
+    JoinResult join(String roomId, String userId, int maxMembers, long presenceTtlSec);
+    
+    /**
+     * 방 퇴장 (원자적, 1회 왕복)
+     * SREM → 빈 방이 되면 유예 TTL 설정 → 사용자 프레즌스/세션 삭제 → 남은 멤버 목록 반환을 한 번에 처리
+     * 명세서: "마지막 1인 퇴장 시: EXPIRE room:{id}:members 300(5분)"
+     *
+     * @param emptyRoomTtlSec 빈 방 유지 시간 (초)
+     * @return 퇴장 결과 (제거 여부, 빈 방 전이 여부, 남은 멤버 목록)
+     */
+    default LeaveResult leave(String roomId, String userId, long emptyRoomTtlSec) {
+        return leave(roomId, userId, emptyRoomTtlSec, true);
+    }
+    
+    /**
+     * 방 퇴장 (프레즌스/세션 삭제 여부 지정)
+     * 이미 다른 방으로 옮긴 사용자의 늦은 이전 방 퇴장은 멤버만 제거하고 프레즌스/세션을 유지해야 함
+     * (삭제하면 하트비트가 프레즌스를 다시 만들지 않아 새 방에서 영구 오프라인)
+     *
+     * @param endPresence true면 사용자 프레즌스/세션도 삭제
+     * @return 퇴장 결과 (제거 여부, 빈 방 전이 여부, 남은 멤버 목록)
+     */
+    LeaveResult leave(String roomId, String userId, long emptyRoomTtlSec, boolean endPresence);
+    
     /**
      * 방 멤버 제거
      * 명세서: "퇴장/끊김: SREM room:{id}:members {uid}"
@@ -51,15 +95,22 @@ public interface RoomRepository {
      */
     Set<String> getMembers(String roomId);
     
+    /**
+     * 방 멤버 목록 조회 (일관성 수준 지정)
+     * STRICT: 근접 캐시를 거치지 않고 Redis 마스터에서 조회
+     * REPLICA: 근접 캐시를 거치지 않고 복제본에서 조회 (표시용)
+     */
+    Set<String> getMembers(String roomId, ReadConsistency consistency);
+    
     /**
      * 방 TTL 설정 (빈 방 삭제용)
-     * 명세서: "마지막 1인 퇴장 시: EXPIRE room:{id}:members 300(5분)"
+     * 명세서: "마지막 1인 퇴장 시: 5분 유예" → SET room:{id}:empty EX seconds
      */
     void setTTL(String roomId, int seconds);
     
     /**
      * 방 TTL 해제 (재입장 시 영구 보존)
-     * 명세서: "5분 내 재입장 시: PERSIST room:{id}:members"
+     * 명세서: "5분 내 재입장 시" → DEL room:{id}:empty
      */
     void removeTTL(String roomId);
     
@@ -69,9 +120,48 @@ public interface RoomRepository {
      */
     boolean exists(String roomId);
     
+    /**
+     * 방 존재 여부 확인 (일관성 수준 지정)
+     * STRICT: 근접 캐시를 거치지 않고 Redis 마스터에서 확인 (입장 허용, ID 중복 확인 등)
+     * REPLICA: 근접 캐시를 거치지 않고 복제본에서 확인
+     */
+    boolean exists(String roomId, ReadConsistency consistency);
+    
     /**
      * 빈 방 목록 조회 (정리 작업용)
      * 관리 작업: TTL 만료 대상 방 식별
      */
     Set<String> findEmptyRooms();
-}
\ No newline at end of file
+    
+    /**
+     * 빈 방 목록 지연 조회 (SCAN 커서 기반)
+     * 호출자가 소비하는 만큼만 Redis를 조회, 사용 후 반드시 close (try-with-resources)
+     * SCAN 특성상 같은 방이 중복될 수 있음
+     */
+    Stream<String> streamEmptyRooms();
+    
+    /**
+     * 방 입장 결과
+     *
+     * @param status 처리 결과
+     * @param wasEmpty 입장 전 빈 방이었는지
+     * @param members 처리 시점의 멤버 목록 (정원 초과 시 현재 멤버)
+     */
+    record JoinResult(Status status, boolean wasEmpty, Set<String> members) {
+        
+        public enum Status {
+            JOINED,          // 입장 완료 (재입장 포함)
+            ROOM_NOT_FOUND,  // 방 없음
+            ROOM_FULL        // 정원 초과
+        }
+    }
+    
+    /**
+     * 방 퇴장 결과
+     *
+     * @param removed 실제로 멤버였다가 제거되었는지
+     * @param roomEmptied 이번 퇴장으로 빈 방이 되어 삭제 유예 TTL이 설정되었는지
+     * @param remainingMembers 퇴장 후 남은 멤버 목록
+     */
+    record LeaveResult(boolean removed, boolean roomEmptied, Set<String> remainingMembers) {}
+}
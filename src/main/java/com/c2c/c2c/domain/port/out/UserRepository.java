@@ -2,8 +2,11 @@ package com.c2c.c2c.domain.port.out;
 
 import com.c2c.c2c.domain.model.User;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * User Repository 포트 (헥사고날 아키텍처 아웃바운드 포트)
@@ -26,6 +29,12 @@ public interface UserRepository {
      */
     Optional<User> findById(String userId);
     
+    /**
+     * 여러 사용자 일괄 조회 (멤버 목록 등)
+     * 사용자 수와 무관하게 Redis 왕복 1회, 세션이 없는 사용자는 결과에서 제외
+     */
+    Map<String, User> findAll(Collection<String> userIds);
+    
     /**
      * 사용자 삭제 (세션 종료 시)
      */
@@ -43,6 +52,12 @@ public interface UserRepository {
      */
     boolean isOnline(String userId);
     
+    /**
+     * 온라인 사용자 확인 (일관성 수준 지정)
+     * STRICT: 마스터에서 확인, 그 외: 복제본 허용 (표시용 온라인 여부)
+     */
+    boolean isOnline(String userId, ReadConsistency consistency);
+    
     /**
      * 오프라인 처리
      * Redis: DEL user:{userId}:presence
@@ -55,6 +70,12 @@ public interface UserRepository {
      */
     Set<String> findOnlineUsers();
     
+    /**
+     * 활성 사용자 목록 지연 조회 (SCAN 커서 기반)
+     * 사용 후 반드시 close (try-with-resources), SCAN 특성상 중복 가능
+     */
+    Stream<String> streamOnlineUsers();
+    
     /**
      * 사용자 존재 여부 확인
      */
@@ -65,4 +86,10 @@ public interface UserRepository {
      * 정리 작업: 30초 이상 비활성 사용자 식별
      */
     Set<String> findTimeoutUsers();
+    
+    /**
+     * 하트비트 타임아웃 사용자 지연 조회 (SCAN 커서 기반)
+     * 사용 후 반드시 close (try-with-resources), SCAN 특성상 중복 가능
+     */
+    Stream<String> streamTimeoutUsers();
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import jakarta.validation.Valid;
 import com.c2c.c2c.infrastructure.adapter.in.web.validation.ValidNickname;
 import java.time.LocalDateTime;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 /**
  * 채팅방 REST API 컨트롤러
@@ -52,26 +53,27 @@ public class RoomRestController {
      * POST /api/rooms/{roomId}/join
      */
     @PostMapping("/{roomId}/join")
-    public ResponseEntity<ApiResponse<JoinRoomResponseDto>> joinRoom(
+    public CompletionStage<ResponseEntity<ApiResponse<JoinRoomResponseDto>>> joinRoom(
             @PathVariable String roomId, 
             @Valid @RequestBody JoinRoomRequestDto request) {
         
+        // 입장 스크립트 응답을 기다리는 동안 요청 스레드 반환 (오류는 GlobalExceptionHandler로 전달)
         JoinRoomRequest joinRequest = new JoinRoomRequest(roomId, request.userId(), request.nickname(), null, null);
-        JoinRoomResponse response = joinRoomUseCase.joinRoom(joinRequest);
-        
-        JoinRoomResponseDto responseDto = new JoinRoomResponseDto(
-            response.roomId(),
-            response.userId(), 
-            response.displayName(),
-            response.members(),
-            response.memberCount(),
-            response.wasEmpty(),
-            response.joinedAt().toString()
-        );
-        
-        ApiResponse<JoinRoomResponseDto> apiResponse = ApiResponse.success(responseDto, "방에 성공적으로 입장했습니다");
-        
-        return ResponseEntity.ok(apiResponse);
+        return joinRoomUseCase.joinRoomAsync(joinRequest).thenApply(response -> {
+            JoinRoomResponseDto responseDto = new JoinRoomResponseDto(
+                response.roomId(),
+                response.userId(), 
+                response.displayName(),
+                response.members(),
+                response.memberCount(),
+                response.wasEmpty(),
+                response.joinedAt().toString()
+            );
+            
+            ApiResponse<JoinRoomResponseDto> apiResponse = ApiResponse.success(responseDto, "방에 성공적으로 입장했습니다");
+            
+            return ResponseEntity.ok(apiResponse);
+        });
     }
 
     /**
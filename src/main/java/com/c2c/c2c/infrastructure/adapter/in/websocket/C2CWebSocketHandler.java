@@ -6,16 +6,29 @@ import com.c2c.c2c.domain.port.in.LeaveRoomUseCase;
 import com.c2c.c2c.domain.port.in.ProcessHeartbeatUseCase.HeartbeatRequest;
 import com.c2c.c2c.domain.port.in.SendMessageUseCase.SendMessageRequest;
 import com.c2c.c2c.application.service.*;
+import com.c2c.c2c.common.concurrent.KeyedSerialExecutor;
 import com.c2c.c2c.domain.exception.C2CException;
+import com.c2c.c2c.domain.model.Message;
 import com.c2c.c2c.domain.port.out.MessageBroker;
 import com.c2c.c2c.infrastructure.adapter.in.websocket.protocol.*;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * C2C WebSocket 메시지 핸들러
@@ -25,14 +38,27 @@ import java.util.List;
  * - 헥사고날 아키텍처: 인바운드 어댑터로서 외부 요청을 도메인으로 전달
  * - additionalPlan.txt: "원자적 처리" - 메시지별 독립적 트랜잭션 처리
  * - 단일 책임 원칙: WebSocket 통신과 도메인 서비스 호출만 담당
+ * - virtual-thread-inbound 모드: Redis 블로킹 호출을 가상 스레드로 넘겨 컨테이너 스레드 고갈 방지
+ *   (세션별 직렬 레인으로 같은 세션의 프레임 처리 순서 유지)
+ * - 입장/메시지/퇴장은 방 레인(RoomEventExecutor)에서 처리하여 방 단위 이벤트 순서 보장
+ *   입장/메시지는 비동기 포트로 조합하고 단계가 끝날 때까지 레인을 멈춤 (Redis 응답 대기 중 워커 스레드 반납)
+ * - 노드 간 전달 지연(c2c.broker.cross_node.latency): 발행 노드가 프레임을 받은 Instant부터
+ *   수신 노드가 방 레인에서 로컬 팬아웃을 마칠 때까지 (브로커 수신 시점이 아니라 실제 전달 완료 기준)
  */
 @Component
 public class C2CWebSocketHandler implements WebSocketHandler {
     
     private static final Logger logger = LoggerFactory.getLogger(C2CWebSocketHandler.class);
     
+    // 세션 레인이 한 번에 연속 처리하는 프레임 수 (초과 시 새 가상 스레드로 이어서 처리)
+    private static final int INBOUND_LANE_BATCH = 64;
+    
+    // 방 레인 비동기 이벤트가 저장소 호출 없이 끝난 경우 (검증 실패 등)
+    private static final CompletionStage<Void> DONE = CompletableFuture.completedFuture(null);
+    
     private final WebSocketSessionManager sessionManager;
     private final ProtocolParser protocolParser;
+    private final RoomEventExecutor roomEvents;
     
     // Use Case 서비스들 (헥사고날 아키텍처 인바운드 포트)
     private final JoinRoomService joinRoomService;
@@ -43,22 +69,46 @@ public class C2CWebSocketHandler implements WebSocketHandler {
     // 메시지 브로커 (메시지 수신 처리용)
     private final MessageBroker messageBroker;
     
+    // 가상 스레드 수신 처리 (비활성 시 null → 컨테이너 스레드에서 즉시 처리)
+    private final ExecutorService inboundThreads;
+    private final KeyedSerialExecutor<String> inboundLanes;
+    
+    // 노드 간 전달 지연 (발행 노드 프레임 수신 → 이 노드 로컬 팬아웃 완료)
+    private final Timer crossNodeLatency;
+    
     public C2CWebSocketHandler(
             WebSocketSessionManager sessionManager,
             ProtocolParser protocolParser,
+            RoomEventExecutor roomEvents,
             JoinRoomService joinRoomService,
             SendMessageService sendMessageService,
             ProcessHeartbeatService processHeartbeatService,
             LeaveRoomService leaveRoomService,
-            MessageBroker messageBroker) {
+            MessageBroker messageBroker,
+            C2CProperties properties,
+            MeterRegistry meterRegistry) {
         
         this.sessionManager = sessionManager;
         this.protocolParser = protocolParser;
+        this.roomEvents = roomEvents;
         this.joinRoomService = joinRoomService;
         this.sendMessageService = sendMessageService;
         this.processHeartbeatService = processHeartbeatService;
         this.leaveRoomService = leaveRoomService;
         this.messageBroker = messageBroker;
+        this.crossNodeLatency = Timer.builder("c2c.broker.cross_node.latency")
+                .description("Frame receipt on publishing node to local fan-out completion on receiving node")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        
+        if (properties.getWebsocket().isVirtualThreadInbound()) {
+            this.inboundThreads = Executors.newVirtualThreadPerTaskExecutor();
+            this.inboundLanes = new KeyedSerialExecutor<>("ws-inbound", inboundThreads, INBOUND_LANE_BATCH);
+            logger.info("WebSocket inbound frames dispatched to virtual threads (per-session ordering)");
+        } else {
+            this.inboundThreads = null;
+            this.inboundLanes = null;
+        }
     }
     
     @Override
@@ -71,33 +121,47 @@ public class C2CWebSocketHandler implements WebSocketHandler {
     @Override
     public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
         if (message instanceof TextMessage textMessage) {
-            handleTextMessage(session, textMessage);
+            Instant receivedAt = Instant.now();
+            dispatchInbound(session, () -> handleTextMessage(session, textMessage, receivedAt));
         } else {
             logger.warn("Unsupported message type: {}", message.getClass().getSimpleName());
             sendErrorMessage(session, "UNSUPPORTED_MESSAGE", "지원하지 않는 메시지 타입입니다");
         }
     }
     
+    /**
+     * 수신 작업 실행
+     * 가상 스레드 모드면 세션 레인에 넣고 즉시 반환, 아니면 호출 스레드에서 바로 실행
+     */
+    private void dispatchInbound(WebSocketSession session, Runnable task) {
+        if (inboundLanes != null) {
+            inboundLanes.execute(session.getId(), task);
+        } else {
+            task.run();
+        }
+    }
+    
     /**
      * 텍스트 메시지 처리 (JSON 프로토콜)
      */
-    private void handleTextMessage(WebSocketSession session, TextMessage textMessage) {
+    private void handleTextMessage(WebSocketSession session, TextMessage textMessage, Instant receivedAt) {
         try {
             String payload = textMessage.getPayload();
             logger.info("Received message: sessionId={}, payload={}", session.getId(), payload); 
             
-            // JSON 프로토콜 파싱
+            // JSON 프로토콜 파싱 (타입 조회는 파서에서 한 번만)
             C2CMessage wsMessage = protocolParser.parse(payload);
-            MessageType messageType = MessageType.fromValue(wsMessage.getType());
+            MessageType messageType = wsMessage.getMessageType();
              
 
             
-            // 메시지 타입별 처리
+            // 메시지 타입별 처리 (방 상태를 바꾸는 이벤트는 방 레인에서 순서대로 처리)
+            String roomId = wsMessage.getRoomId();
             switch (messageType) {
-                case JOIN -> handleJoinMessage(session, wsMessage);
-                case MSG -> handleMessageSend(session, wsMessage);
+                case JOIN -> roomEvents.executeAsync(roomId, () -> handleJoinMessage(session, wsMessage));
+                case MSG -> roomEvents.executeAsync(roomId, () -> handleMessageSend(session, wsMessage, receivedAt));
                 case PING -> handlePingMessage(session, wsMessage);
-                case LEAVE -> handleLeaveMessage(session, wsMessage);
+                case LEAVE -> roomEvents.execute(roomId, () -> handleLeaveMessage(session, wsMessage));
                 default -> {
                     logger.warn("Unsupported message type from client: {}", messageType);
                     sendErrorMessage(session, "UNSUPPORTED_MESSAGE", "클라이언트에서 지원하지 않는 메시지 타입입니다");
@@ -123,34 +187,55 @@ public class C2CWebSocketHandler implements WebSocketHandler {
      * 방 입장 메시지 처리
      * {"t":"join","roomId":"abc123","token":"..."}
      */
-    private void handleJoinMessage(WebSocketSession session, C2CMessage wsMessage) {
+    private CompletionStage<?> handleJoinMessage(WebSocketSession session, C2CMessage wsMessage) {
+        String roomId = wsMessage.getRoomId();
+        String token = wsMessage.getToken();
+        
+        if (roomId == null || roomId.isBlank()) {
+            sendErrorMessage(session, "INVALID_ROOM_ID", "방 ID가 없습니다");
+            return DONE;
+        }
+        
+        // 토큰에서 사용자 ID 추출 (간단 구현: 토큰을 그대로 사용자 ID로 사용)
+        String userId = extractUserIdFromToken(token);
+        if (userId == null) {
+            sendErrorMessage(session, "INVALID_TOKEN", "유효하지 않은 토큰입니다");
+            return DONE;
+        }
+        
+        // Create join room request from user data (세션 정보 기록까지 끝나야 방 레인의 다음 이벤트 진행)
+        var request = new JoinRoomRequest(roomId, userId, null, null, null, session.getId());
+        return joinRoomService.joinRoomAsync(request)
+                .thenAccept(response -> completeJoin(session, userId, roomId, response))
+                .exceptionally(error -> {
+                    logger.error("Error handling join message: sessionId={}", session.getId(), error);
+                    sendErrorMessage(session, "JOIN_FAILED", "방 입장 실패: " + rootCause(error).getMessage());
+                    return null;
+                });
+    }
+    
+    /**
+     * 입장 성공 후 처리 (세션 등록, 구독, 응답/알림)
+     */
+    private void completeJoin(WebSocketSession session, String userId, String roomId, JoinRoomResponse response) {
         try {
-            String roomId = wsMessage.getRoomId();
-            String token = wsMessage.getToken();
+            List<String> members = new java.util.ArrayList<>(response.members());
             
-            if (roomId == null || roomId.trim().isEmpty()) {
-                sendErrorMessage(session, "INVALID_ROOM_ID", "방 ID가 없습니다");
-                return;
+            // 세션 등록 (기존 등록을 교체했다면 그 방의 구독 참조 해제)
+            String previousRoomId = sessionManager.registerSession(session, userId, roomId);
+            if (previousRoomId != null) {
+                messageBroker.unsubscribe(previousRoomId);
             }
             
-            // 토큰에서 사용자 ID 추출 (간단 구현: 토큰을 그대로 사용자 ID로 사용)
-            String userId = extractUserIdFromToken(token);
-            if (userId == null) {
-                sendErrorMessage(session, "INVALID_TOKEN", "유효하지 않은 토큰입니다");
+            // 메시지 브로커 구독 (노드당 방 구독 1개, 로컬 멤버 수만큼 참조)
+            subscribeToRoomMessages(roomId);
+            
+            // 방 레인 대기 중 연결이 끊긴 경우: 종료 정리가 먼저 지나갔으므로 여기서 퇴장 처리
+            if (!session.isOpen()) {
+                processUserLeave(userId, roomId);
                 return;
             }
             
-            // Create join room request from user data
-            var request = new JoinRoomRequest(roomId, userId, null, null, null);
-            JoinRoomResponse response = joinRoomService.joinRoom(request);
-            List<String> members = new java.util.ArrayList<>(response.members());
-            
-            // 세션 등록
-            sessionManager.registerSession(session, userId, roomId);
-            
-            // 메시지 브로커 구독 (해당 방의 메시지 수신용)
-            subscribeToRoomMessages(roomId, userId);
-            
             // 성공 응답 전송
             C2CMessage joinedResponse = C2CMessage.joinedResponse(roomId, userId, members);
             sendMessage(session, joinedResponse);
@@ -170,40 +255,41 @@ public class C2CWebSocketHandler implements WebSocketHandler {
      * 메시지 전송 처리
      * {"t":"msg","roomId":"abc123","text":"안녕하세요"}
      */
-    private void handleMessageSend(WebSocketSession session, C2CMessage wsMessage) {
-        try {
-            String userId = sessionManager.getUserId(session.getId());
-            if (userId == null) {
-                sendErrorMessage(session, "NOT_AUTHENTICATED", "인증되지 않은 사용자입니다");
-                return;
-            }
-            
-            String roomId = wsMessage.getRoomId();
-            String text = wsMessage.getText();
-            
-            if (text == null || text.trim().isEmpty()) {
-                sendErrorMessage(session, "EMPTY_MESSAGE", "빈 메시지는 전송할 수 없습니다");
-                return;
-            }
-            
-            logger.info("🔄 메시지 전송 처리 시작 - userId: {}, roomId: {}, text: {}", userId, roomId, text);
-            
-            // 도메인 서비스 호출 (Message 생성 및 브로커 발행은 서비스 내에서 처리)
-            var sendRequest = new SendMessageRequest(roomId, userId, text, null);
-            var sendResponse = sendMessageService.sendMessage(sendRequest);
-            
-            logger.info("✅ 메시지 전송 성공 - messageId: {}", sendResponse.messageId());
-            
-            // ✨ 핵심 수정: 방의 모든 사용자에게 즉시 브로드캐스트 (발송자 포함)
-            C2CMessage messageNotification = C2CMessage.messageNotification(roomId, userId, text);
-            broadcastToRoom(roomId, messageNotification, null); // excludeUserId를 null로 설정하여 모든 사용자에게 전송
-            
-            logger.info("📡 메시지 브로드캐스트 완료 - roomId: {}, from: {}", roomId, userId);
-            
-        } catch (Exception e) {
-            logger.error("❌ 메시지 전송 중 오류 - sessionId: {}, error: {}", session.getId(), e.getMessage(), e);
-            sendErrorMessage(session, "MESSAGE_SEND_FAILED", "메시지 전송 실패: " + e.getMessage());
+    private CompletionStage<?> handleMessageSend(WebSocketSession session, C2CMessage wsMessage, Instant receivedAt) {
+        String userId = sessionManager.getUserId(session.getId());
+        if (userId == null) {
+            sendErrorMessage(session, "NOT_AUTHENTICATED", "인증되지 않은 사용자입니다");
+            return DONE;
+        }
+        
+        String roomId = wsMessage.getRoomId();
+        String text = wsMessage.getText();
+        
+        if (text == null || text.isBlank()) {
+            sendErrorMessage(session, "EMPTY_MESSAGE", "빈 메시지는 전송할 수 없습니다");
+            return DONE;
         }
+        
+        logger.info("🔄 메시지 전송 처리 시작 - userId: {}, roomId: {}, text: {}", userId, roomId, text);
+        
+        // 도메인 서비스 호출 (방 확인은 근접 캐시 적중 시 즉시 완료, 미적중이면 응답을 기다리는 동안 레인 워커 반납)
+        var sendRequest = new SendMessageRequest(roomId, userId, text, null, receivedAt);
+        return sendMessageService.sendMessageAsync(sendRequest)
+                .thenAccept(sendResponse -> {
+                    logger.info("✅ 메시지 전송 성공 - messageId: {}", sendResponse.messageId());
+                    
+                    // ✨ 핵심 수정: 방의 모든 사용자에게 즉시 브로드캐스트 (발송자 포함)
+                    C2CMessage messageNotification = C2CMessage.messageNotification(roomId, userId, text);
+                    broadcastToRoom(roomId, messageNotification, null); // excludeUserId를 null로 설정하여 모든 사용자에게 전송
+                    
+                    logger.info("📡 메시지 브로드캐스트 완료 - roomId: {}, from: {}", roomId, userId);
+                })
+                .exceptionally(error -> {
+                    Throwable cause = rootCause(error);
+                    logger.error("❌ 메시지 전송 중 오류 - sessionId: {}, error: {}", session.getId(), cause.getMessage(), cause);
+                    sendErrorMessage(session, "MESSAGE_SEND_FAILED", "메시지 전송 실패: " + cause.getMessage());
+                    return null;
+                });
     }
     
     /**
@@ -251,16 +337,22 @@ public class C2CWebSocketHandler implements WebSocketHandler {
     
     /**
      * 사용자 퇴장 처리 (공통 로직)
+     * 이 방 등록 여부를 Redis 퇴장보다 먼저 확인: 다른 방 레인에서 이미 새 방에 입장했으면
+     * 이전 방 멤버만 제거하고 새 방에서 쓰는 프레즌스/세션은 유지
      */
     private void processUserLeave(String userId, String roomId) {
         try {
-            // 도메인 서비스 호출
-            leaveRoomService.leaveRoom(new LeaveRoomUseCase.LeaveRoomRequest(roomId, userId, "explicit"));            
-            // 세션 정리
-            sessionManager.removeUserSession(userId);
-            
-            // 메시지 브로커 구독 해제
-            messageBroker.unsubscribe(roomId);
+            // 이 방 등록일 때만 세션 정리 (등록 1회당 1회), 새 방 등록/구독은 유지
+            String registeredRoomId = sessionManager.unregisterUser(userId, roomId);
+            try {
+                // 도메인 서비스 호출
+                leaveRoomService.leaveRoom(new LeaveRoomUseCase.LeaveRoomRequest(roomId, userId, "explicit",
+                        registeredRoomId != null));
+            } finally {
+                if (registeredRoomId != null) {
+                    messageBroker.unsubscribe(registeredRoomId);
+                }
+            }
             
             // 다른 사용자들에게 퇴장 알림 브로드캐스트
             broadcastUserLeft(roomId, userId);
@@ -276,16 +368,16 @@ public class C2CWebSocketHandler implements WebSocketHandler {
     public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
         logger.error("WebSocket transport error: sessionId={}", session.getId(), exception);
         
-        // 연결 오류 시 사용자 정리
-        cleanupSession(session);
+        // 연결 오류 시 사용자 정리 (앞서 받은 프레임 처리 이후에 실행)
+        dispatchInbound(session, () -> cleanupSession(session));
     }
     
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
         logger.info("WebSocket connection closed: sessionId={}, status={}", session.getId(), closeStatus);
         
-        // 연결 종료 시 사용자 정리
-        cleanupSession(session);
+        // 연결 종료 시 사용자 정리 (앞서 받은 프레임 처리 이후에 실행)
+        dispatchInbound(session, () -> cleanupSession(session));
     }
     
     /**
@@ -295,15 +387,69 @@ public class C2CWebSocketHandler implements WebSocketHandler {
         String userId = sessionManager.getUserId(session.getId());
         if (userId != null) {
             String roomId = sessionManager.getRoomId(userId);
-            processUserLeave(userId, roomId);
+            roomEvents.execute(roomId, () -> {
+                // 대기 중 같은 사용자가 새 세션으로 재입장했으면 이미 교체/정리된 상태
+                if (userId.equals(sessionManager.getUserId(session.getId()))) {
+                    processUserLeave(userId, roomId);
+                }
+            });
         }
     }
     
+    /**
+     * 프레즌스 만료 처리 (하트비트 타임아웃)
+     * 만료 이벤트는 모든 노드가 받으므로 해당 사용자의 세션이 이 노드에 있을 때만 처리
+     * 퇴장 처리(userLeft 브로드캐스트 포함) 후 연결 종료 → 종료 콜백의 정리는 이미 해제된 상태라 생략됨
+     * 
+     * @param userId 프레즌스가 만료된 사용자 ID
+     * @return 이 노드에서 퇴장 처리를 예약했는지
+     */
+    boolean handlePresenceExpired(String userId) {
+        WebSocketSession session = sessionManager.getSession(userId);
+        String roomId = sessionManager.getRoomId(userId);
+        if (session == null || roomId == null) {
+            return false;
+        }
+        
+        roomEvents.execute(roomId, () -> {
+            // 대기 중 재입장/퇴장으로 이미 교체·정리되었으면 무시
+            if (!userId.equals(sessionManager.getUserId(session.getId()))
+                    || !roomId.equals(sessionManager.getRoomId(userId))) {
+                return;
+            }
+            logger.info("Presence expired, removing user: userId={}, roomId={}", userId, roomId);
+            processUserLeave(userId, roomId);
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (Exception e) {
+                logger.debug("Failed to close timed-out session: userId={}, sessionId={}", userId, session.getId(), e);
+            }
+        });
+        return true;
+    }
+    
+    /**
+     * 비동기 단계 예외에서 원인 추출 (CompletionException 래핑 해제)
+     */
+    private static Throwable rootCause(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+    
     @Override
     public boolean supportsPartialMessages() {
         return false; // 부분 메시지 지원하지 않음
     }
     
+    /**
+     * 가상 스레드 실행기 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (inboundThreads != null) {
+            inboundThreads.shutdown();
+        }
+    }
+    
     // === 헬퍼 메서드들 ===
     
     /**
@@ -311,7 +457,7 @@ public class C2CWebSocketHandler implements WebSocketHandler {
      * TODO: 실제 JWT 토큰 검증 로직으로 교체 필요
      */
     private String extractUserIdFromToken(String token) {
-        if (token == null || token.trim().isEmpty()) {
+        if (token == null || token.isBlank()) {
             return null;
         }
         // 현재는 토큰을 그대로 사용자 ID로 사용 (개발용)
@@ -320,22 +466,26 @@ public class C2CWebSocketHandler implements WebSocketHandler {
     
     /**
      * 방 메시지 구독
+     * 사용자별 리스너 대신 방 단위 핸들러 하나로 로컬 세션들에게 팬아웃
      */
-    private void subscribeToRoomMessages(String roomId, String userId) {
-        messageBroker.subscribe(roomId, (roomIdReceived, message) -> {
+    private void subscribeToRoomMessages(String roomId) {
+        messageBroker.subscribe(roomId, this::deliverRoomMessage);
+    }
+    
+    /**
+     * 브로커에서 수신한 방 메시지를 로컬 세션들에게 전달 (발신자 제외)
+     * 방 레인을 거쳐 같은 방의 입장/퇴장 알림과 순서를 맞춤
+     */
+    private void deliverRoomMessage(String roomId, Message message) {
+        roomEvents.execute(roomId, () -> {
             try {
-                // 메시지 발신자가 아닌 사용자들에게만 전달
-                if (!userId.equals(message.getUserId())) {
-                    C2CMessage notification = C2CMessage.messageNotification(
-                            roomIdReceived, message.getUserId(), message.getText());
-                    
-                    WebSocketSession session = sessionManager.getSession(userId);
-                    if (session != null && session.isOpen()) {
-                        sendMessage(session, notification);
-                    }
-                }
+                C2CMessage notification = C2CMessage.messageNotification(roomId, message.getUserId(), message.getText());
+                broadcastToRoom(roomId, notification, message.getUserId());
+                // 로컬 세션 송신 큐까지 넘긴 뒤 기록 (방 레인 대기 포함)
+                Duration elapsed = Duration.between(message.getIngressTime(), Instant.now());
+                crossNodeLatency.record(elapsed.isNegative() ? Duration.ZERO : elapsed);
             } catch (Exception e) {
-                logger.error("Error handling room message: userId={}, roomId={}", userId, roomIdReceived, e);
+                logger.error("Error handling room message: roomId={}", roomId, e);
             }
         });
     }
@@ -358,14 +508,19 @@ public class C2CWebSocketHandler implements WebSocketHandler {
     
     /**
      * 방의 모든 사용자에게 메시지 브로드캐스트
+     * 메시지는 한 번만 인코딩하고 동일한 프레임을 모든 수신자에게 재사용
      */
     private void broadcastToRoom(String roomId, C2CMessage message, String excludeUserId) {
         logger.debug("📡 브로드캐스트 시작 - roomId: {}, excludeUserId: {}", roomId, excludeUserId);
         
-        sessionManager.getActiveSessionsInRoom(roomId).forEach(session -> {
-            String userId = sessionManager.getUserId(session.getId());
-            if (userId != null && (excludeUserId == null || !userId.equals(excludeUserId))) {
-                sendMessage(session, message);
+        EncodedMessage frame = encode(message);
+        if (frame == null) {
+            return;
+        }
+        
+        sessionManager.forEachSessionInRoom(roomId, (userId, session) -> {
+            if (excludeUserId == null || !userId.equals(excludeUserId)) {
+                sendFrame(session, frame);
                 logger.debug("✅ 메시지 전송됨 - userId: {}, sessionId: {}", userId, session.getId());
             } else {
                 logger.debug("⏭️ 메시지 건너뜀 - userId: {}, excludeUserId: {}", userId, excludeUserId);
@@ -376,17 +531,42 @@ public class C2CWebSocketHandler implements WebSocketHandler {
     }
     
     /**
-     * WebSocket 메시지 전송
+     * WebSocket 메시지 전송 (단일 수신자)
+     * 등록된 세션이면 브로드캐스트와 같은 송신 큐를 거쳐 순서 유지
      */
     private void sendMessage(WebSocketSession session, C2CMessage message) {
+        EncodedMessage frame = encode(message);
+        if (frame != null) {
+            sendFrame(sessionManager.getOutboundSession(session), frame);
+        }
+    }
+    
+    /**
+     * 인코딩된 프레임 전송
+     * 송신 큐 세션은 큐에 넣고 즉시 반환 (느린 클라이언트가 호출 스레드를 막지 않음)
+     */
+    private void sendFrame(WebSocketSession session, EncodedMessage frame) {
         try {
-            if (session.isOpen()) {
-                String json = protocolParser.serialize(message);
-                session.sendMessage(new TextMessage(json));
-                logger.debug("Sent message: sessionId={}, message={}", session.getId(), json);
+            if (session instanceof OutboundQueueSession outbound) {
+                outbound.enqueue(frame);
+            } else if (session.isOpen()) {
+                session.sendMessage(frame.getTextMessage());
+                logger.debug("Sent message: sessionId={}, frame={}", session.getId(), frame);
             }
         } catch (Exception e) {
-            logger.error("Error sending message: sessionId={}, message={}", session.getId(), message, e);
+            logger.error("Error sending message: sessionId={}, frame={}", session.getId(), frame, e);
+        }
+    }
+    
+    /**
+     * 메시지 인코딩 (실패 시 null)
+     */
+    private EncodedMessage encode(C2CMessage message) {
+        try {
+            return protocolParser.encode(message);
+        } catch (ProtocolParser.ProtocolSerializeException e) {
+            logger.error("Error encoding message: message={}", message, e);
+            return null;
         }
     }
     
@@ -7,14 +7,12 @@ import org.springframework.web.socket.WebSocketSession;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  * WebSocket 연결 상태 관리자
  * 
  * 클라이언트-서버 간 연결 상태 동기화 및 안정성 보장
+ * 하트비트 타임아웃은 프레즌스 만료 이벤트(PresenceExpiryListener)로 처리하므로 주기 정리 작업 없음
  */
 @Component
 public class ConnectionStateManager {
@@ -23,14 +21,6 @@ public class ConnectionStateManager {
     
     // 연결 상태 추적
     private final ConcurrentMap<String, ConnectionInfo> connectionStates = new ConcurrentHashMap<>();
-    
-    // 정리 작업용 스케줄러
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
-    
-    public ConnectionStateManager() {
-        // 5분마다 비활성 연결 정리
-        scheduler.scheduleAtFixedRate(this::cleanupInactiveConnections, 5, 5, TimeUnit.MINUTES);
-    }
 
     /**
      * 연결 상태 정보
@@ -160,35 +150,6 @@ public class ConnectionStateManager {
                 .count();
     }
 
-    /**
-     * 비활성 연결 정리
-     */
-    private void cleanupInactiveConnections() {
-        long timeoutMs = 60000; // 60초 타임아웃
-        long now = System.currentTimeMillis();
-        
-        var staleConnections = connectionStates.entrySet().stream()
-                .filter(entry -> entry.getValue().isStale(timeoutMs))
-                .toList();
-        
-        int cleanupCount = 0;
-        for (var entry : staleConnections) {
-            String sessionId = entry.getKey();
-            ConnectionInfo info = entry.getValue();
-            
-            connectionStates.remove(sessionId);
-            cleanupCount++;
-            
-            logger.warn("Cleaned up stale connection: sessionId={}, userId={}, lastHeartbeat={}", 
-                       sessionId, info.getUserId(), 
-                       (now - info.getLastHeartbeat()) / 1000 + "s ago");
-        }
-        
-        if (cleanupCount > 0) {
-            logger.info("Cleaned up {} stale connections", cleanupCount);
-        }
-    }
-
     /**
      * 연결 통계 조회
      */
@@ -247,19 +208,4 @@ public class ConnectionStateManager {
                     total, connecting, connected, authenticated, stale);
         }
     }
-
-    /**
-     * 리소스 정리
-     */
-    public void shutdown() {
-        scheduler.shutdown();
-        try {
-            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            scheduler.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
-    }
 }
\ No newline at end of file
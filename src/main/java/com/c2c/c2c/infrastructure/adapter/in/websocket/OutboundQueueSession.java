@@ -0,0 +1,250 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket;
+
+import com.c2c.c2c.infrastructure.adapter.in.websocket.protocol.EncodedMessage;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Websocket.OverflowPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션별 송신 큐 데코레이터
+ *
+ * 설계 근거:
+ * - 브로드캐스트 스레드는 큐에 넣기만 하고 즉시 반환 - 느린 클라이언트가 방 전체 전송을 막지 않음
+ * - 실제 전송은 세션당 하나의 드레인 작업이 순서대로 수행 (동시 sendMessage 금지 규칙 준수)
+ * - 프레임 수/바이트 상한과 초과 시 정책(DROP_OLDEST, DROP_EPHEMERAL, DISCONNECT)으로 메모리 사용량 제한
+ */
+public class OutboundQueueSession extends WebSocketSessionDecorator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboundQueueSession.class);
+
+    private final int maxDepth;
+    private final long maxBytes;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor drainExecutor;
+
+    // 아래 필드는 lock으로 보호
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<EncodedMessage> queue = new ArrayDeque<>();
+    private long queuedBytes;
+    private boolean draining;
+    private boolean closing;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public OutboundQueueSession(WebSocketSession delegate, int maxDepth, long maxBytes,
+                                OverflowPolicy overflowPolicy, Executor drainExecutor) {
+        super(delegate);
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+        this.overflowPolicy = overflowPolicy;
+        this.drainExecutor = drainExecutor;
+    }
+
+    /**
+     * 프레임을 송신 큐에 추가 (블로킹 없음)
+     *
+     * @param frame 인코딩된 프레임 (여러 세션이 공유 가능)
+     */
+    public void enqueue(EncodedMessage frame) {
+        boolean scheduleDrain = false;
+        boolean disconnect = false;
+
+        lock.lock();
+        try {
+            if (closing) {
+                return;
+            }
+
+            if (!fits(frame)) {
+                switch (makeRoom(frame)) {
+                    case DROP_INCOMING -> {
+                        droppedCount.incrementAndGet();
+                        return;
+                    }
+                    case DISCONNECT -> {
+                        closing = true;
+                        droppedCount.addAndGet(queue.size() + 1L);
+                        queue.clear();
+                        queuedBytes = 0;
+                        disconnect = true;
+                    }
+                    case ENQUEUE -> { }
+                }
+            }
+
+            if (!disconnect) {
+                queue.addLast(frame);
+                queuedBytes += frame.getSizeBytes();
+                if (!draining) {
+                    draining = true;
+                    scheduleDrain = true;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (disconnect) {
+            logger.warn("Outbound queue overflow, closing slow session: sessionId={}, policy={}, limit={}frames/{}bytes",
+                    getId(), overflowPolicy, maxDepth, maxBytes);
+            closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+        } else if (scheduleDrain) {
+            drainExecutor.execute(this::drain);
+        }
+    }
+
+    /**
+     * 일반 sendMessage 호출도 같은 큐를 거치도록 처리 (전송 순서 보장)
+     */
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        if (!(message instanceof TextMessage textMessage)) {
+            throw new IllegalArgumentException("텍스트 프레임만 지원합니다: " + message.getClass().getSimpleName());
+        }
+        enqueue(EncodedMessage.wrap(textMessage));
+    }
+
+    /**
+     * 현재 송신 대기 프레임 수
+     */
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 송신 대기 바이트 수
+     */
+    public long getQueuedBytes() {
+        lock.lock();
+        try {
+            return queuedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 오버플로로 폐기된 누적 프레임 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    // === Private Helper Methods ===
+
+    private enum OverflowAction { ENQUEUE, DROP_INCOMING, DISCONNECT }
+
+    /**
+     * 상한 이내인지 확인 (lock 보유 상태에서 호출)
+     * 큐가 비어 있으면 단일 대형 프레임도 허용
+     */
+    private boolean fits(EncodedMessage frame) {
+        return queue.isEmpty()
+                || (queue.size() < maxDepth && queuedBytes + frame.getSizeBytes() <= maxBytes);
+    }
+
+    /**
+     * 정책에 따라 공간 확보 (lock 보유 상태에서 호출)
+     */
+    private OverflowAction makeRoom(EncodedMessage frame) {
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                while (!fits(frame)) {
+                    EncodedMessage dropped = queue.pollFirst();
+                    queuedBytes -= dropped.getSizeBytes();
+                    droppedCount.incrementAndGet();
+                }
+                return OverflowAction.ENQUEUE;
+            }
+            case DROP_EPHEMERAL -> {
+                if (frame.isEphemeral()) {
+                    return OverflowAction.DROP_INCOMING;
+                }
+                Iterator<EncodedMessage> iterator = queue.iterator();
+                while (!fits(frame) && iterator.hasNext()) {
+                    EncodedMessage queued = iterator.next();
+                    if (queued.isEphemeral()) {
+                        iterator.remove();
+                        queuedBytes -= queued.getSizeBytes();
+                        droppedCount.incrementAndGet();
+                    }
+                }
+                return fits(frame) ? OverflowAction.ENQUEUE : OverflowAction.DISCONNECT;
+            }
+            default -> {
+                return OverflowAction.DISCONNECT;
+            }
+        }
+    }
+
+    /**
+     * 큐 드레인 (세션당 동시에 하나만 실행)
+     */
+    private void drain() {
+        while (true) {
+            EncodedMessage next;
+            lock.lock();
+            try {
+                next = queue.pollFirst();
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+                queuedBytes -= next.getSizeBytes();
+            } finally {
+                lock.unlock();
+            }
+
+            WebSocketSession delegate = getDelegate();
+            if (!delegate.isOpen()) {
+                discardPending();
+                return;
+            }
+
+            try {
+                delegate.sendMessage(next.getTextMessage());
+            } catch (Exception e) {
+                logger.warn("Error sending queued frame: sessionId={}, frame={}, error={}", getId(), next, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 닫힌 세션의 대기 프레임 폐기
+     */
+    private void discardPending() {
+        lock.lock();
+        try {
+            queue.clear();
+            queuedBytes = 0;
+            draining = false;
+            closing = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeQuietly(CloseStatus status) {
+        try {
+            getDelegate().close(status);
+        } catch (Exception e) {
+            logger.debug("Error closing slow session: sessionId={}, error={}", getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket;
+
+import com.c2c.c2c.infrastructure.adapter.out.redis.ClusterKeyEvents;
+import com.c2c.c2c.infrastructure.adapter.out.redis.RedisKeys;
+import com.c2c.c2c.infrastructure.adapter.out.redis.RedisListenerDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 프레즌스 만료 키이벤트 구독자
+ *
+ * 설계 근거:
+ * - 명세서 "30초 미수신 시 오프라인 처리"를 주기적 전체 키 조회 대신 Redis 만료 이벤트로 즉시 처리
+ * - scripts/redis.conf의 notify-keyspace-events "Ex" → __keyevent@{db}__:expired 채널에 만료된 키 이름 발행
+ * - user:{userId}:presence 만료만 골라 해당 사용자의 세션을 가진 노드에서 퇴장 처리 + userLeft 전송
+ * - 이벤트는 RedisListenerDispatcher 제어 레인으로 넘겨 Redis 수신 스레드를 막지 않고 채팅이 밀려도 버리지 않음
+ * - 만료 이벤트는 키가 실제로 삭제될 때 발행되므로 TTL보다 약간 늦을 수 있음 (Redis 만료 주기)
+ * - 클러스터는 키이벤트가 샤드별로만 발행되므로 ClusterKeyEvents로 모든 마스터를 구독
+ */
+@Component
+@ConditionalOnProperty(prefix = "c2c.heartbeat", name = "expiry-events", havingValue = "true", matchIfMissing = true)
+public class PresenceExpiryListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(PresenceExpiryListener.class);
+
+    // 모든 DB 인덱스의 만료 키이벤트
+    private static final Topic EXPIRED_TOPIC = new PatternTopic("__keyevent@*__:expired");
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ClusterKeyEvents clusterKeyEvents;
+    private final C2CWebSocketHandler webSocketHandler;
+    private final MessageListener listener;
+
+    private final Counter expiredCounter;
+    private final Counter handledCounter;
+
+    public PresenceExpiryListener(RedisMessageListenerContainer listenerContainer,
+                                  ObjectProvider<ClusterKeyEvents> clusterKeyEvents,
+                                  RedisListenerDispatcher dispatcher,
+                                  C2CWebSocketHandler webSocketHandler,
+                                  MeterRegistry meterRegistry) {
+        this.listenerContainer = listenerContainer;
+        this.clusterKeyEvents = clusterKeyEvents.getIfAvailable();
+        this.webSocketHandler = webSocketHandler;
+        this.listener = dispatcher.control(this::onExpired);
+        this.expiredCounter = Counter.builder("c2c.presence.expired")
+                .description("Presence keys expired (heartbeat timeouts seen by this node)")
+                .register(meterRegistry);
+        this.handledCounter = Counter.builder("c2c.presence.expired.handled")
+                .description("Presence expirations that removed a user connected to this node")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (clusterKeyEvents != null) {
+            clusterKeyEvents.psubscribe(EXPIRED_TOPIC.getTopic(), listener);
+            return;
+        }
+        listenerContainer.addMessageListener(listener, EXPIRED_TOPIC);
+        logger.info("Subscribed to presence expiry events: {}", EXPIRED_TOPIC.getTopic());
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (clusterKeyEvents != null) {
+            clusterKeyEvents.punsubscribe(EXPIRED_TOPIC.getTopic(), listener);
+            return;
+        }
+        listenerContainer.removeMessageListener(listener, EXPIRED_TOPIC);
+    }
+
+    void onExpired(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!RedisKeys.isPresenceKey(key)) {
+            return;
+        }
+
+        expiredCounter.increment();
+        String userId = RedisKeys.userIdFromPresenceKey(key);
+        if (webSocketHandler.handlePresenceExpired(userId)) {
+            handledCounter.increment();
+            logger.debug("Presence expired for local user: userId={}", userId);
+        }
+    }
+}
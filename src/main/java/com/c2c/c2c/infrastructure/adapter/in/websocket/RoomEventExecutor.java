@@ -0,0 +1,113 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket;
+
+import com.c2c.c2c.common.concurrent.KeyedSerialExecutor;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 방 단위 이벤트 직렬 실행기
+ *
+ * 설계 근거:
+ * - 같은 방의 입장/메시지/퇴장 이벤트는 도착 순서대로 하나씩 처리 → userJoined/message/userLeft 순서 역전 방지
+ * - 방 상태 변경이 한 번에 하나뿐이므로 추가 상태를 두어도 락이 필요 없음
+ * - 방별 레인은 기본적으로 가상 스레드에서 실행: 레인 처리는 블로킹 Redis 호출(입장/전송/퇴장)이므로
+ *   코어 수 크기 플랫폼 풀이면 노드 전체 동시 처리가 코어 수 × Redis 왕복 1회로 묶임
+ *   (event-workers > 0 이면 그 크기의 플랫폼 워커 풀 사용)
+ * - 비동기 저장소를 쓰는 이벤트(executeAsync)는 Redis 응답을 기다리는 동안 워커를 반납하고
+ *   완료 후 같은 레인에서 다음 이벤트를 이어서 처리 (순서 보장은 동일)
+ * - 유휴 방은 레인이 사라지고 다음 이벤트는 새 레인(스레드)에서 재개
+ * - ordered-events=false 이면 호출 스레드에서 즉시 실행 (기존 동작)
+ */
+@Component
+public class RoomEventExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomEventExecutor.class);
+
+    // 한 방이 워커를 연속 점유하는 최대 이벤트 수 (초과 시 다른 방에 양보)
+    private static final int ROOM_LANE_BATCH = 32;
+
+    private final ExecutorService workers;
+    private final KeyedSerialExecutor<String> roomLanes;
+
+    public RoomEventExecutor(C2CProperties properties) {
+        C2CProperties.Room room = properties.getRoom();
+        if (room.isOrderedEvents()) {
+            this.workers = room.getEventWorkers() > 0
+                    ? Executors.newFixedThreadPool(room.getEventWorkers(),
+                            Thread.ofPlatform().name("room-event-", 0).daemon(true).factory())
+                    : Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("room-event-", 0).factory());
+            this.roomLanes = new KeyedSerialExecutor<>("room-event", workers, ROOM_LANE_BATCH);
+            logger.info("Ordered room events enabled: workers={}",
+                    room.getEventWorkers() > 0 ? room.getEventWorkers() : "virtual");
+        } else {
+            this.workers = null;
+            this.roomLanes = null;
+        }
+    }
+
+    /**
+     * 방 레인에 이벤트 제출
+     * roomId가 없거나 비활성 모드면 호출 스레드에서 즉시 실행
+     *
+     * @param roomId 방 ID (순서 보장 단위)
+     * @param task   이벤트 처리 작업
+     */
+    public void execute(String roomId, Runnable task) {
+        if (roomLanes == null || roomId == null || roomId.isBlank()) {
+            task.run();
+            return;
+        }
+        roomLanes.execute(roomId, task);
+    }
+
+    /**
+     * 방 레인에 비동기 이벤트 제출
+     * 반환한 단계가 끝날 때까지 같은 방의 다음 이벤트는 시작하지 않음 (대기 중 워커 스레드는 반납)
+     * roomId가 없거나 비활성 모드면 호출 스레드에서 완료까지 기다림 (동기 실행과 같은 순서)
+     *
+     * @param roomId 방 ID (순서 보장 단위)
+     * @param task   이벤트 처리 작업 (완료 단계 반환)
+     */
+    public void executeAsync(String roomId, Supplier<? extends CompletionStage<?>> task) {
+        if (roomLanes == null || roomId == null || roomId.isBlank()) {
+            CompletionStage<?> stage = task.get();
+            if (stage != null) {
+                stage.toCompletableFuture().join();
+            }
+            return;
+        }
+        roomLanes.executeAsync(roomId, task);
+    }
+
+    /**
+     * 방 단위 직렬 처리 활성 여부
+     */
+    public boolean isEnabled() {
+        return roomLanes != null;
+    }
+
+    /**
+     * 처리 대기 중인 방 이벤트 수
+     */
+    public int getPendingEventCount() {
+        return roomLanes != null ? roomLanes.getPendingTaskCount() : 0;
+    }
+
+    /**
+     * 워커 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+}
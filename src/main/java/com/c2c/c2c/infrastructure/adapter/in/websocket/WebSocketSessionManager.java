@@ -1,13 +1,20 @@
 package com.c2c.c2c.infrastructure.adapter.in.websocket;
 
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketSession;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -18,6 +25,10 @@ import java.util.stream.Collectors;
  * - 명세서 "세션 종료 처리: 30초 타임아웃, 연결 끊김 감지" - 세션 라이프사이클 관리
  * - additionalPlan.txt: "원자적 처리" - 스레드 안전한 세션 관리
  * - 단일 책임 원칙: 세션 매핑만 담당, 비즈니스 로직은 도메인에서 처리
+ * - 방 → 세션 인덱스 유지: 브로드캐스트 비용을 전체 접속자 수가 아닌 방 인원 수에 비례하도록 제한
+ * - 등록 세션은 OutboundQueueSession으로 감싸 느린 클라이언트가 송신 스레드를 막지 않도록 분리
+ * - 사용자 단위 등록/해제는 userToSession.compute 안에서 처리: 서로 다른 방 레인에서 같은 사용자의
+ *   입장(B)과 늦은 퇴장(A)이 동시에 와도 네 매핑과 방 인덱스가 어긋나지 않음
  */
 @Component
 public class WebSocketSessionManager {
@@ -33,25 +44,51 @@ public class WebSocketSessionManager {
     // 사용자 ID → 방 ID 매핑
     private final ConcurrentMap<String, String> userToRoom = new ConcurrentHashMap<>();
     
+    // 방 ID → (사용자 ID → 세션) 인덱스 (브로드캐스트 팬아웃용)
+    // 빈 방의 내부 맵은 compute 안에서 제거하여 등록/해제와 원자적으로 유지
+    private final ConcurrentMap<String, ConcurrentMap<String, WebSocketSession>> roomToSessions = new ConcurrentHashMap<>();
+    
+    // 송신 큐 설정 및 드레인 실행기 (블로킹 전송을 가상 스레드에서 수행)
+    private final C2CProperties.Websocket websocketProperties;
+    private final ExecutorService outboundExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    
+    public WebSocketSessionManager(C2CProperties properties) {
+        this.websocketProperties = properties.getWebsocket();
+    }
+    
     /**
      * 사용자 세션 등록
      * 
      * @param session WebSocket 세션
      * @param userId 사용자 ID
      * @param roomId 방 ID
+     * @return 교체된 기존 등록의 방 ID, 없으면 null (방 구독 참조 해제용)
      */
-    public void registerSession(WebSocketSession session, String userId, String roomId) {
+    public String registerSession(WebSocketSession session, String userId, String roomId) {
         String sessionId = session.getId();
         
-        // 기존 세션이 있다면 정리
-        removeUserSession(userId);
+        // 송신 큐로 감싼 세션 등록
+        WebSocketSession outbound = new OutboundQueueSession(
+                session,
+                websocketProperties.getOutboundQueueDepth(),
+                websocketProperties.getOutboundQueueBytes(),
+                websocketProperties.getOverflowPolicy(),
+                outboundExecutor);
         
-        // 새 세션 등록
-        sessionToUserId.put(sessionId, userId);
-        userToSession.put(userId, session);
-        userToRoom.put(userId, roomId);
+        // 기존 세션이 있다면 정리 후 교체 (사용자 단위 원자적)
+        String[] previousRoomId = new String[1];
+        userToSession.compute(userId, (id, existing) -> {
+            if (existing != null) {
+                previousRoomId[0] = detach(userId, existing);
+            }
+            sessionToUserId.put(sessionId, userId);
+            userToRoom.put(userId, roomId);
+            indexSession(roomId, userId, outbound);
+            return outbound;
+        });
         
         logger.info("Registered session: sessionId={}, userId={}, roomId={}", sessionId, userId, roomId);
+        return previousRoomId[0];
     }
     
     /**
@@ -61,17 +98,23 @@ public class WebSocketSessionManager {
      * @return 해제된 사용자 ID, 없으면 null
      */
     public String removeSession(String sessionId) {
-        String userId = sessionToUserId.remove(sessionId);
-        
-        if (userId != null) {
-            userToSession.remove(userId);
-            String roomId = userToRoom.remove(userId);
-            
-            logger.info("Removed session: sessionId={}, userId={}, roomId={}", sessionId, userId, roomId);
-            return userId;
+        String userId = sessionToUserId.get(sessionId);
+        if (userId == null) {
+            return null;
         }
         
-        return null;
+        String[] roomId = new String[1];
+        userToSession.computeIfPresent(userId, (id, session) -> {
+            if (!session.getId().equals(sessionId)) {
+                return session; // 이미 새 세션으로 교체됨
+            }
+            roomId[0] = detach(userId, session);
+            return null;
+        });
+        sessionToUserId.remove(sessionId, userId);
+        
+        logger.info("Removed session: sessionId={}, userId={}, roomId={}", sessionId, userId, roomId[0]);
+        return userId;
     }
     
     /**
@@ -81,17 +124,61 @@ public class WebSocketSessionManager {
      * @return 해제된 세션, 없으면 null
      */
     public WebSocketSession removeUserSession(String userId) {
-        WebSocketSession session = userToSession.remove(userId);
-        
-        if (session != null) {
-            sessionToUserId.remove(session.getId());
-            String roomId = userToRoom.remove(userId);
-            
-            logger.info("Removed user session: userId={}, sessionId={}, roomId={}", userId, session.getId(), roomId);
-            return session;
+        WebSocketSession session = userToSession.get(userId);
+        return unregisterUser(userId) != null ? session : null;
+    }
+    
+    /**
+     * 사용자 세션 해제 후 등록되어 있던 방 ID 반환
+     * 등록 1회당 정확히 한 번만 방 ID가 반환되므로 방 구독 참조 카운트를 맞추는 데 사용
+     * 
+     * @param userId 사용자 ID
+     * @return 해제된 등록의 방 ID, 등록이 없으면 null
+     */
+    public String unregisterUser(String userId) {
+        String[] roomId = new String[1];
+        userToSession.computeIfPresent(userId, (id, session) -> {
+            roomId[0] = detach(userId, session);
+            logger.info("Removed user session: userId={}, sessionId={}, roomId={}", userId, session.getId(), roomId[0]);
+            return null;
+        });
+        return roomId[0];
+    }
+    
+    /**
+     * 사용자가 지정한 방에 등록되어 있을 때만 해제
+     * 방 A 퇴장이 다른 방 레인에서 처리된 방 B 입장보다 늦게 실행되어도 B 등록을 지우지 않음
+     * 
+     * @param userId 사용자 ID
+     * @param roomId 퇴장하는 방 ID
+     * @return 해제했으면 roomId, 다른 방에 등록되어 있거나 등록이 없으면 null
+     */
+    public String unregisterUser(String userId, String roomId) {
+        if (roomId == null) {
+            return null;
         }
-        
-        return null;
+        String[] removed = new String[1];
+        userToSession.computeIfPresent(userId, (id, session) -> {
+            if (!roomId.equals(userToRoom.get(userId))) {
+                return session;
+            }
+            removed[0] = detach(userId, session);
+            logger.info("Removed user session: userId={}, sessionId={}, roomId={}", userId, session.getId(), roomId);
+            return null;
+        });
+        return removed[0];
+    }
+    
+    /**
+     * 세션 매핑/방 인덱스 정리 (userToSession.compute 안에서 호출)
+     * 
+     * @return 등록되어 있던 방 ID
+     */
+    private String detach(String userId, WebSocketSession session) {
+        sessionToUserId.remove(session.getId(), userId);
+        String roomId = userToRoom.remove(userId);
+        unindexSession(roomId, userId, session);
+        return roomId;
     }
     
     /**
@@ -104,6 +191,33 @@ public class WebSocketSessionManager {
         return userToSession.get(userId);
     }
     
+    /**
+     * 컨테이너 세션에 대응하는 송신 큐 세션 조회
+     * 등록된 세션이면 송신 큐 세션을, 아니면(입장 전) 원본 세션을 반환
+     * 
+     * @param session 컨테이너가 전달한 원본 세션
+     * @return 전송에 사용할 세션
+     */
+    public WebSocketSession getOutboundSession(WebSocketSession session) {
+        String userId = sessionToUserId.get(session.getId());
+        if (userId == null) {
+            return session;
+        }
+        WebSocketSession registered = userToSession.get(userId);
+        return registered != null && registered.getId().equals(session.getId()) ? registered : session;
+    }
+    
+    /**
+     * 사용자 세션의 송신 대기 프레임 수 조회
+     * 
+     * @param userId 사용자 ID
+     * @return 대기 프레임 수, 등록된 세션이 없으면 -1
+     */
+    public int getOutboundQueueDepth(String userId) {
+        WebSocketSession session = userToSession.get(userId);
+        return session instanceof OutboundQueueSession outbound ? outbound.getQueueDepth() : -1;
+    }
+    
     /**
      * 세션의 사용자 ID 조회
      * 
@@ -137,15 +251,14 @@ public class WebSocketSessionManager {
     
     /**
      * 방의 모든 사용자 ID 조회
+     * 방 인덱스의 읽기 전용 뷰를 반환 (복사 없음)
      * 
      * @param roomId 방 ID
      * @return 사용자 ID 집합
      */
     public Set<String> getUsersInRoom(String roomId) {
-        return userToRoom.entrySet().stream()
-                .filter(entry -> roomId.equals(entry.getValue()))
-                .map(entry -> entry.getKey())
-                .collect(Collectors.toSet());
+        Map<String, WebSocketSession> sessions = roomToSessions.get(roomId);
+        return sessions != null ? Collections.unmodifiableSet(sessions.keySet()) : Set.of();
     }
     
     /**
@@ -155,12 +268,53 @@ public class WebSocketSessionManager {
      * @return 활성 WebSocket 세션 집합
      */
     public Set<WebSocketSession> getActiveSessionsInRoom(String roomId) {
-        return getUsersInRoom(roomId).stream()
-                .map(userToSession::get)
-                .filter(session -> session != null && session.isOpen())
+        Map<String, WebSocketSession> sessions = roomToSessions.get(roomId);
+        if (sessions == null) {
+            return Set.of();
+        }
+        return sessions.values().stream()
+                .filter(WebSocketSession::isOpen)
                 .collect(Collectors.toSet());
     }
     
+    /**
+     * 방의 활성 세션 순회 (브로드캐스트용)
+     * 중간 컬렉션을 만들지 않고 방 인덱스를 직접 순회 - 비용은 O(방 인원 수)
+     * 
+     * @param roomId 방 ID
+     * @param action (사용자 ID, 세션) 콜백
+     */
+    public void forEachSessionInRoom(String roomId, BiConsumer<String, WebSocketSession> action) {
+        Map<String, WebSocketSession> sessions = roomToSessions.get(roomId);
+        if (sessions == null) {
+            return;
+        }
+        sessions.forEach((userId, session) -> {
+            if (session.isOpen()) {
+                action.accept(userId, session);
+            }
+        });
+    }
+    
+    /**
+     * 방의 로컬 세션 수 조회
+     * 
+     * @param roomId 방 ID
+     * @return 방 인덱스에 등록된 세션 수
+     */
+    public int getSessionCountInRoom(String roomId) {
+        Map<String, WebSocketSession> sessions = roomToSessions.get(roomId);
+        return sessions != null ? sessions.size() : 0;
+    }
+    
+    /**
+     * 방 인덱스에 남아 있는 방 수 (모니터링/테스트용)
+     * 마지막 세션이 빠진 방은 엔트리째 제거되므로 로컬 세션이 있는 방 수와 같음
+     */
+    public int getIndexedRoomCount() {
+        return roomToSessions.size();
+    }
+    
     /**
      * 모든 활성 사용자 ID 조회
      * 
@@ -205,6 +359,34 @@ public class WebSocketSessionManager {
         return cleanupCount;
     }
     
+    /**
+     * 방 인덱스에 세션 추가
+     */
+    private void indexSession(String roomId, String userId, WebSocketSession session) {
+        if (roomId == null) {
+            return;
+        }
+        roomToSessions.compute(roomId, (id, sessions) -> {
+            ConcurrentMap<String, WebSocketSession> target = sessions != null ? sessions : new ConcurrentHashMap<>();
+            target.put(userId, session);
+            return target;
+        });
+    }
+    
+    /**
+     * 방 인덱스에서 세션 제거
+     * 마지막 세션이 빠지면 방 엔트리도 함께 제거
+     */
+    private void unindexSession(String roomId, String userId, WebSocketSession session) {
+        if (roomId == null || session == null) {
+            return;
+        }
+        roomToSessions.computeIfPresent(roomId, (id, sessions) -> {
+            sessions.remove(userId, session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+    
     /**
      * 현재 세션 통계 조회
      * 
@@ -219,6 +401,14 @@ public class WebSocketSessionManager {
         return new SessionStats(totalSessions, activeSessions);
     }
     
+    /**
+     * 송신 드레인 실행기 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        outboundExecutor.shutdown();
+    }
+    
     /**
      * 세션 통계 정보 클래스
      */
@@ -1,5 +1,6 @@
 package com.c2c.c2c.infrastructure.adapter.in.websocket.protocol;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -13,6 +14,7 @@ import java.util.List;
  * - additionalPlan.txt: "메시지 JSON, 프로토콜 이벤트 이름 정합: t 필드 포함"
  * - 클라이언트-서버 간 모든 메시지 타입을 하나의 클래스로 표현
  * - Jackson 어노테이션으로 JSON 직렬화/역직렬화 최적화
+ * - 수신 프레임은 ProtocolParser가 스트리밍으로 직접 채움 (타입 조회 결과도 함께 보관)
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class C2CMessage {
@@ -102,6 +104,12 @@ public class C2CMessage {
     @JsonProperty("retryAfterMs")
     private Integer retryAfterMs;
     
+    /**
+     * 조회된 메시지 타입 (직렬화 제외, type 문자열에서 한 번만 조회)
+     */
+    @JsonIgnore
+    private MessageType messageType;
+    
     // === 생성자 ===
     
     public C2CMessage() {
@@ -110,6 +118,7 @@ public class C2CMessage {
     
     public C2CMessage(MessageType type) {
         this.type = type.getValue();
+        this.messageType = type;
     }
     
     public C2CMessage(String type) {
@@ -215,7 +224,21 @@ public class C2CMessage {
     // === Getter/Setter ===
     
     public String getType() { return type; }
-    public void setType(String type) { this.type = type; }
+    public void setType(String type) {
+        this.type = type;
+        this.messageType = null;
+    }
+    
+    /**
+     * 메시지 타입 (알 수 없는 값이면 null)
+     */
+    @JsonIgnore
+    public MessageType getMessageType() {
+        if (messageType == null) {
+            messageType = MessageType.lookup(type);
+        }
+        return messageType;
+    }
     
     public String getRoomId() { return roomId; }
     public void setRoomId(String roomId) { this.roomId = roomId; }
@@ -0,0 +1,63 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket.protocol;
+
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * 한 번 직렬화된 WebSocket 전송 프레임
+ *
+ * 설계 근거:
+ * - 브로드캐스트 시 수신자마다 Jackson 직렬화/TextMessage 생성을 반복하지 않도록 인코딩 결과를 공유
+ * - 불변 객체: TextMessage 페이로드(문자열/UTF-8 바이트)가 고정되어 여러 세션에서 동시에 재사용 가능
+ * - 바이트 크기와 휘발성 여부를 미리 계산해 두어 송신 큐에서 재계산하지 않음
+ */
+public final class EncodedMessage {
+
+    private final String type;
+    private final TextMessage textMessage;
+    private final int sizeBytes;
+    private final boolean ephemeral;
+
+    EncodedMessage(MessageType type, byte[] payload) {
+        // byte[] 생성자: UTF-8 바이트를 그대로 보관하여 asBytes() 호출 시 재인코딩 없음
+        this(type.getValue(), new TextMessage(payload), payload.length, type.isEphemeral());
+    }
+
+    private EncodedMessage(String type, TextMessage textMessage, int sizeBytes, boolean ephemeral) {
+        this.type = type;
+        this.textMessage = textMessage;
+        this.sizeBytes = sizeBytes;
+        this.ephemeral = ephemeral;
+    }
+
+    /**
+     * 이미 만들어진 TextMessage를 프레임으로 감싸기 (휘발성 아님으로 취급)
+     */
+    public static EncodedMessage wrap(TextMessage textMessage) {
+        return new EncodedMessage(null, textMessage, textMessage.getPayloadLength(), false);
+    }
+
+    /**
+     * 메시지 타입 ("t" 필드 값), wrap()으로 만든 경우 null
+     */
+    public String getType() { return type; }
+
+    /**
+     * 모든 수신자가 공유하는 전송 프레임
+     */
+    public TextMessage getTextMessage() { return textMessage; }
+
+    /**
+     * UTF-8 페이로드 크기 (바이트)
+     */
+    public int getSizeBytes() { return sizeBytes; }
+
+    /**
+     * 휘발성 프레임 여부 (pong, 입장/퇴장 알림)
+     */
+    public boolean isEphemeral() { return ephemeral; }
+
+    @Override
+    public String toString() {
+        return "EncodedMessage{type='" + type + "', sizeBytes=" + sizeBytes + ", ephemeral=" + ephemeral + '}';
+    }
+}
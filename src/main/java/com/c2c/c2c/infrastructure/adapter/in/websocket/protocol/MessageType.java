@@ -1,5 +1,8 @@
 package com.c2c.c2c.infrastructure.adapter.in.websocket.protocol;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * WebSocket 메시지 타입 열거형
  * 
@@ -7,6 +10,7 @@ package com.c2c.c2c.infrastructure.adapter.in.websocket.protocol;
  * - 명세서 WebSocket 프로토콜 "t" 필드 값들 정의
  * - additionalPlan.txt: "메시지 JSON, 프로토콜 이벤트 이름 정합: t 필드 포함"
  * - 클라이언트와 서버 간 프로토콜 일관성 보장
+ * - "t" 값 조회는 값→타입 맵으로 상수 시간 (프레임마다 values() 배열 복사/순회 없음)
  */
 public enum MessageType {
     
@@ -74,6 +78,15 @@ public enum MessageType {
      */
     ERROR("error");
     
+    // "t" 값 → 타입
+    private static final Map<String, MessageType> BY_VALUE = new HashMap<>();
+    
+    static {
+        for (MessageType type : values()) {
+            BY_VALUE.put(type.value, type);
+        }
+    }
+    
     private final String value;
     
     MessageType(String value) {
@@ -88,12 +101,18 @@ public enum MessageType {
      * 문자열 값으로 MessageType 조회
      */
     public static MessageType fromValue(String value) {
-        for (MessageType type : values()) {
-            if (type.value.equals(value)) {
-                return type;
-            }
+        MessageType type = lookup(value);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown message type: " + value);
         }
-        throw new IllegalArgumentException("Unknown message type: " + value);
+        return type;
+    }
+    
+    /**
+     * 문자열 값으로 MessageType 조회 (예외 없이, 없으면 null)
+     */
+    public static MessageType lookup(String value) {
+        return value != null ? BY_VALUE.get(value) : null;
     }
     
     /**
@@ -109,4 +128,12 @@ public enum MessageType {
     public boolean isServerToClient() {
         return !isClientToServer();
     }
+    
+    /**
+     * 휘발성 메시지 타입인지 확인
+     * 유실되어도 다음 이벤트로 복구 가능한 프레임 (느린 소비자 송신 큐에서 우선 폐기 대상)
+     */
+    public boolean isEphemeral() {
+        return this == PONG || this == USER_JOINED || this == USER_LEFT;
+    }
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package com.c2c.c2c.infrastructure.adapter.in.websocket.protocol;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+
 /**
  * WebSocket 프로토콜 JSON 파서
  * 
@@ -14,6 +19,8 @@ import org.springframework.stereotype.Component;
  * - additionalPlan.txt: "메시지 JSON, 프로토콜 이벤트 이름 정합" - JSON 직렬화/역직렬화
  * - 단일 책임 원칙: 프로토콜 변환만 담당, 비즈니스 로직은 핸들러에서 처리
  * - 에러 처리: 잘못된 JSON이나 프로토콜 형식에 대한 안전한 처리
+ * - 수신 파싱은 databind 대신 스트리밍 토큰 파서: 프레임마다 C2CMessage 전체 바인딩/리플렉션 없이
+ *   타입에 필요한 필드만 디코딩 (알 수 없는 필드 거부 여부는 ObjectMapper 설정을 따름)
  */
 @Component
 public class ProtocolParser {
@@ -21,47 +28,118 @@ public class ProtocolParser {
     private static final Logger logger = LoggerFactory.getLogger(ProtocolParser.class);
     
     private final ObjectMapper objectMapper;
+    private final boolean failOnUnknownFields;
     
     public ProtocolParser(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        this.failOnUnknownFields = objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
     }
     
     /**
      * JSON 문자열을 WebSocketMessage 객체로 파싱
+     * 토큰 단위로 읽으며 "t"로 정한 타입에 필요한 필드(roomId/token/text)만 문자열로 만들고 나머지는 건너뜀
+     * ("t"가 뒤에 오면 후보 필드를 읽어 두었다가 타입이 정해진 뒤 버림)
      * 
      * @param json JSON 문자열
      * @return 파싱된 WebSocketMessage 객체
      * @throws ProtocolParseException 파싱 실패 시
      */
     public C2CMessage parse(String json) throws ProtocolParseException {
-        try {
-            if (json == null || json.trim().isEmpty()) {
-                throw new ProtocolParseException("빈 메시지입니다");
+        if (json == null || json.isBlank()) {
+            throw new ProtocolParseException("빈 메시지입니다");
+        }
+        
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ProtocolParseException("JSON 파싱 실패: 메시지는 JSON 객체여야 합니다");
             }
             
-            C2CMessage message = objectMapper.readValue(json, C2CMessage.class);
+            String typeValue = null;
+            MessageType type = null;
+            String roomId = null;
+            String token = null;
+            String text = null;
+            
+            String field;
+            while ((field = parser.nextFieldName()) != null) {
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "t" -> {
+                        typeValue = readString(parser, value, field);
+                        type = MessageType.lookup(typeValue);
+                    }
+                    case "roomId" -> roomId = needsRoomId(type) ? readString(parser, value, field) : skip(parser);
+                    case "token" -> token = needsToken(type) ? readString(parser, value, field) : skip(parser);
+                    case "text" -> text = needsText(type) ? readString(parser, value, field) : skip(parser);
+                    case "me", "members", "userId", "from", "code", "message", "retryAfterMs" -> skip(parser);
+                    default -> {
+                        if (failOnUnknownFields) {
+                            throw new ProtocolParseException("JSON 파싱 실패: 알 수 없는 필드: " + field);
+                        }
+                        skip(parser);
+                    }
+                }
+            }
             
             // 필수 필드 검증
-            if (message.getType() == null || message.getType().trim().isEmpty()) {
+            if (typeValue == null || typeValue.isBlank()) {
                 throw new ProtocolParseException("메시지 타입(t)이 없습니다");
             }
             
             // 메시지 타입 유효성 검증
-            try {
-                MessageType.fromValue(message.getType());
-            } catch (IllegalArgumentException e) {
-                throw new ProtocolParseException("알 수 없는 메시지 타입: " + message.getType());
+            if (type == null) {
+                throw new ProtocolParseException("알 수 없는 메시지 타입: " + typeValue);
             }
             
+            C2CMessage message = new C2CMessage(type);
+            message.setRoomId(needsRoomId(type) ? roomId : null);
+            message.setToken(needsToken(type) ? token : null);
+            message.setText(needsText(type) ? text : null);
+            
             logger.debug("Parsed WebSocket message: {}", message);
             return message;
             
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             logger.warn("Failed to parse WebSocket JSON: {}", json, e);
             throw new ProtocolParseException("JSON 파싱 실패: " + e.getMessage(), e);
         }
     }
     
+    // 타입별 필요한 필드 (타입이 아직 정해지지 않았으면 읽어 둠)
+    private static boolean needsRoomId(MessageType type) {
+        return type == null || type == MessageType.JOIN || type == MessageType.MSG || type == MessageType.LEAVE;
+    }
+    
+    private static boolean needsToken(MessageType type) {
+        return type == null || type == MessageType.JOIN;
+    }
+    
+    private static boolean needsText(MessageType type) {
+        return type == null || type == MessageType.MSG;
+    }
+    
+    /**
+     * 현재 값을 문자열로 읽기 (숫자/불리언은 문자열로 변환, 객체/배열은 거부)
+     */
+    private static String readString(JsonParser parser, JsonToken value, String field)
+            throws IOException, ProtocolParseException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value == null || !value.isScalarValue()) {
+            throw new ProtocolParseException("JSON 파싱 실패: " + field + " 필드는 문자열이어야 합니다");
+        }
+        return parser.getValueAsString();
+    }
+    
+    /**
+     * 현재 값 건너뛰기 (문자열 값은 디코딩하지 않음)
+     */
+    private static String skip(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return null;
+    }
+    
     /**
      * WebSocketMessage 객체를 JSON 문자열로 변환
      * 
@@ -75,7 +153,7 @@ public class ProtocolParser {
                 throw new ProtocolSerializeException("null 메시지는 직렬화할 수 없습니다");
             }
             
-            if (message.getType() == null || message.getType().trim().isEmpty()) {
+            if (message.getType() == null || message.getType().isBlank()) {
                 throw new ProtocolSerializeException("메시지 타입(t)이 없습니다");
             }
             
@@ -89,6 +167,39 @@ public class ProtocolParser {
         }
     }
     
+    /**
+     * WebSocketMessage 객체를 전송 프레임으로 한 번만 인코딩
+     * 브로드캐스트 시 결과를 모든 수신자에게 재사용
+     * 
+     * @param message WebSocketMessage 객체
+     * @return 불변 전송 프레임
+     * @throws ProtocolSerializeException 직렬화 실패 시
+     */
+    public EncodedMessage encode(C2CMessage message) throws ProtocolSerializeException {
+        try {
+            if (message == null) {
+                throw new ProtocolSerializeException("null 메시지는 직렬화할 수 없습니다");
+            }
+            
+            if (message.getType() == null || message.getType().isBlank()) {
+                throw new ProtocolSerializeException("메시지 타입(t)이 없습니다");
+            }
+            
+            MessageType type = message.getMessageType();
+            if (type == null) {
+                throw new ProtocolSerializeException("알 수 없는 메시지 타입: " + message.getType());
+            }
+            
+            byte[] payload = objectMapper.writeValueAsBytes(message);
+            logger.debug("Encoded WebSocket message: type={}, bytes={}", message.getType(), payload.length);
+            return new EncodedMessage(type, payload);
+            
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to encode WebSocket message: {}", message, e);
+            throw new ProtocolSerializeException("JSON 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+    
     /**
      * 안전한 파싱 (예외 발생하지 않음)
      * 파싱 실패 시 null 반환
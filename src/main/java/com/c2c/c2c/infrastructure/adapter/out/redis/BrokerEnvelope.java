@@ -0,0 +1,39 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.model.Message;
+
+import java.time.Instant;
+
+/**
+ * 노드 간 팬아웃용 브로커 메시지 봉투
+ *
+ * 설계 근거:
+ * - 명세서 "확장 고려 요구사항 - Envelope 스키마 고정"
+ * - nodeId: 발행 노드가 자기 메시지를 다시 받아 중복 전달하지 않도록 필터링
+ * - ingressEpochMs: 발행 노드가 WebSocket 프레임을 받은 시각(Message.ingressTime, UTC 기준 epoch)
+ *   → 수신 노드가 로컬 팬아웃을 마친 뒤 전달 지연 측정 (노드 간 시계 동기화 전제)
+ */
+public record BrokerEnvelope(
+        String nodeId,
+        String messageId,
+        String roomId,
+        String fromUserId,
+        String text,
+        long ingressEpochMs
+) {
+
+    /**
+     * 도메인 메시지를 봉투로 감싸기
+     */
+    public static BrokerEnvelope of(String nodeId, Message message) {
+        return new BrokerEnvelope(nodeId, message.getMessageId(), message.getRoomId(),
+                message.getFromUserId(), message.getText(), message.getIngressTime().toEpochMilli());
+    }
+
+    /**
+     * 수신 노드에서 도메인 메시지로 복원
+     */
+    public Message toMessage() {
+        return new Message(messageId, null, roomId, fromUserId, text, Instant.ofEpochMilli(ingressEpochMs));
+    }
+}
@@ -0,0 +1,116 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.cluster.pubsub.RedisClusterPubSubAdapter;
+import io.lettuce.core.cluster.pubsub.StatefulRedisClusterPubSubConnection;
+import io.lettuce.core.codec.StringCodec;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 클러스터 키이벤트 구독 (c2c.redis.topology=cluster일 때만)
+ *
+ * 설계 근거:
+ * - 키스페이스/키이벤트 알림은 키가 있는 샤드에서만 발행되고 클러스터 버스로 전파되지 않음
+ *   → 리스너 컨테이너의 구독 연결(노드 1개)로는 다른 샤드의 프레즌스 만료를 놓침
+ * - Lettuce 클러스터 Pub/Sub 연결로 모든 마스터 노드에 PSUBSCRIBE, 노드별 메시지를 리스너 하나로 모음
+ * - 리스너에는 리스너 컨테이너와 같은 Message 형식으로 전달 (구독자 코드는 토폴로지와 무관)
+ * - 구독 시점의 마스터 노드 기준: 리샤딩으로 추가된 마스터는 재시작 후 구독
+ */
+@Component
+@ConditionalOnProperty(prefix = "c2c.redis", name = "topology", havingValue = "cluster")
+public class ClusterKeyEvents {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterKeyEvents.class);
+
+    private final RedisConnectionFactory connectionFactory;
+    private final Map<String, List<MessageListener>> listeners = new ConcurrentHashMap<>();
+
+    private StatefulRedisClusterPubSubConnection<String, String> connection;
+
+    public ClusterKeyEvents(RedisConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * 모든 마스터 노드에 패턴 구독
+     */
+    public synchronized void psubscribe(String pattern, MessageListener listener) {
+        List<MessageListener> patternListeners = listeners.computeIfAbsent(pattern, key -> new CopyOnWriteArrayList<>());
+        patternListeners.add(listener);
+        if (patternListeners.size() == 1) {
+            connection().sync().upstream().commands().psubscribe(pattern);
+            logger.info("Subscribed to key events on all cluster masters: {}", pattern);
+        }
+    }
+
+    public synchronized void punsubscribe(String pattern, MessageListener listener) {
+        List<MessageListener> patternListeners = listeners.get(pattern);
+        if (patternListeners == null || !patternListeners.remove(listener) || !patternListeners.isEmpty()) {
+            return;
+        }
+        listeners.remove(pattern);
+        if (connection != null && connection.isOpen()) {
+            connection.sync().upstream().commands().punsubscribe(pattern);
+        }
+    }
+
+    private StatefulRedisClusterPubSubConnection<String, String> connection() {
+        if (connection != null) {
+            return connection;
+        }
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuceFactory)) {
+            throw new IllegalStateException("Cluster key events require a LettuceConnectionFactory");
+        }
+        AbstractRedisClient client = lettuceFactory.getNativeClient();
+        if (!(client instanceof RedisClusterClient clusterClient)) {
+            throw new IllegalStateException("Cluster key events require a Redis cluster client: " + client);
+        }
+
+        connection = clusterClient.connectPubSub(StringCodec.UTF8);
+        // 노드별 구독 연결에서 받은 메시지를 이 연결의 리스너로 전달
+        connection.setNodeMessagePropagation(true);
+        connection.addListener(new RedisClusterPubSubAdapter<>() {
+            @Override
+            public void message(RedisClusterNode node, String pattern, String channel, String message) {
+                dispatch(pattern, channel, message);
+            }
+        });
+        return connection;
+    }
+
+    private void dispatch(String pattern, String channel, String message) {
+        List<MessageListener> patternListeners = listeners.get(pattern);
+        if (patternListeners == null) {
+            return;
+        }
+        DefaultMessage redisMessage = new DefaultMessage(
+                channel.getBytes(StandardCharsets.UTF_8), message.getBytes(StandardCharsets.UTF_8));
+        byte[] rawPattern = pattern.getBytes(StandardCharsets.UTF_8);
+        for (MessageListener listener : patternListeners) {
+            listener.onMessage(redisMessage, rawPattern);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.KeyLayout;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * 이전 형식 키 이전 (c2c.redis.migrate-legacy-keys=true일 때만)
+ *
+ * 설계 근거:
+ * - key-layout을 legacy → tagged로 바꾸면 노드는 room:{id}:members만 읽으므로
+ *   이전 형식 키(room:id:members)에 남은 방/프레즌스가 보이지 않음 → 시작 시 한 번 태그 키로 옮김
+ * - 멤버 SET은 태그 키와 합친 뒤(SUNIONSTORE) 이전 키 삭제: 전환 중 태그 키에 먼저 입장한 멤버도 보존
+ * - 빈 방 표시/프레즌스/세션은 RENAMENX (TTL 유지), 태그 키가 이미 있으면 더 최신이므로 이전 키만 삭제
+ * - 방 스트림은 옮기지 않음: MAXLEN으로 잘리는 전달 버퍼이고 구독은 새 항목부터 읽음
+ * - 키 SCAN이므로 여러 번 실행해도 결과가 같음 (옮길 키가 없으면 아무것도 하지 않음)
+ * - LEGACY 형식이면 옮길 대상이 없으므로 건너뜀, CLUSTER는 LEGACY를 허용하지 않으므로 이전 키가 생기지 않음
+ *   (RENAME은 같은 슬롯 키끼리만 가능하므로 클러스터에서는 실행하지 않음)
+ */
+@Component
+@ConditionalOnProperty(prefix = "c2c.redis", name = "migrate-legacy-keys", havingValue = "true")
+public class LegacyKeyMigrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LegacyKeyMigrator.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeys keys;
+    private final C2CProperties.Redis redis;
+
+    public LegacyKeyMigrator(RedisTemplate<String, String> redisTemplate, RedisKeys keys, C2CProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.keys = keys;
+        this.redis = properties.getRedis();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (keys.layout() != KeyLayout.TAGGED || redis.getTopology() == C2CProperties.Redis.Topology.CLUSTER) {
+            logger.info("Legacy key migration skipped: layout={}, topology={}", keys.layout(), redis.getTopology());
+            return;
+        }
+        int migrated = migrate();
+        logger.info("Legacy key migration finished: keys={}", migrated);
+    }
+
+    /**
+     * 이전 형식 방/사용자 키를 태그 키로 옮김
+     *
+     * @return 옮긴(또는 태그 키가 있어 삭제한) 이전 형식 키 수
+     */
+    public int migrate() {
+        int migrated = 0;
+        migrated += migrate(RedisKeys.roomMembersPattern(),
+                key -> keys.roomMembers(RedisKeys.roomIdFromMembersKey(key)), true);
+        migrated += migrate(RedisKeys.roomEmptyMarkerPattern(),
+                key -> keys.roomEmptyMarker(RedisKeys.roomIdFromEmptyMarkerKey(key)), false);
+        migrated += migrate(RedisKeys.presencePattern(),
+                key -> keys.presence(RedisKeys.userIdFromPresenceKey(key)), false);
+        migrated += migrate(RedisKeys.sessionPattern(),
+                key -> keys.session(RedisKeys.userIdFromSessionKey(key)), false);
+        return migrated;
+    }
+
+    private int migrate(String pattern, UnaryOperator<String> taggedKey, boolean mergeSet) {
+        // SCAN 중 키를 지우면 커서가 흔들릴 수 있으므로 대상 목록을 먼저 모음
+        List<String> legacyKeys;
+        try (Stream<String> scanned = RedisScanSupport.scanKeys(redisTemplate, pattern, redis.getScanCount())) {
+            legacyKeys = scanned.filter(RedisKeys::isLegacyKey).toList();
+        }
+        for (String legacyKey : legacyKeys) {
+            String target = taggedKey.apply(legacyKey);
+            if (mergeSet) {
+                redisTemplate.opsForSet().unionAndStore(target, legacyKey, target);
+                redisTemplate.delete(legacyKey);
+            } else {
+                try {
+                    if (!Boolean.TRUE.equals(redisTemplate.renameIfAbsent(legacyKey, target))) {
+                        redisTemplate.delete(legacyKey);
+                    }
+                } catch (RedisSystemException e) {
+                    // SCAN 이후 TTL로 이전 키가 사라진 경우 (RENAMENX "no such key") → 옮길 것 없음
+                    logger.debug("Legacy key expired before migration: key={}", legacyKey);
+                }
+            }
+        }
+        return legacyKeys.size();
+    }
+}
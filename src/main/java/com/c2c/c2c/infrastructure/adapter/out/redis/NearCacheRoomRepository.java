@@ -0,0 +1,295 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.model.Room;
+import com.c2c.c2c.domain.port.out.AsyncRoomRepository;
+import com.c2c.c2c.domain.port.out.ReadConsistency;
+import com.c2c.c2c.domain.port.out.RoomRepository;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+/**
+ * 방 존재/멤버 근접 캐시 (RoomRedisRepository 데코레이터)
+ *
+ * 설계 근거:
+ * - 페이지 진입(exists), 메시지 전송(findById) 등 요청마다 반복되는 방 조회를 노드 로컬 캐시로 처리
+ * - 쓰기(입장/퇴장/멤버 변경/TTL)는 RoomRedisRepository에 위임한 뒤 로컬 항목 제거 + 무효화 채널 발행
+ *   → 모든 노드가 기존 리스너 컨테이너로 같은 방 항목 제거
+ * - Redis 클라이언트 측 캐싱(RESP3 tracking)은 LettuceConnectionFactory가 노출하지 않고 전용 연결이 필요해
+ *   같은 효과를 무효화 채널로 구현
+ * - 무효화 유실(구독 재연결 중, 빈 방 유예 키 만료 등)은 항목 최대 유지 시간으로 한정
+ * - 크기 제한/축출은 Caffeine, 적중률은 Micrometer 캐시 메트릭(c2c.room.near 태그) + 적중률 게이지
+ * - ReadConsistency.STRICT/REPLICA 조회는 캐시를 거치지 않음 (STRICT: 입장 허용/ID 중복 확인용)
+ * - 캐시 채우기는 항상 마스터에서 조회: 무효화는 마스터 쓰기 직후 발행되므로 복제본에서 채우면
+ *   복제 지연 구간의 이전 값이 다음 무효화(또는 항목 최대 유지 시간)까지 캐시됨
+ * - 비동기 포트도 같은 캐시 사용: 적중 시 즉시 완료, 미적중/입장은 RoomRedisAsyncRepository에 위임
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(prefix = "c2c.room", name = "near-cache", havingValue = "true", matchIfMissing = true)
+public class NearCacheRoomRepository implements RoomRepository, AsyncRoomRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheRoomRepository.class);
+
+    private final RoomRedisRepository delegate;
+    private final RoomRedisAsyncRepository asyncDelegate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic invalidationTopic = new ChannelTopic(RedisKeys.roomInvalidationChannel());
+    private final MessageListener invalidationListener;
+
+    private final Cache<String, RoomSnapshot> rooms;
+
+    public NearCacheRoomRepository(RoomRedisRepository delegate,
+                                   RoomRedisAsyncRepository asyncDelegate,
+                                   RedisTemplate<String, String> redisTemplate,
+                                   RedisMessageListenerContainer listenerContainer,
+                                   RedisListenerDispatcher dispatcher,
+                                   C2CProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.asyncDelegate = asyncDelegate;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.invalidationListener = dispatcher.control(this::onInvalidation);
+
+        C2CProperties.Room room = properties.getRoom();
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(room.getNearCacheMaxRooms())
+                .expireAfterWrite(Duration.ofMillis(room.getNearCacheTtlMs()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, rooms, "c2c.room.near");
+        Gauge.builder("c2c.room.near_cache.hit_ratio", rooms, cache -> cache.stats().hitRate())
+                .description("Room near cache hit ratio since startup")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribeInvalidations() {
+        listenerContainer.addMessageListener(invalidationListener, invalidationTopic);
+        logger.info("Room near cache enabled: invalidation channel={}", invalidationTopic.getTopic());
+    }
+
+    @PreDestroy
+    public void unsubscribeInvalidations() {
+        listenerContainer.removeMessageListener(invalidationListener, invalidationTopic);
+    }
+
+    // === 조회: 근접 캐시 ===
+
+    @Override
+    public Optional<Room> findById(String roomId) {
+        RoomSnapshot snapshot = snapshot(roomId);
+        if (!snapshot.exists()) {
+            return Optional.empty();
+        }
+        Room room = new Room(roomId);
+        snapshot.members().forEach(room::addMember);
+        return Optional.of(room);
+    }
+
+    @Override
+    public Set<String> getMembers(String roomId) {
+        return getMembers(roomId, ReadConsistency.CACHED);
+    }
+
+    @Override
+    public Set<String> getMembers(String roomId, ReadConsistency consistency) {
+        if (consistency != ReadConsistency.CACHED) {
+            return delegate.getMembers(roomId, consistency);
+        }
+        return snapshot(roomId).members();
+    }
+
+    @Override
+    public boolean exists(String roomId) {
+        return exists(roomId, ReadConsistency.CACHED);
+    }
+
+    @Override
+    public boolean exists(String roomId, ReadConsistency consistency) {
+        if (consistency != ReadConsistency.CACHED) {
+            return delegate.exists(roomId, consistency);
+        }
+        return snapshot(roomId).exists();
+    }
+
+    // === 쓰기: 위임 후 무효화 ===
+
+    @Override
+    public Room save(Room room) {
+        return delegate.save(room);
+    }
+
+    @Override
+    public void delete(String roomId) {
+        delegate.delete(roomId);
+        invalidate(roomId);
+    }
+
+    @Override
+    public boolean create(String roomId, String creatorId, long presenceTtlSec) {
+        boolean created = delegate.create(roomId, creatorId, presenceTtlSec);
+        if (created) {
+            invalidate(roomId);
+        }
+        return created;
+    }
+
+    @Override
+    public JoinResult join(String roomId, String userId, int maxMembers, long presenceTtlSec) {
+        JoinResult result = delegate.join(roomId, userId, maxMembers, presenceTtlSec);
+        if (result.status() == JoinResult.Status.JOINED) {
+            invalidate(roomId);
+        }
+        return result;
+    }
+
+    @Override
+    public LeaveResult leave(String roomId, String userId, long emptyRoomTtlSec, boolean endPresence) {
+        LeaveResult result = delegate.leave(roomId, userId, emptyRoomTtlSec, endPresence);
+        if (result.removed()) {
+            invalidate(roomId);
+        }
+        return result;
+    }
+
+    @Override
+    public void addMember(String roomId, String userId) {
+        delegate.addMember(roomId, userId);
+        invalidate(roomId);
+    }
+
+    @Override
+    public void removeMember(String roomId, String userId) {
+        delegate.removeMember(roomId, userId);
+        invalidate(roomId);
+    }
+
+    @Override
+    public void setTTL(String roomId, int seconds) {
+        delegate.setTTL(roomId, seconds);
+        invalidate(roomId);
+    }
+
+    @Override
+    public void removeTTL(String roomId) {
+        delegate.removeTTL(roomId);
+        invalidate(roomId);
+    }
+
+    // === 정리 작업용 조회: 캐시 없이 위임 ===
+
+    @Override
+    public Set<String> findEmptyRooms() {
+        return delegate.findEmptyRooms();
+    }
+
+    @Override
+    public Stream<String> streamEmptyRooms() {
+        return delegate.streamEmptyRooms();
+    }
+
+    // === 비동기: 적중 시 즉시 완료, 미적중/입장은 비동기 위임 ===
+    
+    @Override
+    public CompletionStage<Set<String>> getMembersAsync(String roomId) {
+        return snapshotAsync(roomId).thenApply(RoomSnapshot::members);
+    }
+    
+    @Override
+    public CompletionStage<Boolean> existsAsync(String roomId) {
+        return snapshotAsync(roomId).thenApply(RoomSnapshot::exists);
+    }
+    
+    @Override
+    public CompletionStage<JoinResult> joinAsync(String roomId, String userId, int maxMembers, long presenceTtlSec) {
+        return asyncDelegate.joinAsync(roomId, userId, maxMembers, presenceTtlSec)
+                .thenApply(result -> {
+                    if (result.status() == JoinResult.Status.JOINED) {
+                        invalidate(roomId);
+                    }
+                    return result;
+                });
+    }
+    
+    /**
+     * 캐시된 방 수 (모니터링/테스트용)
+     */
+    public long getCachedRoomCount() {
+        rooms.cleanUp();
+        return rooms.estimatedSize();
+    }
+
+    private RoomSnapshot snapshot(String roomId) {
+        return rooms.get(roomId, this::load);
+    }
+
+    private CompletionStage<RoomSnapshot> snapshotAsync(String roomId) {
+        RoomSnapshot cached = rooms.getIfPresent(roomId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return asyncDelegate.getMembersAsync(roomId)
+                .thenCompose(members -> members.isEmpty()
+                        // 멤버가 없으면 빈 방 유예 중인지 추가 확인
+                        ? asyncDelegate.existsAsync(roomId).thenApply(exists -> new RoomSnapshot(exists, Set.of()))
+                        : CompletableFuture.completedFuture(new RoomSnapshot(true, Set.copyOf(members))))
+                .thenApply(snapshot -> {
+                    rooms.put(roomId, snapshot);
+                    return snapshot;
+                });
+    }
+    
+    private RoomSnapshot load(String roomId) {
+        // 무효화 직후 채우기이므로 마스터에서 조회 (복제본이면 무효화 전 값을 항목 최대 유지 시간 동안 캐시할 수 있음)
+        Set<String> members = Set.copyOf(delegate.getMembers(roomId, ReadConsistency.STRICT));
+        // 멤버가 없으면 빈 방 유예 중인지 추가 확인
+        boolean exists = !members.isEmpty() || delegate.exists(roomId, ReadConsistency.STRICT);
+        return new RoomSnapshot(exists, members);
+    }
+
+    private void invalidate(String roomId) {
+        rooms.invalidate(roomId);
+        try {
+            redisTemplate.convertAndSend(invalidationTopic.getTopic(), roomId);
+        } catch (Exception e) {
+            // 다른 노드는 항목 최대 유지 시간 내에 갱신됨
+            logger.warn("Failed to publish room cache invalidation: roomId={}", roomId, e);
+        }
+    }
+
+    private void onInvalidation(Message message, byte[] pattern) {
+        rooms.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 캐시 항목: 방 존재 여부 + 멤버 목록 (불변)
+     */
+    private record RoomSnapshot(boolean exists, Set<String> members) {}
+}
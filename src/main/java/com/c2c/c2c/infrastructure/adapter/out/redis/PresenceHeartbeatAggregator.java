@@ -0,0 +1,216 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.port.out.PresenceRefresher;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 단위 프레즌스 하트비트 합치기
+ *
+ * 설계 근거:
+ * - ping마다 SETEX 1회 → 연결 10만 / 10초 간격이면 하트비트만 초당 1만 명령
+ * - 짧은 주기(coalesceWindowMs) 동안 갱신 요청을 모아 일괄 전송
+ *   사용자별 c2c_heartbeat(프레즌스 SET EX + 세션 TTL 연장)를 응답 대기 없이 연속 전송하고 배치 끝에서 한 번 대기
+ * - 이 노드가 마지막으로 쓴 시각 기준 남은 TTL이 충분하면(Heartbeat.skipRefreshAboveTtlMs 초과) 갱신 생략
+ *   기본 기준은 2 × 간격 + 모아 쓰기 주기: 생략 후 ping 하나를 잃어도 그다음 ping이 만료 전에 기록됨
+ *   (TTL 30초 / 10초 간격이면 매번 기록, TTL 60초면 두 번에 한 번 기록)
+ * - 메트릭: 플러시 크기(summary), 요청→기록 지연(timer), 생략 수(counter)
+ */
+@Component
+public class PresenceHeartbeatAggregator implements PresenceRefresher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PresenceHeartbeatAggregator.class);
+
+    // 한 번에 전송하는 최대 하트비트 수
+    private static final int MAX_PIPELINE_BATCH = 1000;
+
+    private final RedisFunctions functions;
+    private final RedisKeys keys;
+    private final long presenceTtlSec;
+    private final long ttlNanos;
+    private final long skipAboveNanos;
+    private final LongSupplier nanoClock;
+
+    // 기록 대기: 사용자 ID → 최초 요청 시각(nanoTime)
+    private final ConcurrentMap<String, Long> pending = new ConcurrentHashMap<>();
+    // 이 노드가 마지막으로 기록한 시각(nanoTime), TTL이 지난 항목은 주기적으로 제거
+    private final ConcurrentMap<String, Long> lastWritten = new ConcurrentHashMap<>();
+    private volatile long lastSweepNanos;
+
+    // 비활성(coalesceWindowMs = 0)이면 null → 요청 스레드에서 즉시 기록
+    private final ScheduledExecutorService flusher;
+
+    private final DistributionSummary flushSize;
+    private final Timer flushLag;
+    private final Counter skippedCounter;
+
+    @Autowired
+    public PresenceHeartbeatAggregator(RedisFunctions functions,
+                                       RedisKeys keys,
+                                       C2CProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this(functions, keys, properties, meterRegistry, System::nanoTime);
+    }
+
+    PresenceHeartbeatAggregator(RedisFunctions functions,
+                                RedisKeys keys,
+                                C2CProperties properties,
+                                MeterRegistry meterRegistry,
+                                LongSupplier nanoClock) {
+        C2CProperties.Heartbeat heartbeat = properties.getHeartbeat();
+        this.functions = functions;
+        this.keys = keys;
+        this.nanoClock = nanoClock;
+        this.presenceTtlSec = heartbeat.getPresenceTtlSec();
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(presenceTtlSec);
+        this.skipAboveNanos = TimeUnit.MILLISECONDS.toNanos(heartbeat.skipRefreshAboveTtlMs());
+        this.lastSweepNanos = nanoClock.getAsLong();
+
+        this.flushSize = DistributionSummary.builder("c2c.presence.flush.size")
+                .description("Presence refreshes written per flush")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("c2c.presence.flush.lag")
+                .description("Oldest pending heartbeat age when its flush was written")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("c2c.presence.refresh.skipped")
+                .description("Heartbeats not written because the presence TTL was still long enough")
+                .register(meterRegistry);
+
+        long windowMs = heartbeat.getCoalesceWindowMs();
+        if (windowMs > 0) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("presence-flush").daemon(true).factory());
+            this.flusher.scheduleWithFixedDelay(this::flushSafely, windowMs, windowMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+        logger.info("Presence heartbeat aggregator: window={}ms, ttl={}s, skipAboveTtl={}ms",
+                windowMs, presenceTtlSec, heartbeat.skipRefreshAboveTtlMs());
+    }
+
+    /**
+     * 프레즌스 갱신 요청
+     * 남은 TTL이 충분하면 생략, 아니면 다음 플러시에 포함 (같은 사용자의 중복 요청은 1건으로 합침)
+     */
+    @Override
+    public void refresh(String userId) {
+        long now = nanoClock.getAsLong();
+        Long written = lastWritten.get(userId);
+        if (written != null && ttlNanos - (now - written) > skipAboveNanos) {
+            skippedCounter.increment();
+            return;
+        }
+
+        if (flusher == null) {
+            write(List.of(userId), now, now);
+            return;
+        }
+        pending.putIfAbsent(userId, now);
+    }
+
+    /**
+     * 대기 중인 갱신을 일괄 기록
+     */
+    public synchronized void flush() {
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<String> batch = new ArrayList<>(Math.min(pending.size(), MAX_PIPELINE_BATCH));
+        long oldest = now;
+        for (Iterator<Map.Entry<String, Long>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Long> entry = it.next();
+            it.remove();
+            batch.add(entry.getKey());
+            oldest = Math.min(oldest, entry.getValue());
+            if (batch.size() == MAX_PIPELINE_BATCH) {
+                write(batch, now, oldest);
+                batch = new ArrayList<>(MAX_PIPELINE_BATCH);
+                oldest = now;
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch, now, oldest);
+        }
+    }
+
+    /**
+     * 대기 중인 갱신 수
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 종료 시 남은 갱신 기록
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flushSafely();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.warn("Presence flush failed", e);
+        }
+    }
+
+    private void write(List<String> userIds, long now, long oldestRequest) {
+        String presenceTtl = String.valueOf(presenceTtlSec);
+        String sessionTtl = String.valueOf(UserRedisRepository.SESSION_TTL.toSeconds());
+        try {
+            List<CompletableFuture<Object>> writes = new ArrayList<>(userIds.size());
+            for (String userId : userIds) {
+                writes.add(functions.call(RedisFunction.HEARTBEAT, RoomRedisRepository.userKeys(keys, userId),
+                        presenceTtl, RedisKeys.PRESENCE_ONLINE_VALUE, sessionTtl).toCompletableFuture());
+            }
+            CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).join();
+        } catch (Exception e) {
+            // 기록 시각을 남기지 않으므로 다음 ping에서 다시 시도
+            logger.warn("Presence refresh failed: users={}", userIds.size(), e);
+            return;
+        }
+
+        for (String userId : userIds) {
+            lastWritten.put(userId, now);
+        }
+        flushSize.record(userIds.size());
+        flushLag.record(now - oldestRequest, TimeUnit.NANOSECONDS);
+    }
+
+    private void sweepIfDue(long now) {
+        if (now - lastSweepNanos < ttlNanos) {
+            return;
+        }
+        lastSweepNanos = now;
+        lastWritten.values().removeIf(written -> now - written > ttlNanos);
+    }
+}
@@ -0,0 +1,170 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.StringCodec;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 비동기 저장소용 Lettuce 연결
+ *
+ * 설계 근거:
+ * - RedisTemplate은 응답까지 호출 스레드를 점유 → 비동기 포트는 Lettuce 비동기 명령을 직접 사용
+ * - 팩토리의 RedisClient(같은 주소/인증/클라이언트 리소스)로 다중화 연결 1개를 열어 노드 전체가 공유
+ *   (명령은 응답을 기다리지 않고 연속 전송되므로 한 스레드가 많은 요청을 동시에 진행)
+ * - 결과는 Netty 이벤트 루프가 아닌 가상 스레드에서 완료 → 후속 단계에서 블로킹 호출(RedisTemplate 등)을 해도
+ *   이벤트 루프가 멈추지 않음
+ * - 연결은 첫 사용 시 생성 (팩토리 시작 이후)
+ * - 클러스터 팩토리면 클러스터 연결을 열어 키의 슬롯을 담당하는 노드로 명령별 라우팅
+ *   (스크립트/함수는 첫 번째 KEYS의 슬롯으로 전송되므로 KEYS는 같은 해시 태그만 사용)
+ */
+@Component
+public class RedisAsyncConnection {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisAsyncConnection.class);
+
+    private final RedisConnectionFactory connectionFactory;
+    private final ExecutorService completionExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("redis-async-", 0).factory());
+
+    private volatile StatefulConnection<String, String> connection;
+    private volatile RedisClusterAsyncCommands<String, String> commands;
+
+    public RedisAsyncConnection(RedisConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * 비동기 명령 실행
+     * 명령 전송 자체가 실패해도 예외를 던지지 않고 실패한 단계로 반환
+     *
+     * @param command 비동기 명령 (Lettuce RedisFuture 반환)
+     * @return 가상 스레드에서 완료되는 결과 단계
+     */
+    public <T> CompletionStage<T> execute(Function<RedisClusterAsyncCommands<String, String>, RedisFuture<T>> command) {
+        try {
+            return command.apply(commands()).whenCompleteAsync((result, error) -> { }, completionExecutor);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 스크립트 비동기 실행 (EVALSHA, 서버에 스크립트가 없으면 EVAL로 재시도)
+     * 함수 라이브러리를 쓸 수 없는 서버에서 RedisFunctions의 대체 경로로 사용
+     */
+    public <T> CompletionStage<T> eval(RedisScript<?> script, ScriptOutputType outputType,
+                                       List<String> keys, String... args) {
+        String[] keyArray = keys.toArray(String[]::new);
+        return this.<T>execute(commands -> commands.evalsha(script.getSha1(), outputType, keyArray, args))
+                .exceptionallyCompose(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof RedisNoScriptException) {
+                        return this.<T>execute(commands -> commands.eval(script.getScriptAsString(), outputType, keyArray, args));
+                    }
+                    return CompletableFuture.failedStage(cause);
+                });
+    }
+
+    /**
+     * 모든 마스터 노드에서 각각 실행 (함수 라이브러리 적재처럼 노드별 상태를 맞출 때)
+     * 단일 인스턴스/센티넬은 현재 마스터 1곳, 클러스터는 슬롯 배치 기준 마스터 전체
+     *
+     * @param command 노드 연결별 명령 (RedisFuture 또는 이어 붙인 단계)
+     * @return 노드별 결과 목록
+     */
+    public <T> CompletionStage<List<T>> executeOnUpstreams(
+            Function<RedisClusterAsyncCommands<String, String>, ? extends CompletionStage<T>> command) {
+        try {
+            List<RedisClusterAsyncCommands<String, String>> targets = new ArrayList<>();
+            RedisClusterAsyncCommands<String, String> shared = commands();
+            if (connection instanceof StatefulRedisClusterConnection<String, String> clusterConnection) {
+                for (RedisClusterNode node : clusterConnection.getPartitions()) {
+                    if (node.is(RedisClusterNode.NodeFlag.UPSTREAM)) {
+                        targets.add(clusterConnection.getConnection(node.getNodeId()).async());
+                    }
+                }
+            } else {
+                targets.add(shared);
+            }
+
+            List<CompletableFuture<T>> results = new ArrayList<>(targets.size());
+            for (RedisClusterAsyncCommands<String, String> target : targets) {
+                results.add(command.apply(target).toCompletableFuture());
+            }
+            return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                    .thenApplyAsync(ignored -> results.stream().map(CompletableFuture::join).toList(), completionExecutor);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private RedisClusterAsyncCommands<String, String> commands() {
+        RedisClusterAsyncCommands<String, String> current = commands;
+        if (current == null) {
+            synchronized (this) {
+                current = commands;
+                if (current == null) {
+                    current = connect();
+                    commands = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private RedisClusterAsyncCommands<String, String> connect() {
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuceFactory)) {
+            throw new IllegalStateException("Async repositories require a LettuceConnectionFactory");
+        }
+        AbstractRedisClient client = lettuceFactory.getNativeClient();
+        if (client instanceof RedisClusterClient clusterClient) {
+            logger.info("Opening async Redis cluster connection");
+            StatefulRedisClusterConnection<String, String> clusterConnection = clusterClient.connect(StringCodec.UTF8);
+            connection = clusterConnection;
+            return clusterConnection.async();
+        }
+        if (client instanceof RedisClient redisClient) {
+            // 단일 인스턴스/센티넬 (센티넬은 RedisClient가 현재 마스터로 연결)
+            logger.info("Opening async Redis connection");
+            StatefulRedisConnection<String, String> redisConnection = redisClient.connect(StringCodec.UTF8);
+            connection = redisConnection;
+            return redisConnection.async();
+        }
+        throw new IllegalStateException("Unsupported Redis client for async repositories: " + client);
+    }
+
+    @PreDestroy
+    public void close() {
+        StatefulConnection<String, String> current = connection;
+        if (current != null) {
+            current.close();
+        }
+        completionExecutor.shutdown();
+    }
+}
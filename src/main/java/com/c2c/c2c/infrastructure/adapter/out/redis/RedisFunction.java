@@ -0,0 +1,180 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import io.lettuce.core.ScriptOutputType;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * c2c Redis 함수 라이브러리의 함수 목록 (Redis 7 Functions)
+ *
+ * 설계 근거:
+ * - 여러 단계로 이뤄진 방/사용자 연산을 서버 측 함수로 묶어 1회 왕복 + 원자적으로 처리
+ * - 함수 본문은 라이브러리(FUNCTION LOAD)와 대체 스크립트(EVALSHA)가 공유
+ *   본문은 keys/args 지역 변수만 사용 → 라이브러리는 콜백 인자로, 스크립트는 KEYS/ARGV로 바인딩
+ * - KEYS는 모두 같은 해시 태그 (클러스터에서 첫 번째 키의 슬롯 노드로 전송)
+ * - 본문을 바꾸면 RedisFunctions.LIBRARY_VERSION을 올려 기동 시 라이브러리를 교체
+ */
+enum RedisFunction {
+
+    /**
+     * 라이브러리 버전 확인 (기동 시 적재 여부 판단)
+     */
+    VERSION("c2c_version", ScriptOutputType.INTEGER, true,
+            "return " + RedisFunctions.LIBRARY_VERSION),
+
+    /**
+     * 방 생성 (방이 없을 때만 생성자를 첫 멤버로 추가)
+     * KEYS: 방 멤버, 빈 방 표시, [프레즌스] / ARGV: 사용자 ID, 프레즌스 TTL, 프레즌스 값
+     * 반환: 1=생성, 0=이미 존재 (멤버가 있거나 빈 방 유예 중)
+     */
+    CREATE("c2c_create", ScriptOutputType.INTEGER, false, """
+            if redis.call('EXISTS', keys[1], keys[2]) > 0 then
+                return 0
+            end
+            redis.call('SADD', keys[1], args[1])
+            if #keys > 2 then
+                redis.call('SET', keys[3], args[3], 'EX', tonumber(args[2]))
+            end
+            return 1
+            """),
+
+    /**
+     * 방 입장 (존재 확인/정원/SADD/PERSIST/프레즌스/멤버 목록)
+     * KEYS: 방 멤버, 빈 방 표시, [프레즌스] / ARGV: 사용자 ID, 정원, 프레즌스 TTL, 프레즌스 값
+     * 반환: {상태(0=입장, -1=방 없음, -2=정원 초과), 입장 전 빈 방 여부(1/0), 멤버 목록}
+     */
+    JOIN("c2c_join", ScriptOutputType.MULTI, false, """
+            local roomKey = keys[1]
+            local emptyKey = keys[2]
+            local userId = args[1]
+            local maxMembers = tonumber(args[2])
+            local presenceTtl = tonumber(args[3])
+            local presenceValue = args[4]
+
+            -- 멤버가 있거나 빈 방 유예 기간 중인 방만 입장 가능
+            if redis.call('EXISTS', roomKey) == 0 and redis.call('EXISTS', emptyKey) == 0 then
+                return {-1, 0, {}}
+            end
+
+            local before = redis.call('SCARD', roomKey)
+            if redis.call('SISMEMBER', roomKey, userId) == 0 then
+                -- 신규 멤버만 정원 검사 (재입장은 자리 차지 중)
+                if maxMembers > 0 and before >= maxMembers then
+                    return {-2, 0, redis.call('SMEMBERS', roomKey)}
+                end
+                redis.call('SADD', roomKey, userId)
+            end
+
+            -- 재입장 시 빈 방 TTL/유예 표시 해제 + 프레즌스 갱신
+            redis.call('PERSIST', roomKey)
+            redis.call('DEL', emptyKey)
+            if #keys > 2 then
+                redis.call('SET', keys[3], presenceValue, 'EX', presenceTtl)
+            end
+
+            local wasEmpty = 0
+            if before == 0 then
+                wasEmpty = 1
+            end
+            return {0, wasEmpty, redis.call('SMEMBERS', roomKey)}
+            """),
+
+    /**
+     * 방 퇴장 (SREM/프레즌스·세션 삭제/빈 방 유예 표시/남은 멤버 목록)
+     * KEYS: 방 멤버, 빈 방 표시, [프레즌스, 세션] / ARGV: 사용자 ID, 빈 방 유예 TTL
+     * 마지막 멤버 SREM 시 SET이 삭제되므로 빈 방 유예 기간은 표시 키의 TTL로 설정
+     * 반환: {제거 여부(1/0), 빈 방 전이 여부(1/0), 남은 멤버 목록}
+     */
+    LEAVE("c2c_leave", ScriptOutputType.MULTI, false, """
+            local roomKey = keys[1]
+            local emptyKey = keys[2]
+            local userId = args[1]
+            local ttl = tonumber(args[2])
+
+            -- 멤버 제거
+            local removed = redis.call('SREM', roomKey, userId)
+
+            -- 사용자 프레즌스/세션 정리
+            if #keys > 2 then
+                redis.call('DEL', keys[3], keys[4])
+            end
+
+            -- 실제로 제거해서 빈 방이 된 경우에만 유예 TTL 설정
+            local members = redis.call('SMEMBERS', roomKey)
+            local emptied = 0
+            if removed == 1 and #members == 0 then
+                redis.call('SET', emptyKey, '1', 'EX', ttl)
+                emptied = 1
+            end
+            return {removed, emptied, members}
+            """),
+
+    /**
+     * 하트비트 (프레즌스 갱신 + 세션 TTL 연장)
+     * KEYS: 프레즌스, 세션 / ARGV: 프레즌스 TTL, 프레즌스 값, 세션 TTL
+     * 프레즌스/세션이 모두 없으면(퇴장으로 삭제됐거나 이미 만료) 기록하지 않음
+     *   → 퇴장 직후 도착한 ping이나 늦게 플러시된 갱신이 떠난 사용자의 프레즌스를 되살리지 않음
+     * 반환: 1=갱신, 0=퇴장/만료된 사용자라 생략
+     */
+    HEARTBEAT("c2c_heartbeat", ScriptOutputType.INTEGER, false, """
+            if redis.call('EXISTS', keys[1], keys[2]) == 0 then
+                return 0
+            end
+            redis.call('SET', keys[1], args[2], 'EX', tonumber(args[1]))
+            redis.call('EXPIRE', keys[2], tonumber(args[3]))
+            return 1
+            """),
+
+    /**
+     * 빈 방 확인 (멤버가 없고 유예 표시가 아직 만료되지 않은 방)
+     * KEYS: 방 멤버, 빈 방 표시
+     * 반환: 1=빈 방, 0=재입장했거나 유예 표시가 만료 중
+     */
+    EMPTY_ROOM("c2c_empty_room", ScriptOutputType.INTEGER, true, """
+            if redis.call('SCARD', keys[1]) > 0 then
+                return 0
+            end
+            if redis.call('TTL', keys[2]) > 0 then
+                return 1
+            end
+            return 0
+            """);
+
+    private final String functionName;
+    private final ScriptOutputType outputType;
+    private final boolean readOnly;
+    private final String body;
+    private final RedisScript<?> script;
+
+    RedisFunction(String functionName, ScriptOutputType outputType, boolean readOnly, String body) {
+        this.functionName = functionName;
+        this.outputType = outputType;
+        this.readOnly = readOnly;
+        this.body = body;
+        // 라이브러리를 쓸 수 없을 때(Redis 7 미만 등)의 대체 스크립트
+        this.script = RedisScript.of("local keys, args = KEYS, ARGV\n" + body,
+                outputType == ScriptOutputType.MULTI ? List.class : Long.class);
+    }
+
+    String functionName() {
+        return functionName;
+    }
+
+    ScriptOutputType outputType() {
+        return outputType;
+    }
+
+    RedisScript<?> script() {
+        return script;
+    }
+
+    /**
+     * 라이브러리 등록 구문 (읽기 전용 함수는 no-writes: 복제본에서도 FCALL_RO 가능)
+     */
+    String registration() {
+        String flags = readOnly ? ", flags={'no-writes'}" : "";
+        return "redis.register_function{function_name='" + functionName + "', callback=function(keys, args)\n"
+                + body + "\nend" + flags + "}\n";
+    }
+}
@@ -0,0 +1,212 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * c2c Redis 함수 라이브러리 적재/호출 (Redis 7 Functions)
+ *
+ * 설계 근거:
+ * - 방 생성/입장/퇴장, 하트비트, 빈 방 확인을 라이브러리 하나(c2c)로 서버에 적재하고 FCALL로 호출
+ *   (스크립트 본문 전송/SHA 관리 없이 함수 이름으로 호출, 라이브러리는 복제/영속화됨)
+ * - 기동 시 한 번 적재: 마스터별로 c2c_version을 확인해 없거나 낮은 버전이면 FUNCTION LOAD REPLACE
+ *   (롤링 배포 중 이전 버전 노드가 새 라이브러리를 덮어쓰지 않도록 높은 버전은 유지)
+ * - 호출 중 라이브러리가 없으면(FUNCTION FLUSH, 새 노드 승격 등) 다시 적재 후 재시도
+ * - 함수를 지원하지 않는 서버(Redis 7 미만)는 같은 본문의 스크립트(EVALSHA, NOSCRIPT 시 EVAL)로 대체
+ * - 호출은 비동기 공유 연결로 전송: 클러스터에서는 첫 번째 KEYS의 슬롯 노드로 라우팅
+ * - 메트릭: 함수별 지연 (c2c.redis.function, function/outcome 태그)
+ */
+@Component
+public class RedisFunctions {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisFunctions.class);
+
+    static final String LIBRARY_NAME = "c2c";
+
+    // 함수 본문/시그니처를 바꾸면 올림
+    static final int LIBRARY_VERSION = 2;
+
+    private final RedisAsyncConnection connection;
+    private final Map<RedisFunction, Timer> successTimers = new EnumMap<>(RedisFunction.class);
+    private final Map<RedisFunction, Timer> errorTimers = new EnumMap<>(RedisFunction.class);
+
+    // 함수 미지원 서버로 확인되면 false → 이후 스크립트로만 호출
+    private volatile boolean functionsSupported = true;
+    private volatile CompletableFuture<Boolean> loading;
+
+    public RedisFunctions(RedisAsyncConnection connection, MeterRegistry meterRegistry) {
+        this.connection = connection;
+        for (RedisFunction function : RedisFunction.values()) {
+            successTimers.put(function, timer(meterRegistry, function, "success"));
+            errorTimers.put(function, timer(meterRegistry, function, "error"));
+        }
+    }
+
+    /**
+     * 기동 시 라이브러리 적재 (실패해도 기동은 계속: 첫 호출에서 다시 적재하거나 스크립트로 대체)
+     */
+    @PostConstruct
+    public void loadOnStartup() {
+        try {
+            load().toCompletableFuture().join();
+        } catch (Exception e) {
+            logger.warn("Redis function library load failed, will retry on first call", e);
+        }
+    }
+
+    /**
+     * 라이브러리 적재 (동시에 여러 호출이 요청해도 적재는 한 번)
+     *
+     * @return 함수 사용 가능 여부
+     */
+    public synchronized CompletionStage<Boolean> load() {
+        CompletableFuture<Boolean> current = loading;
+        if (current != null && !current.isDone()) {
+            return current;
+        }
+        current = connection.executeOnUpstreams(this::loadOnNode)
+                .thenApply(loaded -> {
+                    logger.info("Redis function library {} v{} ready on {} node(s)", LIBRARY_NAME, LIBRARY_VERSION, loaded.size());
+                    return true;
+                })
+                .exceptionally(error -> {
+                    if (isUnsupported(error)) {
+                        functionsSupported = false;
+                        logger.warn("Redis functions not supported, falling back to scripts: {}", cause(error).getMessage());
+                        return false;
+                    }
+                    throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                })
+                .toCompletableFuture();
+        loading = current;
+        return current;
+    }
+
+    /**
+     * 노드 하나에 라이브러리 적재 (설치된 버전이 같거나 높으면 생략)
+     */
+    private CompletionStage<String> loadOnNode(RedisClusterAsyncCommands<String, String> commands) {
+        return commands.<Long>fcall(RedisFunction.VERSION.functionName(), ScriptOutputType.INTEGER)
+                .handle((installed, error) -> {
+                    if (error != null && !isMissing(error)) {
+                        throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                    }
+                    return installed;
+                })
+                .thenCompose(installed -> {
+                    if (installed != null && installed >= LIBRARY_VERSION) {
+                        return CompletableFuture.completedFuture(LIBRARY_NAME);
+                    }
+                    return commands.functionLoad(librarySource(), true);
+                });
+    }
+
+    /**
+     * 함수 호출 (라이브러리가 없으면 적재 후 재시도, 함수 미지원이면 스크립트)
+     *
+     * @param keys 같은 해시 태그의 키 목록
+     * @return 함수 결과 (INTEGER: Long, MULTI: List)
+     */
+    <T> CompletionStage<T> call(RedisFunction function, List<String> keys, String... args) {
+        long start = System.nanoTime();
+        String[] keyArray = keys.toArray(String[]::new);
+
+        CompletionStage<T> result;
+        if (!functionsSupported) {
+            result = script(function, keys, args);
+        } else {
+            result = this.<T>fcall(function, keyArray, args)
+                    .exceptionallyCompose(error -> {
+                        if (isMissing(error) || isUnsupported(error)) {
+                            return load().thenCompose(loaded -> loaded
+                                    ? this.<T>fcall(function, keyArray, args)
+                                    : this.<T>script(function, keys, args));
+                        }
+                        return CompletableFuture.failedStage(cause(error));
+                    });
+        }
+        return result.whenComplete((value, error) ->
+                (error == null ? successTimers : errorTimers).get(function)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * 동기 저장소용 호출 (결과까지 대기, 실패 원인 예외를 그대로 전달)
+     */
+    <T> T callAndWait(RedisFunction function, List<String> keys, String... args) {
+        return await(this.<T>call(function, keys, args));
+    }
+
+    /**
+     * 단계 결과 대기 (CompletionException을 벗겨 원인 예외를 던짐)
+     */
+    static <T> T await(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 라이브러리 소스 (#!lua 헤더 + 함수 등록)
+     */
+    static String librarySource() {
+        StringBuilder source = new StringBuilder("#!lua name=" + LIBRARY_NAME + "\n");
+        for (RedisFunction function : RedisFunction.values()) {
+            source.append(function.registration());
+        }
+        return source.toString();
+    }
+
+    private <T> CompletionStage<T> fcall(RedisFunction function, String[] keys, String[] args) {
+        return connection.execute(commands -> commands.fcall(function.functionName(), function.outputType(), keys, args));
+    }
+
+    private <T> CompletionStage<T> script(RedisFunction function, List<String> keys, String[] args) {
+        return connection.eval(function.script(), function.outputType(), keys, args);
+    }
+
+    private static boolean isMissing(Throwable error) {
+        Throwable cause = cause(error);
+        return cause instanceof RedisCommandExecutionException
+                && cause.getMessage() != null && cause.getMessage().contains("Function not found");
+    }
+
+    private static boolean isUnsupported(Throwable error) {
+        Throwable cause = cause(error);
+        return cause instanceof RedisCommandExecutionException
+                && cause.getMessage() != null && cause.getMessage().startsWith("ERR unknown command");
+    }
+
+    private static Throwable cause(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, RedisFunction function, String outcome) {
+        return Timer.builder("c2c.redis.function")
+                .description("Latency of c2c Redis function calls (FCALL or fallback script)")
+                .tag("function", function.functionName())
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,198 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.KeyLayout;
+
+/**
+ * Redis 키 규칙 모음
+ *
+ * 설계 근거:
+ * - 저장소/스크립트/브로커가 같은 키 문자열을 각자 조립하지 않도록 한 곳에서 관리
+ * - Lua 스크립트의 KEYS 인자도 여기서 만든 키를 그대로 전달
+ * - ID 부분은 해시 태그({...})로 감쌈: Redis Cluster는 중괄호 안 문자열로만 슬롯을 계산하므로
+ *   한 방의 키(멤버/빈 방 표시/스트림)와 한 사용자의 키(프레즌스/세션)는 각각 같은 슬롯에 위치
+ *   → 방 스크립트(입장/퇴장)와 사용자 키 다중 DEL이 클러스터에서도 CROSSSLOT 없이 실행
+ * - 방 키와 사용자 키는 서로 다른 슬롯일 수 있으므로 클러스터에서는 한 스크립트에 섞지 않음
+ *   (RoomRedisRepository가 사용자 키를 별도 명령으로 처리)
+ * - ID 추출은 태그 없는 이전 형식 키도 해석 (배포 중 이전 노드가 만든 키의 만료 이벤트 등)
+ * - 키 형식은 c2c.redis.key-layout으로 선택 (RedisConfig가 RedisKeys 빈으로 만들어 저장소/브로커에 주입)
+ *   형식에 따라 달라지는 키 조립만 인스턴스 메서드, 패턴/ID 추출은 두 형식 공통이라 정적 메서드
+ *   LEGACY는 태그 없는 이전 형식으로 써서 해시 태그 이전 버전 노드와 같은 키를 공유 (롤링 배포용)
+ *   TAGGED 전환 시 남은 이전 형식 키는 LegacyKeyMigrator가 옮김
+ */
+public final class RedisKeys {
+
+    private static final String ROOM_PREFIX = "room:";
+    private static final String ROOM_MEMBERS_SUFFIX = ":members";
+    private static final String ROOM_EMPTY_SUFFIX = ":empty";
+    private static final String USER_PREFIX = "user:";
+    private static final String PRESENCE_SUFFIX = ":presence";
+    private static final String SESSION_SUFFIX = ":session";
+    private static final String STREAM_PREFIX = "stream:";
+
+    // 프레즌스는 키 존재 여부만 의미가 있으므로 최소 값 (저장소/스크립트/하트비트 공통)
+    // 이전 형식("\"online\"")도 존재 여부로만 판단하므로 그대로 호환
+    public static final String PRESENCE_ONLINE_VALUE = "1";
+
+    private final KeyLayout layout;
+
+    // 키 조립 시 ID를 해시 태그로 감쌀지 여부
+    private final boolean tagged;
+
+    /**
+     * 키 형식 지정 (TAGGED: {id}, LEGACY: id)
+     */
+    public RedisKeys(KeyLayout layout) {
+        this.layout = layout;
+        this.tagged = layout != KeyLayout.LEGACY;
+    }
+
+    /**
+     * 이 인스턴스의 키 형식
+     */
+    public KeyLayout layout() {
+        return layout;
+    }
+
+    /**
+     * 해시 태그: {id} (Redis Cluster 슬롯 계산 단위)
+     */
+    public static String hashTag(String id) {
+        return "{" + id + "}";
+    }
+
+    /**
+     * 키의 ID 부분: TAGGED면 {id}, LEGACY면 id 그대로
+     */
+    private String idPart(String id) {
+        return tagged ? hashTag(id) : id;
+    }
+
+    /**
+     * 해시 태그가 없는 이전 형식 키 여부 (이전 형식 키 이전용)
+     */
+    public static boolean isLegacyKey(String key) {
+        return key.indexOf('{') < 0;
+    }
+
+    /**
+     * 방 멤버 키: room:{roomId}:members (SET)
+     */
+    public String roomMembers(String roomId) {
+        return ROOM_PREFIX + idPart(roomId) + ROOM_MEMBERS_SUFFIX;
+    }
+
+    /**
+     * 빈 방 유예 표시 키: room:{roomId}:empty (String, TTL = 빈 방 유지 시간)
+     * 마지막 멤버 SREM 시 SET 자체가 삭제되어 EXPIRE를 걸 수 없으므로 유예 기간은 이 키로 표현
+     */
+    public String roomEmptyMarker(String roomId) {
+        return ROOM_PREFIX + idPart(roomId) + ROOM_EMPTY_SUFFIX;
+    }
+
+    /**
+     * 빈 방 유예 표시 키 조회 패턴: room:*:empty
+     */
+    public static String roomEmptyMarkerPattern() {
+        return ROOM_PREFIX + "*" + ROOM_EMPTY_SUFFIX;
+    }
+
+    /**
+     * 빈 방 유예 표시 키에서 roomId 추출: room:{roomId}:empty → {roomId}
+     */
+    public static String roomIdFromEmptyMarkerKey(String key) {
+        return stripHashTag(key.substring(ROOM_PREFIX.length(), key.length() - ROOM_EMPTY_SUFFIX.length()));
+    }
+
+    /**
+     * 방 근접 캐시 무효화 채널 (Pub/Sub, 메시지 본문 = roomId)
+     */
+    public static String roomInvalidationChannel() {
+        return "room-inv";
+    }
+
+    /**
+     * 방 멤버 키 조회 패턴: room:*:members
+     */
+    public static String roomMembersPattern() {
+        return ROOM_PREFIX + "*" + ROOM_MEMBERS_SUFFIX;
+    }
+
+    /**
+     * 방 멤버 키에서 roomId 추출: room:{roomId}:members → {roomId}
+     */
+    public static String roomIdFromMembersKey(String key) {
+        return stripHashTag(key.substring(ROOM_PREFIX.length(), key.length() - ROOM_MEMBERS_SUFFIX.length()));
+    }
+
+    /**
+     * 프레즌스 키: user:{userId}:presence (String, TTL)
+     */
+    public String presence(String userId) {
+        return USER_PREFIX + idPart(userId) + PRESENCE_SUFFIX;
+    }
+
+    /**
+     * 프레즌스 키 조회 패턴: user:*:presence
+     */
+    public static String presencePattern() {
+        return USER_PREFIX + "*" + PRESENCE_SUFFIX;
+    }
+
+    /**
+     * 프레즌스 키 여부 (만료 이벤트 필터링용)
+     */
+    public static boolean isPresenceKey(String key) {
+        return key.length() > USER_PREFIX.length() + PRESENCE_SUFFIX.length()
+                && key.startsWith(USER_PREFIX) && key.endsWith(PRESENCE_SUFFIX);
+    }
+
+    /**
+     * 프레즌스 키에서 userId 추출: user:{userId}:presence → {userId}
+     */
+    public static String userIdFromPresenceKey(String key) {
+        return stripHashTag(key.substring(USER_PREFIX.length(), key.length() - PRESENCE_SUFFIX.length()));
+    }
+
+    /**
+     * 세션 키: user:{userId}:session (HASH)
+     */
+    public String session(String userId) {
+        return USER_PREFIX + idPart(userId) + SESSION_SUFFIX;
+    }
+
+    /**
+     * 세션 키 조회 패턴: user:*:session
+     */
+    public static String sessionPattern() {
+        return USER_PREFIX + "*" + SESSION_SUFFIX;
+    }
+
+    /**
+     * 세션 키에서 userId 추출: user:{userId}:session → {userId}
+     */
+    public static String userIdFromSessionKey(String key) {
+        return stripHashTag(key.substring(USER_PREFIX.length(), key.length() - SESSION_SUFFIX.length()));
+    }
+
+    /**
+     * 방 메시지 스트림 키: stream:{roomId} (STREAM, 방 키와 같은 슬롯)
+     */
+    public String roomStream(String roomId) {
+        return STREAM_PREFIX + idPart(roomId);
+    }
+
+    /**
+     * 스트림 키에서 roomId 추출: stream:{roomId} → {roomId}
+     */
+    public static String roomIdFromStreamKey(String key) {
+        return stripHashTag(key.substring(STREAM_PREFIX.length()));
+    }
+
+    private static String stripHashTag(String id) {
+        int length = id.length();
+        if (length >= 2 && id.charAt(0) == '{' && id.charAt(length - 1) == '}') {
+            return id.substring(1, length - 1);
+        }
+        return id;
+    }
+}
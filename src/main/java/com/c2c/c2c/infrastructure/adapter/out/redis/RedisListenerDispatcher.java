@@ -0,0 +1,178 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.common.concurrent.KeyedSerialExecutor;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 리스너 메시지 처리 실행기
+ *
+ * 설계 근거:
+ * - 리스너 컨테이너는 SyncTaskExecutor로 수신 스레드에서 곧바로 넘겨주고, 실제 처리는 여기서 수행
+ *   (기본 SimpleAsyncTaskExecutor의 메시지당 스레드 생성 제거)
+ * - 채널별 직렬 레인: 같은 방 메시지는 수신 순서대로 처리, 다른 방은 병렬
+ * - 고정 크기 플랫폼 스레드 또는 가상 스레드 선택, 처리 대기 상한 초과 시 버림 (수신 스레드를 막지 않음)
+ * - 버림은 채팅 팬아웃(ordered)만 허용: 유실돼도 다음 메시지로 대화가 이어짐
+ *   버린 메시지는 다시 보내지 않으므로 이 노드의 해당 방 참여자에게는 도달하지 않음
+ *   → 카운터와 함께 채널(chan:{roomId})별 WARN을 남겨 어느 방에서 유실됐는지 확인 (같은 채널은 10초에 한 번)
+ *   수신 스레드를 막는 배압은 구독 연결 전체(다른 방, 제어 메시지)를 멈추므로 쓰지 않음
+ * - 제어 메시지(control: 근접 캐시 무효화, 프레즌스 만료 이벤트)는 별도 가상 스레드 레인에서 상한 없이 처리
+ *   (채팅 폭주로 버려지면 오래된 캐시/퇴장 누락이 남으므로 채팅 대기열과 분리)
+ * - 메트릭: 처리 대기 수(gauge, 채팅/제어), 수신→처리 시작 지연(timer), 버린 메시지 수(counter)
+ */
+@Component
+public class RedisListenerDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisListenerDispatcher.class);
+
+    // 한 채널이 워커를 연속 점유하는 최대 메시지 수
+    private static final int CHANNEL_LANE_BATCH = 64;
+
+    // 같은 채널의 버림 WARN 최소 간격 (폭주 중 메시지마다 로그를 쓰지 않음)
+    private static final long DROP_WARN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    // 버림 WARN 시각을 기억하는 채널 수 상한 (넘으면 간격이 지난 항목 정리)
+    private static final int DROP_WARN_MAX_CHANNELS = 1024;
+
+    private final ExecutorService workers;
+    private final KeyedSerialExecutor<String> channelLanes;
+    private final ExecutorService controlWorkers;
+    private final KeyedSerialExecutor<String> controlLanes;
+    private final int maxPending;
+
+    private final Timer dispatchLatency;
+    private final Counter rejectedCounter;
+    private final AtomicLong rejectedTotal = new AtomicLong();
+    private final ConcurrentMap<String, Long> lastDropWarnAt = new ConcurrentHashMap<>();
+
+    public RedisListenerDispatcher(C2CProperties properties, MeterRegistry meterRegistry) {
+        C2CProperties.Broker broker = properties.getBroker();
+        this.workers = broker.isDispatchVirtualThreads()
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("redis-dispatch-", 0).factory())
+                : Executors.newFixedThreadPool(broker.getDispatchThreads(),
+                        Thread.ofPlatform().name("redis-dispatch-", 0).daemon(true).factory());
+        this.channelLanes = new KeyedSerialExecutor<>("redis-dispatch", workers, CHANNEL_LANE_BATCH);
+        this.maxPending = broker.getDispatchMaxPending();
+        this.controlWorkers = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("redis-control-", 0).factory());
+        this.controlLanes = new KeyedSerialExecutor<>("redis-control", controlWorkers, CHANNEL_LANE_BATCH);
+
+        Gauge.builder("c2c.redis.dispatch.pending", channelLanes, KeyedSerialExecutor::getPendingTaskCount)
+                .description("Redis messages waiting for a dispatch worker")
+                .register(meterRegistry);
+        Gauge.builder("c2c.redis.dispatch.control.pending", controlLanes, KeyedSerialExecutor::getPendingTaskCount)
+                .description("Redis control messages (cache invalidation, key expiry) waiting for a worker")
+                .register(meterRegistry);
+        this.dispatchLatency = Timer.builder("c2c.redis.dispatch.latency")
+                .description("Time from receipt on the Redis connection to listener start")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("c2c.redis.dispatch.rejected")
+                .description("Redis messages dropped because the dispatch queue was full")
+                .register(meterRegistry);
+
+        logger.info("Redis listener dispatcher: {} threads={}, maxPending={}",
+                broker.isDispatchVirtualThreads() ? "virtual" : "platform",
+                broker.isDispatchVirtualThreads() ? "unbounded" : broker.getDispatchThreads(), maxPending);
+    }
+
+    /**
+     * 리스너를 채널별 순서 보장 비동기 리스너로 감싸기
+     * 컨테이너 등록/해제 시 같은 인스턴스를 사용해야 함
+     *
+     * @param delegate 실제 처리 리스너
+     * @return 실행기로 넘겨 처리하는 리스너
+     */
+    public MessageListener ordered(MessageListener delegate) {
+        return (message, pattern) -> dispatch(message, pattern, delegate);
+    }
+
+    /**
+     * 리스너를 채널별 순서 보장, 버리지 않는 제어 메시지 리스너로 감싸기
+     * 채팅 대기열과 별도 레인에서 처리하므로 채팅이 밀려도 무효화/만료 처리는 지연·유실되지 않음
+     *
+     * @param delegate 실제 처리 리스너
+     * @return 제어 레인으로 넘겨 처리하는 리스너
+     */
+    public MessageListener control(MessageListener delegate) {
+        return (message, pattern) -> {
+            long receivedAt = System.nanoTime();
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            controlLanes.execute(channel, () -> {
+                dispatchLatency.record(System.nanoTime() - receivedAt, TimeUnit.NANOSECONDS);
+                delegate.onMessage(message, pattern);
+            });
+        };
+    }
+
+    /**
+     * 처리 대기 중인 메시지 수 (채팅 팬아웃)
+     */
+    public int getPendingCount() {
+        return channelLanes.getPendingTaskCount();
+    }
+
+    /**
+     * 워커 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        controlWorkers.shutdown();
+    }
+
+    private void dispatch(Message message, byte[] pattern, MessageListener delegate) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        if (channelLanes.getPendingTaskCount() >= maxPending) {
+            rejectedCounter.increment();
+            warnDropped(channel, rejectedTotal.incrementAndGet());
+            return;
+        }
+
+        long receivedAt = System.nanoTime();
+        channelLanes.execute(channel, () -> {
+            dispatchLatency.record(System.nanoTime() - receivedAt, TimeUnit.NANOSECONDS);
+            delegate.onMessage(message, pattern);
+        });
+    }
+
+    /**
+     * 버린 채팅 메시지 WARN (채널별 DROP_WARN_INTERVAL_NANOS에 한 번)
+     */
+    private void warnDropped(String channel, long droppedTotal) {
+        long now = System.nanoTime();
+        Long last = lastDropWarnAt.get(channel);
+        if (last != null && now - last < DROP_WARN_INTERVAL_NANOS) {
+            return;
+        }
+        // 같은 채널을 동시에 버린 다른 스레드가 이미 기록했으면 생략
+        boolean claimed = last == null
+                ? lastDropWarnAt.putIfAbsent(channel, now) == null
+                : lastDropWarnAt.replace(channel, last, now);
+        if (!claimed) {
+            return;
+        }
+        if (lastDropWarnAt.size() > DROP_WARN_MAX_CHANNELS) {
+            lastDropWarnAt.values().removeIf(at -> now - at >= DROP_WARN_INTERVAL_NANOS);
+        }
+        logger.warn("Redis dispatch queue full, dropping chat message: channel={}, maxPending={}, droppedTotal={}",
+                channel, maxPending, droppedTotal);
+    }
+}
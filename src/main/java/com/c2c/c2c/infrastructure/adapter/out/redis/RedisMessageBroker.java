@@ -2,20 +2,28 @@ package com.c2c.c2c.infrastructure.adapter.out.redis;
 
 import com.c2c.c2c.domain.model.Message;
 import com.c2c.c2c.domain.port.out.MessageBroker;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Redis Pub/Sub 기반 Message Broker 구현체
@@ -25,29 +33,62 @@ import java.util.concurrent.ConcurrentMap;
  * - additionalPlan.txt: "구독 시점 최적화(채널 lazy subscribe)" - 방 생성 시에만 구독
  * - "메시지 JSON, 프로토콜 이벤트 이름 정합" - JSON 직렬화/역직렬화
  * - 확장성: 나중에 Redis Streams나 Kafka로 교체 가능한 추상화
+ * - 노드당 방 구독 1개: 같은 방의 subscribe/unsubscribe는 참조 카운트만 조정하고,
+ *   첫 구독 시 리스너 등록 / 마지막 해제 시 해당 리스너만 제거 (다른 로컬 멤버 수신에 영향 없음)
+ * - 노드 간 팬아웃: BrokerEnvelope에 발행 노드 ID를 실어 자기 노드 메시지는 수신 시 버림
+ *   (발행 노드는 로컬 세션에 직접 전달하므로 중복 전달 없음)
+ * - PATTERN 구독 모드: 노드당 PSUBSCRIBE chan:* 한 번만 수행, 입장/퇴장은 로컬 참조 카운트만 변경
+ *   (방 변동에 따른 SUBSCRIBE 왕복/컨테이너 재구성 없음, 로컬 멤버 없는 방 메시지는 역직렬화 전에 버림)
+ * - 리스너는 RedisListenerDispatcher로 감싸 채널별 순서를 지키며 제한된 워커에서 처리
  */
 @Component
+@ConditionalOnProperty(prefix = "c2c.broker", name = "impl", havingValue = "redis-pubsub", matchIfMissing = true)
 public class RedisMessageBroker implements MessageBroker {
     
     private static final Logger logger = LoggerFactory.getLogger(RedisMessageBroker.class);
     
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
     private final RedisMessageListenerContainer messageListenerContainer;
     private final ObjectMapper objectMapper;
+    private final RedisListenerDispatcher dispatcher;
+    private final String nodeId;
+    private final boolean patternMode;
     
-    // 채널별 메시지 핸들러 저장 (lazy subscribe 구현)
-    private final ConcurrentMap<String, MessageHandler> channelHandlers = new ConcurrentHashMap<>();
+    private final Counter selfEchoDropped;
+    private final Counter unmatchedDropped;
+    
+    // 채널별 공유 구독 (lazy subscribe + 로컬 멤버 참조 카운트)
+    // 등록/해제는 compute 안에서 처리하여 카운트와 리스너 상태를 원자적으로 유지
+    private final ConcurrentMap<String, RoomSubscription> subscriptions = new ConcurrentHashMap<>();
+    
+    // PATTERN 모드: 노드 단일 패턴 구독 (첫 구독 시 등록, 이후 방 변동과 무관하게 유지)
+    private final MessageListener patternListener;
+    private final AtomicBoolean patternSubscribed = new AtomicBoolean();
     
     // Redis 채널 키 패턴 상수
     private static final String CHANNEL_PREFIX = "chan:";
+    private static final PatternTopic ALL_ROOMS_PATTERN = new PatternTopic(CHANNEL_PREFIX + "*");
     
     public RedisMessageBroker(
-            RedisTemplate<String, Object> redisTemplate,
+            RedisTemplate<String, String> redisTemplate,
             RedisMessageListenerContainer messageListenerContainer,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            C2CProperties properties,
+            MeterRegistry meterRegistry,
+            RedisListenerDispatcher dispatcher) {
         this.redisTemplate = redisTemplate;
         this.messageListenerContainer = messageListenerContainer;
         this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.patternListener = dispatcher.ordered(new PatternDispatchListener());
+        this.nodeId = properties.getBroker().getNodeId();
+        this.patternMode = properties.getBroker().getSubscriptionMode() == C2CProperties.Broker.SubscriptionMode.PATTERN;
+        this.selfEchoDropped = Counter.builder("c2c.broker.self_echo.dropped")
+                .description("Messages published by this node and ignored on receipt")
+                .register(meterRegistry);
+        this.unmatchedDropped = Counter.builder("c2c.broker.pattern.unmatched")
+                .description("Pattern-mode messages for rooms without local members")
+                .register(meterRegistry);
         
         // MessageListenerContainer 시작
         if (!messageListenerContainer.isRunning()) {
@@ -61,8 +102,7 @@ public class RedisMessageBroker implements MessageBroker {
             String channel = getChannelKey(roomId);
             String jsonMessage = serializeMessage(message);
             
-            System.out.println("보내는 메시지 = "+jsonMessage);
-
+            // 문자열 템플릿으로 발행: JSON을 그대로 전송 (이중 인코딩 없음)
             redisTemplate.convertAndSend(channel, jsonMessage);
             
             logger.debug("Published message to channel {}: {}", channel, message);
@@ -78,24 +118,25 @@ public class RedisMessageBroker implements MessageBroker {
         try {
             String channel = getChannelKey(roomId);
             
-            // 기존 구독이 있다면 해제 후 새로 등록
-            if (channelHandlers.containsKey(channel)) {
-                unsubscribe(roomId);
+            if (patternMode) {
+                ensurePatternSubscribed();
             }
             
-            // 핸들러 등록
-            channelHandlers.put(channel, handler);
-            
-            // Redis MessageListener 생성 및 등록
-            MessageListenerAdapter listenerAdapter = new MessageListenerAdapter(
-                    new RedisChannelMessageListener(channel, handler), 
-                    "onMessage"
-            );
-            
-            ChannelTopic topic = new ChannelTopic(channel);
-            messageListenerContainer.addMessageListener(listenerAdapter, topic);
-            
-            logger.info("Subscribed to channel: {}", channel);
+            subscriptions.compute(channel, (key, subscription) -> {
+                if (subscription != null) {
+                    // 이미 구독 중인 방: 참조만 증가 (Redis 왕복 없음)
+                    subscription.refCount++;
+                    return subscription;
+                }
+                
+                // 첫 로컬 멤버: 방 리스너 등록 (PATTERN 모드는 로컬 등록만)
+                RoomSubscription created = new RoomSubscription(channel, handler);
+                if (created.listener != null) {
+                    messageListenerContainer.addMessageListener(created.listener, new ChannelTopic(channel));
+                    logger.info("Subscribed to channel: {}", channel);
+                }
+                return created;
+            });
             
         } catch (Exception e) {
             logger.error("Failed to subscribe to room {}: {}", roomId, e.getMessage(), e);
@@ -108,17 +149,18 @@ public class RedisMessageBroker implements MessageBroker {
         try {
             String channel = getChannelKey(roomId);
             
-            // 핸들러 제거
-            MessageHandler removed = channelHandlers.remove(channel);
-            
-            if (removed != null) {
-                // MessageListenerContainer에서 해당 채널의 리스너 제거
-                // Spring Redis는 자동으로 리스너를 정리하지만, 명시적으로 정리할 수 있음
-                ChannelTopic topic = new ChannelTopic(channel);
-                messageListenerContainer.removeMessageListener(null, topic);
+            subscriptions.computeIfPresent(channel, (key, subscription) -> {
+                if (--subscription.refCount > 0) {
+                    return subscription;
+                }
                 
-                logger.info("Unsubscribed from channel: {}", channel);
-            }
+                // 마지막 로컬 멤버: 이 방의 리스너만 정확히 제거
+                if (subscription.listener != null) {
+                    messageListenerContainer.removeMessageListener(subscription.listener, new ChannelTopic(channel));
+                    logger.info("Unsubscribed from channel: {}", channel);
+                }
+                return null;
+            });
             
         } catch (Exception e) {
             logger.error("Failed to unsubscribe from room {}: {}", roomId, e.getMessage(), e);
@@ -128,13 +170,18 @@ public class RedisMessageBroker implements MessageBroker {
     @Override
     public void unsubscribeAll() {
         try {
-            // 모든 채널 구독 해제
-            for (String channel : channelHandlers.keySet()) {
-                String roomId = extractRoomIdFromChannel(channel);
-                unsubscribe(roomId);
+            // 참조 카운트와 무관하게 모든 채널 구독 해제
+            for (String channel : List.copyOf(subscriptions.keySet())) {
+                RoomSubscription removed = subscriptions.remove(channel);
+                if (removed != null && removed.listener != null) {
+                    messageListenerContainer.removeMessageListener(removed.listener, new ChannelTopic(channel));
+                }
+            }
+            
+            if (patternSubscribed.compareAndSet(true, false)) {
+                messageListenerContainer.removeMessageListener(patternListener, ALL_ROOMS_PATTERN);
             }
             
-            channelHandlers.clear();
             logger.info("Unsubscribed from all channels");
             
         } catch (Exception e) {
@@ -142,6 +189,17 @@ public class RedisMessageBroker implements MessageBroker {
         }
     }
     
+    /**
+     * 방 채널의 로컬 구독 참조 수 조회 (모니터링/테스트용)
+     * 
+     * @param roomId 방 ID
+     * @return 참조 수, 구독하지 않은 방이면 0
+     */
+    public int getSubscriberCount(String roomId) {
+        RoomSubscription subscription = subscriptions.get(getChannelKey(roomId));
+        return subscription != null ? subscription.refCount : 0;
+    }
+    
     @Override
     public boolean isConnected() {
         try {
@@ -167,14 +225,14 @@ public class RedisMessageBroker implements MessageBroker {
             }
             messageListenerContainer.start();
             
-            // 기존 구독 채널들 재구독
-            ConcurrentMap<String, MessageHandler> handlersSnapshot = new ConcurrentHashMap<>(channelHandlers);
-            channelHandlers.clear();
-            
-            for (var entry : handlersSnapshot.entrySet()) {
-                String channel = entry.getKey();
-                String roomId = extractRoomIdFromChannel(channel);
-                subscribe(roomId, entry.getValue());
+            // 기존 구독 채널들 재구독 (참조 카운트 유지)
+            for (Map.Entry<String, RoomSubscription> entry : subscriptions.entrySet()) {
+                if (entry.getValue().listener != null) {
+                    messageListenerContainer.addMessageListener(entry.getValue().listener, new ChannelTopic(entry.getKey()));
+                }
+            }
+            if (patternSubscribed.get()) {
+                messageListenerContainer.addMessageListener(patternListener, ALL_ROOMS_PATTERN);
             }
             
             logger.info("Redis Message Broker reconnected successfully");
@@ -204,17 +262,66 @@ public class RedisMessageBroker implements MessageBroker {
     }
     
     /**
-     * Message 객체를 JSON 문자열로 직렬화
+     * PATTERN 모드 노드 구독 (최초 1회)
+     */
+    private void ensurePatternSubscribed() {
+        if (patternSubscribed.compareAndSet(false, true)) {
+            messageListenerContainer.addMessageListener(patternListener, ALL_ROOMS_PATTERN);
+            logger.info("Subscribed to pattern: {}", ALL_ROOMS_PATTERN.getTopic());
+        }
+    }
+    
+    /**
+     * 수신 메시지를 방 핸들러로 전달 (채널/패턴 리스너 공통)
+     */
+    private void dispatch(String channel, String roomId, byte[] body, MessageHandler handler) {
+        try {
+            BrokerEnvelope envelope = deserializeEnvelope(new String(body, StandardCharsets.UTF_8));
+            
+            // 자기 노드가 발행한 메시지: 발행 시점에 로컬 세션에 이미 전달됨
+            if (nodeId.equals(envelope.nodeId())) {
+                selfEchoDropped.increment();
+                return;
+            }
+            
+            // 도메인 핸들러 호출 (방 단위 핸들러가 로컬 세션들에게 팬아웃, 전달 지연은 팬아웃 후 핸들러가 기록)
+            handler.handle(roomId, envelope.toMessage());
+            
+            logger.debug("Handled message from channel {}: node={}, messageId={}",
+                    channel, envelope.nodeId(), envelope.messageId());
+            
+        } catch (Exception e) {
+            logger.error("Failed to handle message from channel {}: {}", channel, e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Message 객체를 노드 ID가 포함된 봉투 JSON으로 직렬화
      */
     private String serializeMessage(Message message) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(message);
+        return objectMapper.writeValueAsString(BrokerEnvelope.of(nodeId, message));
+    }
+    
+    /**
+     * 봉투 JSON 역직렬화
+     */
+    private BrokerEnvelope deserializeEnvelope(String jsonMessage) throws JsonProcessingException {
+        return objectMapper.readValue(jsonMessage, BrokerEnvelope.class);
     }
     
     /**
-     * JSON 문자열을 Message 객체로 역직렬화
+     * 방 채널 공유 구독
+     * refCount는 subscriptions.compute 안에서만 변경
      */
-    private Message deserializeMessage(String jsonMessage) throws JsonProcessingException {
-        return objectMapper.readValue(jsonMessage, Message.class);
+    private final class RoomSubscription {
+        private final MessageHandler handler;
+        private final MessageListener listener; // PATTERN 모드에서는 null (노드 패턴 리스너가 전달)
+        private int refCount = 1;
+        
+        private RoomSubscription(String channel, MessageHandler handler) {
+            this.handler = handler;
+            this.listener = patternMode ? null : dispatcher.ordered(new RedisChannelMessageListener(channel, handler));
+        }
     }
     
     /**
@@ -223,44 +330,36 @@ public class RedisMessageBroker implements MessageBroker {
      */
     private class RedisChannelMessageListener implements MessageListener {
         private final String channel;
+        private final String roomId;
         private final MessageHandler handler;
         
         public RedisChannelMessageListener(String channel, MessageHandler handler) {
             this.channel = channel;
+            this.roomId = extractRoomIdFromChannel(channel);
             this.handler = handler;
         }
         
         @Override
         public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
-            try {
-                String jsonMessage = new String(message.getBody());
-                System.out.println("받은 메시지 = "+jsonMessage);
-                Message domainMessage = deserializeMessage(jsonMessage);
-                String roomId = extractRoomIdFromChannel(channel);
-                
-                // 도메인 핸들러 호출
-                handler.handle(roomId, domainMessage);
-                
-                logger.debug("Handled message from channel {}: {}", channel, domainMessage);
-                
-            } catch (Exception e) {
-                logger.error("Failed to handle message from channel {}: {}", channel, e.getMessage(), e);
-            }
+            dispatch(channel, roomId, message.getBody(), handler);
         }
+    }
+    
+    /**
+     * PATTERN 모드 노드 리스너
+     * 로컬 구독이 있는 방의 메시지만 역직렬화하여 전달
+     */
+    private class PatternDispatchListener implements MessageListener {
         
-        // MessageListenerAdapter를 위한 메서드 (위와 동일하지만 시그니처가 다름)
-        public void onMessage(String message) {
-            try {
-                Message domainMessage = deserializeMessage(message);
-                String roomId = extractRoomIdFromChannel(channel);
-                
-                handler.handle(roomId, domainMessage);
-                
-                logger.debug("Handled message from channel {}: {}", channel, domainMessage);
-                
-            } catch (Exception e) {
-                logger.error("Failed to handle message from channel {}: {}", channel, e.getMessage(), e);
+        @Override
+        public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            RoomSubscription subscription = subscriptions.get(channel);
+            if (subscription == null) {
+                unmatchedDropped.increment();
+                return;
             }
+            dispatch(channel, extractRoomIdFromChannel(channel), message.getBody(), subscription.handler);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,134 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Redis SCAN 스트리밍 지원
+ *
+ * 설계 근거:
+ * - KEYS는 전체 키스페이스를 한 번에 훑는 동안 Redis를 막으므로 커서 기반 SCAN으로 대체
+ * - 키는 SCAN COUNT 단위로 지연 조회, 키별 추가 확인은 배치 단위 파이프라인 1회 왕복으로 처리
+ * - 반환 스트림은 커서(연결)를 잡고 있으므로 반드시 닫아야 함 (try-with-resources)
+ * - 클러스터는 SCAN이 노드 단위 → 마스터 노드마다 커서를 차례로 열어 이어 붙임
+ */
+final class RedisScanSupport {
+
+    private RedisScanSupport() {}
+
+    /**
+     * 파이프라인 명령용 키 바이트 (StringRedisSerializer와 동일한 UTF-8)
+     */
+    static byte[] raw(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 패턴에 맞는 키를 SCAN 커서로 지연 조회
+     *
+     * @param count SCAN COUNT 힌트
+     * @return 닫을 때 커서도 닫히는 키 스트림
+     */
+    static Stream<String> scanKeys(RedisTemplate<String, ?> template, String pattern, int count) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(count).build();
+        if (template.getConnectionFactory() instanceof LettuceConnectionFactory factory && factory.isClusterAware()) {
+            return scanClusterKeys(factory.getClusterConnection(), options);
+        }
+        Cursor<String> cursor = template.scan(options);
+        return cursor.stream();
+    }
+
+    /**
+     * 클러스터 전체 SCAN: 마스터 노드별 커서를 지연 순회 (다음 노드 커서는 앞 노드를 다 읽은 뒤 엶)
+     * 키는 StringRedisSerializer와 같은 UTF-8로 변환
+     */
+    private static Stream<String> scanClusterKeys(RedisClusterConnection connection, ScanOptions options) {
+        List<RedisClusterNode> masters = new ArrayList<>();
+        for (RedisClusterNode node : connection.clusterGetNodes()) {
+            if (node.isMaster()) {
+                masters.add(node);
+            }
+        }
+        return masters.stream()
+                .flatMap(node -> connection.scan(node, options).stream())
+                .map(key -> new String(key, StandardCharsets.UTF_8))
+                .onClose(connection::close);
+    }
+
+    /**
+     * SCAN 결과를 배치로 묶어 배치마다 파이프라인으로 추가 명령을 보내고 조건에 맞는 키만 남김
+     *
+     * @param batchSize 배치 크기 (파이프라인 1회당 키 수)
+     * @param commandsPerKey 키 하나당 파이프라인에 넣는 명령 수
+     * @param commands 키별 파이프라인 명령 (연결, SCAN으로 얻은 키)
+     * @param filter 키와 그 키의 명령 결과로 유지 여부 판단
+     * @return 조건을 만족하는 키 스트림 (원본 커서와 함께 닫힘)
+     */
+    static Stream<String> filterPipelined(RedisTemplate<String, ?> template, Stream<String> keys, int batchSize,
+                                          int commandsPerKey, BiConsumer<RedisConnection, String> commands,
+                                          BiPredicate<String, List<Object>> filter) {
+        return batches(keys, batchSize).flatMap(batch -> {
+            List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : batch) {
+                    commands.accept(connection, key);
+                }
+                return null;
+            });
+
+            List<String> kept = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                int from = i * commandsPerKey;
+                if (filter.test(batch.get(i), results.subList(from, from + commandsPerKey))) {
+                    kept.add(batch.get(i));
+                }
+            }
+            return kept.stream();
+        });
+    }
+
+    /**
+     * 스트림을 고정 크기 배치로 지연 분할
+     */
+    static Stream<List<String>> batches(Stream<String> keys, int batchSize) {
+        Iterator<String> source = keys.iterator();
+        Iterator<List<String>> batchIterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public List<String> next() {
+                if (!source.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<String> batch = new ArrayList<>(batchSize);
+                while (batch.size() < batchSize && source.hasNext()) {
+                    batch.add(source.next());
+                }
+                return batch;
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(batchIterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(keys::close);
+    }
+}
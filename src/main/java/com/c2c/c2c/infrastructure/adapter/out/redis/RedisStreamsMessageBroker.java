@@ -0,0 +1,409 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.model.Message;
+import com.c2c.c2c.domain.port.out.MessageBroker;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.lettuce.core.XAddArgs;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Streams 기반 Message Broker 구현체
+ *
+ * 설계 근거:
+ * - "BROKER_IMPL=redis-pubsub|redis-streams|kafka 토글만으로 교체" - c2c.broker.impl=redis-streams 로 선택
+ * - 발행: 방마다 XADD stream:{roomId} MAXLEN ~ N (스트림 길이 상한으로 메모리 제한)
+ *   + EXPIRE(빈 방 유예 시간 c2c.room.idle-ttl-sec)를 비동기 다중화 연결(RedisAsyncConnection)로 연속 전송
+ *   (응답을 기다리지 않고 두 명령을 보내므로 왕복 1회, 공유 연결 모드의 executePipelined처럼 전용 연결을 열지 않음)
+ *   → 마지막 메시지 후 유예 시간이 지나면 스트림도 사라짐 (MAXLEN만으로는 길이만 줄고 키는 영구히 남음)
+ * - 수신: 전용 리더 스레드 하나가 로컬 구독 방 전체를 한 번의 XREAD COUNT/BLOCK으로 읽음 (왕복당 다수 메시지)
+ * - 리더 스레드는 연결 하나를 계속 붙잡고 XREAD BLOCK을 반복 (반복마다 연결 획득/반납 및 블로킹 전용 연결 생성 없음)
+ *   읽기 오류나 reconnect() 요청 때만 연결을 닫고 새로 엶
+ * - 모든 노드가 모든 메시지를 받아야 하는 팬아웃이므로 컨슈머 그룹(XREADGROUP, 분배) 대신 XREAD 사용
+ * - 방별 마지막 ID를 유지: 연결이 끊겼다 돌아오면 그 ID부터 이어 읽어 Pub/Sub처럼 유실되지 않음 (MAXLEN 범위 내)
+ * - 구독 참조 카운트/자기 노드 메시지 필터링은 RedisMessageBroker와 동일한 규칙
+ */
+@Component
+@ConditionalOnProperty(prefix = "c2c.broker", name = "impl", havingValue = "redis-streams")
+public class RedisStreamsMessageBroker implements MessageBroker {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisStreamsMessageBroker.class);
+
+    // Redis 스트림 키/필드 상수
+    private static final String ENVELOPE_FIELD_NAME = "e";
+    private static final byte[] ENVELOPE_FIELD = ENVELOPE_FIELD_NAME.getBytes(StandardCharsets.UTF_8);
+
+    // 오류 후 재시도 대기 (재연결 동안 CPU 소모 방지)
+    private static final long ERROR_BACKOFF_MS = 1000L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisAsyncConnection asyncConnection;
+    private final ObjectMapper objectMapper;
+    private final RedisKeys keys;
+    private final String nodeId;
+    private final long maxLen;
+    private final long streamTtlSec;
+    private final int readCount;
+    private final long blockMs;
+
+    // 방별 공유 구독 (참조 카운트 + 마지막으로 읽은 ID)
+    private final ConcurrentMap<String, StreamSubscription> subscriptions = new ConcurrentHashMap<>();
+
+    private final Counter selfEchoDropped;
+    private final DistributionSummary readBatchSize;
+
+    private volatile boolean running;
+    private volatile Thread readerThread;
+
+    public RedisStreamsMessageBroker(
+            RedisTemplate<String, String> redisTemplate,
+            RedisAsyncConnection asyncConnection,
+            ObjectMapper objectMapper,
+            RedisKeys keys,
+            C2CProperties properties,
+            MeterRegistry meterRegistry) {
+        C2CProperties.Broker broker = properties.getBroker();
+        // 구독 중인 모든 방 스트림을 XREAD 한 번으로 읽으므로 키가 여러 슬롯에 흩어지는 클러스터에서는 사용 불가
+        if (properties.getRedis().getTopology() == C2CProperties.Redis.Topology.CLUSTER) {
+            throw new IllegalStateException("c2c.broker.impl=redis-streams is not supported with c2c.redis.topology=cluster; "
+                    + "use redis-pubsub");
+        }
+        this.redisTemplate = redisTemplate;
+        this.asyncConnection = asyncConnection;
+        this.objectMapper = objectMapper;
+        this.keys = keys;
+        this.nodeId = broker.getNodeId();
+        this.maxLen = broker.getStreamMaxLen();
+        this.streamTtlSec = properties.getRoom().getIdleTtlSec();
+        this.readCount = broker.getStreamReadCount();
+        this.blockMs = broker.getStreamBlockMs();
+
+        this.selfEchoDropped = Counter.builder("c2c.broker.self_echo.dropped")
+                .description("Messages published by this node and ignored on receipt")
+                .register(meterRegistry);
+        this.readBatchSize = DistributionSummary.builder("c2c.broker.stream.read_batch")
+                .description("Records returned per XREAD round trip")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        startReader();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread reader = readerThread;
+        if (reader != null) {
+            reader.interrupt();
+        }
+    }
+
+    @Override
+    public void publish(String roomId, Message message) {
+        try {
+            String key = getStreamKey(roomId);
+            String envelope = objectMapper.writeValueAsString(BrokerEnvelope.of(nodeId, message));
+
+            // MAXLEN ~ : 정확한 길이 대신 매크로 노드 단위로 잘라 XADD 비용 최소화
+            // EXPIRE는 발행마다 갱신: 대화가 끊긴 방의 스트림은 빈 방 유예 시간 후 삭제
+            XAddArgs options = XAddArgs.Builder.maxlen(maxLen).approximateTrimming();
+            CompletableFuture<String> added = asyncConnection.<String>execute(commands ->
+                    commands.xadd(key, options, ENVELOPE_FIELD_NAME, envelope)).toCompletableFuture();
+            CompletableFuture<Boolean> expiring = asyncConnection.<Boolean>execute(commands ->
+                    commands.expire(key, streamTtlSec)).toCompletableFuture();
+            CompletableFuture.allOf(added, expiring).join();
+
+            logger.debug("Published message to stream {}: messageId={}", getStreamKey(roomId), message.getMessageId());
+
+        } catch (Exception e) {
+            logger.error("Failed to publish message to room {}: {}", roomId, e.getMessage(), e);
+            throw new RuntimeException("메시지 발행 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(String roomId, MessageHandler handler) {
+        try {
+            subscriptions.compute(roomId, (key, subscription) -> {
+                if (subscription != null) {
+                    subscription.refCount++;
+                    return subscription;
+                }
+
+                // 첫 로컬 멤버: 현재 스트림 끝 ID부터 읽기 시작 (구독 이전 메시지는 전달하지 않음)
+                StreamSubscription created = new StreamSubscription(handler, currentLastId(roomId));
+                logger.info("Subscribed to stream: {} from {}", getStreamKey(roomId), created.lastId);
+                return created;
+            });
+
+        } catch (Exception e) {
+            logger.error("Failed to subscribe to room {}: {}", roomId, e.getMessage(), e);
+            throw new RuntimeException("스트림 구독 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void unsubscribe(String roomId) {
+        subscriptions.computeIfPresent(roomId, (key, subscription) -> {
+            if (--subscription.refCount > 0) {
+                return subscription;
+            }
+            logger.info("Unsubscribed from stream: {}", getStreamKey(roomId));
+            return null;
+        });
+    }
+
+    @Override
+    public void unsubscribeAll() {
+        subscriptions.clear();
+        logger.info("Unsubscribed from all streams");
+    }
+
+    /**
+     * 방 스트림의 로컬 구독 참조 수 조회 (모니터링/테스트용)
+     */
+    public int getSubscriberCount(String roomId) {
+        StreamSubscription subscription = subscriptions.get(roomId);
+        return subscription != null ? subscription.refCount : 0;
+    }
+
+    @Override
+    public boolean isConnected() {
+        try {
+            String pong = redisTemplate.execute(RedisConnection::ping, true);
+            return "PONG".equalsIgnoreCase(pong);
+        } catch (Exception e) {
+            logger.warn("Redis connection check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void reconnect() {
+        // 방별 마지막 ID는 유지되므로 리더만 다시 띄우면 끊긴 동안의 메시지부터 이어서 읽음
+        logger.info("Attempting to reconnect Redis Streams Message Broker...");
+        running = true;
+        Thread reader = readerThread;
+        if (reader == null || !reader.isAlive()) {
+            startReader();
+        } else {
+            reader.interrupt(); // 블로킹 XREAD 해제 후 새 연결로 재시도
+        }
+    }
+
+    // === Private Helper Methods ===
+
+    private synchronized void startReader() {
+        if (readerThread != null && readerThread.isAlive()) {
+            return;
+        }
+        readerThread = Thread.ofPlatform()
+                .name("redis-streams-reader")
+                .daemon(true)
+                .start(this::readLoop);
+    }
+
+    /**
+     * 리더 루프: 구독 중인 모든 방 스트림을 한 번의 XREAD로 읽고 방 핸들러로 전달
+     * 연결은 루프가 끝날 때까지 재사용 (오류/재연결 요청 시에만 교체)
+     */
+    private void readLoop() {
+        RedisConnection connection = null;
+        try {
+            while (running) {
+                // reconnect()가 남긴 인터럽트 상태: 지금 연결을 버리고 새 연결로 재시도
+                if (Thread.interrupted()) {
+                    connection = closeQuietly(connection);
+                }
+                try {
+                    List<StreamOffset<byte[]>> offsets = snapshotOffsets();
+                    if (offsets.isEmpty()) {
+                        TimeUnit.MILLISECONDS.sleep(blockMs);
+                        continue;
+                    }
+
+                    StreamReadOptions options = StreamReadOptions.empty()
+                            .count(readCount)
+                            .block(Duration.ofMillis(blockMs));
+                    @SuppressWarnings("unchecked")
+                    StreamOffset<byte[]>[] offsetArray = offsets.toArray(new StreamOffset[0]);
+
+                    if (connection == null) {
+                        connection = redisTemplate.getRequiredConnectionFactory().getConnection();
+                    }
+                    List<? extends MapRecord<byte[], byte[], byte[]>> records =
+                            connection.streamCommands().xRead(options, offsetArray);
+
+                    if (records != null && !records.isEmpty()) {
+                        readBatchSize.record(records.size());
+                        records.forEach(this::dispatch);
+                    }
+
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    connection = closeQuietly(connection);
+                } catch (Exception e) {
+                    if (!running) {
+                        return;
+                    }
+                    logger.warn("Stream read failed, retrying from last ids: {}", e.getMessage());
+                    connection = closeQuietly(connection);
+                    sleepQuietly(ERROR_BACKOFF_MS);
+                }
+            }
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    /**
+     * 리더 연결 닫기 (끊긴 연결이면 닫기 실패는 무시)
+     *
+     * @return 항상 null (다음 반복에서 새 연결을 열도록)
+     */
+    private RedisConnection closeQuietly(RedisConnection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (Exception e) {
+                logger.debug("Failed to close stream reader connection: {}", e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 구독 중인 방의 읽기 위치 스냅샷
+     */
+    private List<StreamOffset<byte[]>> snapshotOffsets() {
+        List<StreamOffset<byte[]>> offsets = new ArrayList<>(subscriptions.size());
+        subscriptions.forEach((roomId, subscription) -> offsets.add(StreamOffset.create(
+                getStreamKey(roomId).getBytes(StandardCharsets.UTF_8),
+                ReadOffset.from(subscription.lastId))));
+        return offsets;
+    }
+
+    /**
+     * 스트림 레코드를 방 핸들러로 전달하고 마지막 ID 갱신
+     */
+    private void dispatch(MapRecord<byte[], byte[], byte[]> record) {
+        String roomId = extractRoomIdFromStream(new String(record.getStream(), StandardCharsets.UTF_8));
+        StreamSubscription subscription = subscriptions.get(roomId);
+        if (subscription == null) {
+            return; // 읽는 동안 마지막 로컬 멤버가 나감
+        }
+        subscription.lastId = record.getId().getValue();
+
+        try {
+            byte[] payload = findEnvelope(record.getValue());
+            if (payload == null) {
+                logger.warn("Stream record without envelope: stream={}, id={}", getStreamKey(roomId), record.getId());
+                return;
+            }
+            BrokerEnvelope envelope = objectMapper.readValue(payload, BrokerEnvelope.class);
+
+            // 자기 노드가 발행한 메시지: 발행 시점에 로컬 세션에 이미 전달됨
+            if (nodeId.equals(envelope.nodeId())) {
+                selfEchoDropped.increment();
+                return;
+            }
+
+            subscription.handler.handle(roomId, envelope.toMessage());
+
+        } catch (Exception e) {
+            logger.error("Failed to handle stream record: stream={}, id={}, error={}",
+                    getStreamKey(roomId), record.getId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 스트림의 현재 마지막 ID 조회 (빈 스트림이면 0-0)
+     */
+    private String currentLastId(String roomId) {
+        byte[] key = getStreamKey(roomId).getBytes(StandardCharsets.UTF_8);
+        List<? extends MapRecord<byte[], byte[], byte[]>> latest = redisTemplate.execute(
+                (RedisConnection connection) -> connection.streamCommands()
+                        .xRevRange(key, Range.unbounded(), Limit.limit().count(1)), true);
+        if (latest == null || latest.isEmpty()) {
+            return RecordId.of(0, 0).getValue();
+        }
+        return latest.get(0).getId().getValue();
+    }
+
+    private byte[] findEnvelope(Map<byte[], byte[]> fields) {
+        for (Map.Entry<byte[], byte[]> field : fields.entrySet()) {
+            if (Arrays.equals(ENVELOPE_FIELD, field.getKey())) {
+                return field.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Redis 스트림 키 생성
+     * 패턴: stream:{roomId}
+     */
+    private String getStreamKey(String roomId) {
+        return keys.roomStream(roomId);
+    }
+
+    private String extractRoomIdFromStream(String streamKey) {
+        return RedisKeys.roomIdFromStreamKey(streamKey);
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException ignored) {
+            // stop()/reconnect() 요청: 루프에서 running 상태로 판단
+        }
+    }
+
+    /**
+     * 방 스트림 공유 구독
+     * refCount는 subscriptions.compute 안에서만 변경, lastId는 리더 스레드만 변경
+     */
+    private static final class StreamSubscription {
+        private final MessageHandler handler;
+        private volatile String lastId;
+        private int refCount = 1;
+
+        private StreamSubscription(MessageHandler handler, String lastId) {
+            this.handler = handler;
+            this.lastId = lastId;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.port.out.AsyncRoomRepository;
+import com.c2c.c2c.domain.port.out.RoomRepository.JoinResult;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 비동기 Room Redis Repository 구현체
+ *
+ * 설계 근거:
+ * - RoomRedisRepository와 같은 키/함수 라이브러리(RedisFunctions)/결과 변환을 Lettuce 비동기 명령으로 실행
+ * - 입장은 FCALL (함수를 쓸 수 없으면 같은 본문의 스크립트)
+ * - 쓰기 후 근접 캐시 무효화는 NearCacheRoomRepository가 담당
+ * - 클러스터에서는 함수에 방 키만 넘기고 사용자 키는 함수 완료 후 별도 명령 (동기 저장소와 동일)
+ */
+@Repository
+public class RoomRedisAsyncRepository implements AsyncRoomRepository {
+
+    private final RedisAsyncConnection connection;
+    private final RedisFunctions functions;
+    private final boolean userKeysInScripts;
+    private final RedisKeys keys;
+
+    public RoomRedisAsyncRepository(RedisAsyncConnection connection, RedisFunctions functions, RedisKeys keys,
+                                    C2CProperties properties) {
+        this.connection = connection;
+        this.functions = functions;
+        this.keys = keys;
+        this.userKeysInScripts = RoomRedisRepository.userKeysInScripts(properties);
+    }
+
+    @Override
+    public CompletionStage<JoinResult> joinAsync(String roomId, String userId, int maxMembers, long presenceTtlSec) {
+        return functions.<List<Object>>call(RedisFunction.JOIN,
+                        RoomRedisRepository.joinKeys(keys, roomId, userId, userKeysInScripts),
+                        RoomRedisRepository.joinArgs(userId, maxMembers, presenceTtlSec))
+                .thenApply(RoomRedisRepository::toJoinResult)
+                .thenCompose(result -> {
+                    if (userKeysInScripts || result.status() != JoinResult.Status.JOINED) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    return connection.execute(commands -> commands.setex(keys.presence(userId), presenceTtlSec,
+                            RedisKeys.PRESENCE_ONLINE_VALUE)).thenApply(ignored -> result);
+                });
+    }
+
+    @Override
+    public CompletionStage<Set<String>> getMembersAsync(String roomId) {
+        return connection.execute(commands -> commands.smembers(keys.roomMembers(roomId)));
+    }
+
+    /**
+     * 멤버가 있거나 빈 방 유예 기간 중이면 존재
+     */
+    @Override
+    public CompletionStage<Boolean> existsAsync(String roomId) {
+        return connection.execute(commands -> commands.exists(
+                        keys.roomMembers(roomId), keys.roomEmptyMarker(roomId)))
+                .thenApply(count -> count != null && count > 0);
+    }
+}
@@ -1,12 +1,17 @@
 package com.c2c.c2c.infrastructure.adapter.out.redis;
 
 import com.c2c.c2c.domain.model.Room;
+import com.c2c.c2c.domain.port.out.ReadConsistency;
 import com.c2c.c2c.domain.port.out.RoomRepository;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Room Redis Repository 구현체
@@ -14,58 +19,59 @@ import java.util.*;
  * 설계 근거:
  * - 명세서 "Redis 키: room:{roomId}:members (SET)" 구조 사용
  * - additionalPlan.txt "원자적 빈 방 전이 보장: Lua 스크립트로 SREM→SCARD==0이면 EXPIRE"
+ *   → 생성/입장/퇴장/빈 방 확인은 c2c 함수 라이브러리(RedisFunctions) 호출 1회
  * - plan.txt "Redis 키-값 직접 조작, 객체 직렬화 금지"
  * - 헥사고날 아키텍처: Infrastructure 계층에서 Redis 상세 구현 담당
+ * - 전체 조회는 KEYS 대신 SCAN 커서 스트림 + 배치 파이프라인 (Redis 블로킹/키당 왕복 제거)
+ * - 쓰기와 STRICT 조회는 마스터, 그 외 조회는 복제본 템플릿 (복제본 읽기가 꺼져 있으면 같은 마스터 연결)
  */
 @Repository
 public class RoomRedisRepository implements RoomRepository {
     
     private final RedisTemplate<String, String> redisTemplate;
-    
-    // Redis 키 패턴
-    private static final String ROOM_MEMBERS_KEY_PREFIX = "room:";
-    private static final String ROOM_MEMBERS_KEY_SUFFIX = ":members";
+    private final RedisTemplate<String, String> replicaTemplate;
+    private final RedisFunctions functions;
+    private final int scanCount;
+    private final boolean userKeysInScripts;
+    private final RedisKeys keys;
     
     // TTL 상수 (명세서: 5분 = 300초)
     private static final int EMPTY_ROOM_TTL_SECONDS = 300;
     
-    // additionalPlan.txt: 원자적 퇴장 처리 Lua 스크립트
-    private static final String ATOMIC_LEAVE_SCRIPT = """
-        local roomKey = KEYS[1]
-        local userId = ARGV[1]
-        local ttl = tonumber(ARGV[2])
-        
-        -- 멤버 제거
-        local removed = redis.call('SREM', roomKey, userId)
-        
-        -- 제거된 경우에만 멤버 수 확인
-        if removed == 1 then
-            local memberCount = redis.call('SCARD', roomKey)
-            if memberCount == 0 then
-                -- 빈 방이 된 경우 TTL 설정
-                redis.call('EXPIRE', roomKey, ttl)
-                return {removed, memberCount, 1}  -- {제거됨, 멤버수, TTL설정됨}
-            else
-                return {removed, memberCount, 0}  -- {제거됨, 멤버수, TTL설정안됨}
-            end
-        else
-            local memberCount = redis.call('SCARD', roomKey)
-            return {removed, memberCount, 0}  -- {제거안됨, 멤버수, TTL설정안됨}
-        end
-        """;
-    
-    private final RedisScript<List> atomicLeaveScript;
-    
-    public RoomRedisRepository(RedisTemplate<String, String> redisTemplate) {
+    public RoomRedisRepository(RedisTemplate<String, String> redisTemplate,
+                               @Qualifier("replicaRedisTemplate") RedisTemplate<String, String> replicaTemplate,
+                               RedisFunctions functions,
+                               RedisKeys keys,
+                               C2CProperties properties) {
         this.redisTemplate = redisTemplate;
-        this.atomicLeaveScript = RedisScript.of(ATOMIC_LEAVE_SCRIPT, List.class);
+        this.replicaTemplate = replicaTemplate;
+        this.functions = functions;
+        this.keys = keys;
+        this.scanCount = properties.getRedis().getScanCount();
+        this.userKeysInScripts = userKeysInScripts(properties);
+    }
+    
+    /**
+     * 생성/입장/퇴장 함수에 사용자 키(프레즌스/세션)를 함께 넘길지 여부
+     * 클러스터에서는 방 키({roomId})와 사용자 키({userId})의 슬롯이 달라 한 함수 호출에 넣으면 CROSSSLOT 오류
+     * → 방 키만 함수로 처리하고 사용자 키는 뒤이어 별도 명령으로 처리 (프레즌스는 TTL 기반이라 원자성 불필요)
+     */
+    static boolean userKeysInScripts(C2CProperties properties) {
+        return properties.getRedis().getTopology() != C2CProperties.Redis.Topology.CLUSTER;
+    }
+    
+    /**
+     * 조회 템플릿 선택: STRICT는 마스터, 그 외는 복제본 (복제 지연만큼 오래된 값 허용)
+     */
+    private RedisTemplate<String, String> readTemplate(ReadConsistency consistency) {
+        return consistency == ReadConsistency.STRICT ? redisTemplate : replicaTemplate;
     }
     
     /**
      * Redis 키 생성: room:{roomId}:members
      */
     private String getRoomMembersKey(String roomId) {
-        return ROOM_MEMBERS_KEY_PREFIX + roomId + ROOM_MEMBERS_KEY_SUFFIX;
+        return keys.roomMembers(roomId);
     }
     
     /**
@@ -80,156 +86,283 @@ public class RoomRedisRepository implements RoomRepository {
     }
     
     /**
-     * 방 조회 (Redis 데이터 기반 도메인 객체 재구성)
+     * 방 조회 (Redis 데이터 기반 도메인 객체 재구성, 마스터)
      * additionalPlan.txt: "검증용 뷰로만 쓰고, 소스 오브 트루스는 Redis"
+     * 존재 기준은 exists와 같음: 멤버가 있거나 빈 방 유예 표시(room:{roomId}:empty)가 있으면 존재
      */
     @Override
     public Optional<Room> findById(String roomId) {
-        String key = getRoomMembersKey(roomId);
-        
-        if (!redisTemplate.hasKey(key)) {
+        Set<String> members = getMembers(roomId, ReadConsistency.STRICT);
+        // 멤버가 없으면 빈 방 유예 중인지 추가 확인
+        if (members.isEmpty() && !exists(roomId, ReadConsistency.STRICT)) {
             return Optional.empty();
         }
         
         // Redis 데이터로 Room 객체 재구성
         Room room = new Room(roomId);
-        Set<String> members = redisTemplate.opsForSet().members(key);
-        
-        if (members != null) {
-            for (String memberId : members) {
-                room.addMember(memberId);
-            }
-        }
-        
-        // TTL 확인하여 삭제 예약 상태 설정
-        Long ttl = redisTemplate.getExpire(key);
-        if (ttl != null && ttl > 0) {
-            // TTL이 설정된 경우 삭제 예약 상태로 간주
-            // 실제 lastEmptyTime은 추정 (현재시간 - (300 - ttl))
-        }
-        
+        members.forEach(room::addMember);
         return Optional.of(room);
     }
     
     /**
      * 방 삭제
-     * Redis: DEL room:{roomId}:members
+     * Redis: DEL room:{roomId}:members room:{roomId}:empty
      */
     @Override
     public void delete(String roomId) {
-        String key = getRoomMembersKey(roomId);
-        redisTemplate.delete(key);
+        redisTemplate.delete(List.of(getRoomMembersKey(roomId), keys.roomEmptyMarker(roomId)));
     }
     
     /**
      * 방 멤버 추가
      * 명세서: "입장: SADD room:{id}:members {uid}"
-     * 비즈니스 룰: "5분 내 재입장 시: PERSIST room:{id}:members"
+     * 비즈니스 룰: "5분 내 재입장 시" 빈 방 유예 표시 제거 (c2c_join과 같은 규칙)
      */
     @Override
     public void addMember(String roomId, String userId) {
-        String key = getRoomMembersKey(roomId);
+        // 멤버를 먼저 추가: 표시 제거 전에 정리 작업이 보더라도 SCARD > 0이라 빈 방으로 보지 않음
+        redisTemplate.opsForSet().add(getRoomMembersKey(roomId), userId);
+        redisTemplate.delete(keys.roomEmptyMarker(roomId));
+    }
+    
+    /**
+     * 방 생성 (원자적 처리, 1회 왕복)
+     * 방이 없을 때만 생성자를 첫 멤버로 추가하고 프레즌스 기록 (c2c_create)
+     */
+    @Override
+    public boolean create(String roomId, String creatorId, long presenceTtlSec) {
+        Long created = functions.callAndWait(RedisFunction.CREATE, joinKeys(keys, roomId, creatorId, userKeysInScripts),
+            creatorId, String.valueOf(presenceTtlSec), RedisKeys.PRESENCE_ONLINE_VALUE);
+        boolean result = created != null && created == 1L;
+        if (!userKeysInScripts && result) {
+            redisTemplate.opsForValue().set(keys.presence(creatorId), RedisKeys.PRESENCE_ONLINE_VALUE,
+                java.time.Duration.ofSeconds(presenceTtlSec));
+        }
+        return result;
+    }
+    
+    /**
+     * 방 입장 (원자적 처리, 1회 왕복)
+     * 기존 EXISTS → SMEMBERS → SADD → PERSIST → SETEX → SMEMBERS 6회 왕복을 함수 호출 한 번(c2c_join)으로 대체
+     */
+    @Override
+    public JoinResult join(String roomId, String userId, int maxMembers, long presenceTtlSec) {
+        List<String> scriptKeys = joinKeys(keys, roomId, userId, userKeysInScripts);
+        
+        List<Object> result = functions.callAndWait(RedisFunction.JOIN, scriptKeys, joinArgs(userId, maxMembers, presenceTtlSec));
+        JoinResult joinResult = toJoinResult(result);
+        if (!userKeysInScripts && joinResult.status() == JoinResult.Status.JOINED) {
+            redisTemplate.opsForValue().set(keys.presence(userId), RedisKeys.PRESENCE_ONLINE_VALUE,
+                java.time.Duration.ofSeconds(presenceTtlSec));
+        }
+        return joinResult;
+    }
+    
+    /**
+     * 생성/입장 함수 KEYS: 방 멤버, 빈 방 표시, [프레즌스]
+     */
+    static List<String> joinKeys(RedisKeys keys, String roomId, String userId, boolean withUserKeys) {
+        if (!withUserKeys) {
+            return List.of(keys.roomMembers(roomId), keys.roomEmptyMarker(roomId));
+        }
+        return List.of(keys.roomMembers(roomId), keys.roomEmptyMarker(roomId), keys.presence(userId));
+    }
+    
+    /**
+     * 입장 함수 ARGV: 사용자 ID, 정원, 프레즌스 TTL, 프레즌스 값
+     */
+    static String[] joinArgs(String userId, int maxMembers, long presenceTtlSec) {
+        return new String[] {userId, String.valueOf(maxMembers), String.valueOf(presenceTtlSec),
+            RedisKeys.PRESENCE_ONLINE_VALUE};
+    }
+    
+    /**
+     * 퇴장 함수 KEYS: 방 멤버, 빈 방 표시, [프레즌스, 세션]
+     */
+    static List<String> leaveKeys(RedisKeys keys, String roomId, String userId, boolean withUserKeys) {
+        if (!withUserKeys) {
+            return List.of(keys.roomMembers(roomId), keys.roomEmptyMarker(roomId));
+        }
+        return List.of(keys.roomMembers(roomId), keys.roomEmptyMarker(roomId),
+            keys.presence(userId), keys.session(userId));
+    }
+    
+    /**
+     * 사용자 키(프레즌스, 세션) - 같은 해시 태그라 클러스터에서도 DEL 한 번
+     */
+    static List<String> userKeys(RedisKeys keys, String userId) {
+        return List.of(keys.presence(userId), keys.session(userId));
+    }
+    
+    /**
+     * 입장 함수 결과 변환: {상태, 입장 전 빈 방 여부, 멤버 목록}
+     */
+    static JoinResult toJoinResult(List<Object> result) {
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("Unexpected join script result: " + result);
+        }
         
-        // 멤버 추가
-        redisTemplate.opsForSet().add(key, userId);
+        JoinResult.Status status = switch (((Long) result.get(0)).intValue()) {
+            case 0 -> JoinResult.Status.JOINED;
+            case -1 -> JoinResult.Status.ROOM_NOT_FOUND;
+            case -2 -> JoinResult.Status.ROOM_FULL;
+            default -> throw new IllegalStateException("Unknown join script status: " + result.get(0));
+        };
+        boolean wasEmpty = ((Long) result.get(1)) == 1L;
         
-        // TTL 해제 (재입장 시 영구 보존)
-        redisTemplate.persist(key);
+        Set<String> members = new HashSet<>();
+        if (result.get(2) instanceof List<?> memberList) {
+            for (Object member : memberList) {
+                members.add(String.valueOf(member));
+            }
+        }
+        return new JoinResult(status, wasEmpty, members);
+    }
+    
+    /**
+     * 방 퇴장 (원자적 처리, 1회 왕복)
+     * SREM → 빈 방이면 유예 TTL → 프레즌스/세션 삭제 → 남은 멤버 목록을 함수 호출 한 번(c2c_leave)으로 처리
+     * endPresence=false면 사용자 키를 함수에 넘기지 않아 프레즌스/세션 유지
+     */
+    @Override
+    public LeaveResult leave(String roomId, String userId, long emptyRoomTtlSec, boolean endPresence) {
+        LeaveResult result = toLeaveResult(executeLeaveScript(
+                leaveKeys(keys, roomId, userId, userKeysInScripts && endPresence), userId, emptyRoomTtlSec));
+        if (!userKeysInScripts && endPresence) {
+            redisTemplate.delete(userKeys(keys, userId));
+        }
+        return result;
     }
     
     /**
      * 방 멤버 제거 (원자적 처리)
      * additionalPlan.txt: "Lua 한 방으로 SREM→SCARD==0이면 EXPIRE"
+     * 사용자 프레즌스/세션은 건드리지 않음
      */
     @Override
     public void removeMember(String roomId, String userId) {
-        String key = getRoomMembersKey(roomId);
-        
-        // Lua 스크립트로 원자적 처리
-        @SuppressWarnings("unchecked")
-        List<Long> result = redisTemplate.execute(atomicLeaveScript, 
-            Collections.singletonList(key), userId, String.valueOf(EMPTY_ROOM_TTL_SECONDS));
+        executeLeaveScript(leaveKeys(keys, roomId, userId, false), userId, EMPTY_ROOM_TTL_SECONDS);
+    }
+    
+    private List<Object> executeLeaveScript(List<String> scriptKeys, String userId, long emptyRoomTtlSec) {
+        List<Object> result = functions.callAndWait(RedisFunction.LEAVE, scriptKeys, userId, String.valueOf(emptyRoomTtlSec));
         
-        if (result != null && result.size() >= 3) {
-            Long removed = result.get(0);      // 제거 여부
-            Long memberCount = result.get(1);  // 현재 멤버 수
-            Long ttlSet = result.get(2);       // TTL 설정 여부
-            
-            // 로깅 또는 모니터링용 정보
-            if (removed == 1 && memberCount == 0 && ttlSet == 1) {
-                // 빈 방이 되어 TTL 설정됨
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("Unexpected leave script result: " + result);
+        }
+        return result;
+    }
+    
+    /**
+     * 퇴장 함수 결과 변환: {제거 여부, 빈 방 전이 여부, 남은 멤버 목록}
+     */
+    static LeaveResult toLeaveResult(List<Object> result) {
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("Unexpected leave script result: " + result);
+        }
+        Set<String> remaining = new HashSet<>();
+        if (result.get(2) instanceof List<?> memberList) {
+            for (Object member : memberList) {
+                remaining.add(String.valueOf(member));
             }
         }
+        return new LeaveResult(((Long) result.get(0)) == 1L, ((Long) result.get(1)) == 1L, remaining);
     }
     
     /**
-     * 방 멤버 목록 조회
+     * 방 멤버 목록 조회 (표시용, 복제본 허용)
      * Redis: SMEMBERS room:{roomId}:members
      */
     @Override
     public Set<String> getMembers(String roomId) {
+        return getMembers(roomId, ReadConsistency.CACHED);
+    }
+    
+    /**
+     * 방 멤버 목록 조회 (STRICT면 마스터, 그 외는 복제본)
+     */
+    @Override
+    public Set<String> getMembers(String roomId, ReadConsistency consistency) {
         String key = getRoomMembersKey(roomId);
-        Set<String> members = redisTemplate.opsForSet().members(key);
+        Set<String> members = readTemplate(consistency).opsForSet().members(key);
         return members != null ? members : new HashSet<>();
     }
     
     /**
      * 방 TTL 설정 (빈 방 삭제용)
-     * 명세서: "마지막 1인 퇴장 시: EXPIRE room:{id}:members 300(5분)"
+     * 명세서: "마지막 1인 퇴장 시: 5분 유예" → 빈 방 유예 표시를 TTL과 함께 기록 (c2c_leave와 같은 규칙)
+     * 멤버 키는 SREM으로 비워지면 Redis가 삭제하므로 TTL을 걸지 않음
      */
     @Override
     public void setTTL(String roomId, int seconds) {
-        String key = getRoomMembersKey(roomId);
-        redisTemplate.expire(key, java.time.Duration.ofSeconds(seconds));
+        redisTemplate.opsForValue().set(keys.roomEmptyMarker(roomId), "1", java.time.Duration.ofSeconds(seconds));
     }
     
     /**
      * 방 TTL 해제 (재입장 시 영구 보존)
-     * 명세서: "5분 내 재입장 시: PERSIST room:{id}:members"
+     * 명세서: "5분 내 재입장 시" 빈 방 유예 표시 제거
      */
     @Override
     public void removeTTL(String roomId) {
-        String key = getRoomMembersKey(roomId);
-        redisTemplate.persist(key);
+        redisTemplate.delete(keys.roomEmptyMarker(roomId));
     }
     
     /**
-     * 방 존재 여부 확인
-     * Redis: EXISTS room:{roomId}:members
+     * 방 존재 여부 확인 (페이지 진입 등, 복제본 허용)
+     * Redis: EXISTS room:{roomId}:members room:{roomId}:empty
      */
     @Override
     public boolean exists(String roomId) {
-        String key = getRoomMembersKey(roomId);
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        return exists(roomId, ReadConsistency.CACHED);
+    }
+    
+    /**
+     * 방 존재 여부 확인 (STRICT면 마스터, 그 외는 복제본)
+     */
+    @Override
+    public boolean exists(String roomId, ReadConsistency consistency) {
+        // 멤버가 있거나 빈 방 유예 기간 중이면 존재
+        Long count = readTemplate(consistency).countExistingKeys(
+            List.of(getRoomMembersKey(roomId), keys.roomEmptyMarker(roomId)));
+        return count != null && count > 0;
     }
     
     /**
      * 빈 방 목록 조회 (정리 작업용)
-     * TTL이 설정된 방들 중 멤버가 없는 방 반환
+     * 빈 방 유예 표시 키(room:{roomId}:empty)가 남아 있는 방 반환
      */
     @Override
     public Set<String> findEmptyRooms() {
-        // SCAN으로 room:*:members 패턴 키 검색
-        Set<String> emptyRooms = new HashSet<>();
-        Set<String> keys = redisTemplate.keys(ROOM_MEMBERS_KEY_PREFIX + "*" + ROOM_MEMBERS_KEY_SUFFIX);
-        
-        if (keys != null) {
-            for (String key : keys) {
-                // 멤버 수 확인
-                Long memberCount = redisTemplate.opsForSet().size(key);
-                // TTL 확인
-                Long ttl = redisTemplate.getExpire(key);
-                
-                if ((memberCount == null || memberCount == 0) && 
-                    (ttl != null && ttl > 0)) {
-                    // roomId 추출: room:{roomId}:members -> {roomId}
-                    String roomId = key.substring(ROOM_MEMBERS_KEY_PREFIX.length(), 
-                                                key.length() - ROOM_MEMBERS_KEY_SUFFIX.length());
-                    emptyRooms.add(roomId);
+        try (Stream<String> rooms = streamEmptyRooms()) {
+            return rooms.collect(Collectors.toSet());
+        }
+    }
+    
+    /**
+     * 빈 방 목록 지연 조회 (KEYS 대체)
+     * 유예 표시 키 SCAN 배치마다 방별 c2c_empty_room(SCARD/TTL)을 응답 대기 없이 연속 전송해
+     * 그 사이 재입장했거나 만료 직전인 방은 제외
+     */
+    @Override
+    public Stream<String> streamEmptyRooms() {
+        Stream<String> markerKeys = RedisScanSupport.scanKeys(redisTemplate, RedisKeys.roomEmptyMarkerPattern(), scanCount);
+        return RedisScanSupport.batches(markerKeys, scanCount).flatMap(batch -> {
+            List<String> roomIds = new ArrayList<>(batch.size());
+            List<CompletableFuture<Long>> checks = new ArrayList<>(batch.size());
+            for (String markerKey : batch) {
+                String roomId = RedisKeys.roomIdFromEmptyMarkerKey(markerKey);
+                roomIds.add(roomId);
+                checks.add(functions.<Long>call(RedisFunction.EMPTY_ROOM,
+                    List.of(keys.roomMembers(roomId), markerKey)).toCompletableFuture());
+            }
+            
+            List<String> emptyRooms = new ArrayList<>(batch.size());
+            for (int i = 0; i < roomIds.size(); i++) {
+                if (Long.valueOf(1L).equals(RedisFunctions.await(checks.get(i)))) {
+                    emptyRooms.add(roomIds.get(i));
                 }
             }
-        }
-        
-        return emptyRooms;
+            return emptyRooms.stream();
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.model.User;
+import com.c2c.c2c.domain.port.out.AsyncUserRepository;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import io.lettuce.core.KeyValue;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 비동기 User Redis Repository 구현체
+ *
+ * 설계 근거:
+ * - UserRedisRepository와 같은 세션 해시/프레즌스 키를 Lettuce 비동기 명령으로 기록/조회
+ * - 해시 값은 UserValueCodec으로 변환 → 동기 저장소와 같은 저장 형식
+ * - 저장의 HSET/EXPIRE/SETEX와 일괄 조회의 HMGET은 응답을 기다리지 않고 연속 전송 (왕복 1회 수준)
+ */
+@Repository
+public class UserRedisAsyncRepository implements AsyncUserRepository {
+
+    private static final String[] SESSION_FIELD_NAMES = UserValueCodec.SESSION_FIELDS.toArray(String[]::new);
+
+    private final RedisAsyncConnection connection;
+    private final UserValueCodec codec;
+    private final RedisKeys keys;
+
+    public UserRedisAsyncRepository(RedisAsyncConnection connection, RedisKeys keys, C2CProperties properties) {
+        this.connection = connection;
+        this.keys = keys;
+        this.codec = new UserValueCodec(properties.getRedis().getValueFormat());
+    }
+
+    @Override
+    public CompletionStage<User> saveAsync(User user) {
+        String userId = user.getUserId();
+        String sessionKey = keys.session(userId);
+
+        Map<String, String> fields = codec.encodeSession(user);
+
+        CompletableFuture<?> hset = connection.execute(commands -> commands.hset(sessionKey, fields)).toCompletableFuture();
+        CompletableFuture<?> expire = connection.execute(commands -> commands.expire(sessionKey,
+                UserRedisRepository.SESSION_TTL.toSeconds())).toCompletableFuture();
+        CompletableFuture<?> presence = connection.execute(commands -> commands.setex(keys.presence(userId),
+                UserRedisRepository.PRESENCE_TTL.toSeconds(), RedisKeys.PRESENCE_ONLINE_VALUE)).toCompletableFuture();
+
+        return CompletableFuture.allOf(hset, expire, presence).thenApply(ignored -> user);
+    }
+
+    @Override
+    public CompletionStage<Optional<User>> findByIdAsync(String userId) {
+        return hmget(userId).thenApply(values -> codec.decodeSession(userId, values));
+    }
+
+    @Override
+    public CompletionStage<Map<String, User>> findAllAsync(Collection<String> userIds) {
+        List<String> ids = List.copyOf(new LinkedHashSet<>(userIds));
+        List<CompletableFuture<List<String>>> lookups = new ArrayList<>(ids.size());
+        for (String userId : ids) {
+            lookups.add(hmget(userId).toCompletableFuture());
+        }
+
+        return CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<String, User> users = new LinkedHashMap<>();
+                    for (int i = 0; i < ids.size(); i++) {
+                        String userId = ids.get(i);
+                        codec.decodeSession(userId, lookups.get(i).join())
+                                .ifPresent(user -> users.put(userId, user));
+                    }
+                    return users;
+                });
+    }
+
+    private CompletionStage<List<String>> hmget(String userId) {
+        return connection.execute(commands -> commands.hmget(keys.session(userId), SESSION_FIELD_NAMES))
+                .thenApply(values -> {
+                    List<String> fields = new ArrayList<>(values.size());
+                    for (KeyValue<String, String> value : values) {
+                        fields.add(value.getValueOrElse(null));
+                    }
+                    return fields;
+                });
+    }
+}
@@ -1,16 +1,25 @@
 package com.c2c.c2c.infrastructure.adapter.out.redis;
 
 import com.c2c.c2c.domain.model.User;
+import com.c2c.c2c.domain.port.out.ReadConsistency;
 import com.c2c.c2c.domain.port.out.UserRepository;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * User Redis Repository 구현체
@@ -20,23 +29,33 @@ import java.util.stream.Collectors;
  * - "하트비트 10초 간격, 30초 타임아웃" - TTL 기반 프레즌스 관리
  * - additionalPlan.txt: "Redis가 소스 오브 트루스" - 모든 상태는 Redis에서 관리
  * - 비영속 원칙: 사용자 데이터는 세션 동안만 유지, DB 저장 없음
+ * - 전체 조회는 KEYS 대신 SCAN 커서 스트림 (Redis 블로킹 방지)
+ * - 세션 해시는 다중 필드 HSET/HMGET, 저장 시 EXPIRE/프레즌스까지 파이프라인 1회, 일괄 조회도 파이프라인 1회
+ * - 값은 JSON 직렬화기 대신 UserValueCodec(compact 문자열)으로 변환, 기존 JSON 값도 읽기 지원
+ * - 온라인 여부는 일관성 수준을 지정하면 복제본에서도 조회 (일관성 수준 없는 조회는 마스터)
  */
 @Repository
 public class UserRedisRepository implements UserRepository {
     
-    private final RedisTemplate<String, Object> redisTemplate;
-    
-    // Redis 키 패턴 상수
-    private static final String USER_KEY_PREFIX = "user:";
-    private static final String PRESENCE_KEY_SUFFIX = ":presence";
-    private static final String SESSION_KEY_SUFFIX = ":session";
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> replicaTemplate;
+    private final UserValueCodec codec;
+    private final RedisKeys keys;
+    private final int scanCount;
     
     // 명세서 기준 TTL 설정
-    private static final Duration PRESENCE_TTL = Duration.ofSeconds(30);
-    private static final String ONLINE_VALUE = "online";
+    static final Duration PRESENCE_TTL = Duration.ofSeconds(30);
+    static final Duration SESSION_TTL = Duration.ofMinutes(10);
     
-    public UserRedisRepository(@Qualifier("jsonRedisTemplate") RedisTemplate<String, Object> redisTemplate) {
+    public UserRedisRepository(RedisTemplate<String, String> redisTemplate,
+                               @Qualifier("replicaRedisTemplate") RedisTemplate<String, String> replicaTemplate,
+                               RedisKeys keys,
+                               C2CProperties properties) {
         this.redisTemplate = redisTemplate;
+        this.replicaTemplate = replicaTemplate;
+        this.keys = keys;
+        this.codec = new UserValueCodec(properties.getRedis().getValueFormat());
+        this.scanCount = properties.getRedis().getScanCount();
     }
     
     @Override
@@ -44,49 +63,63 @@ public class UserRedisRepository implements UserRepository {
         String userId = user.getUserId();
         String sessionKey = getSessionKey(userId);
         
-        // 사용자 세션 정보 저장 (프레즌스보다 긴 TTL)
-        redisTemplate.opsForHash().put(sessionKey, "userId", userId);
-        if (user.getSessionId() != null) {
-            redisTemplate.opsForHash().put(sessionKey, "sessionId", user.getSessionId());
-        }
-        if (user.getRoomId() != null) {
-            redisTemplate.opsForHash().put(sessionKey, "roomId", user.getRoomId());
-        }
-        if (user.getJoinedAt() != null) {
-            redisTemplate.opsForHash().put(sessionKey, "joinedAt", user.getJoinedAt().toString());
-        }
-        
-        // 세션 키에 TTL 설정 (프레즌스보다 길게 설정)
-        redisTemplate.expire(sessionKey, Duration.ofMinutes(10));
+        Map<String, String> fields = codec.encodeSession(user);
         
-        // 프레즌스 업데이트
-        updatePresence(userId);
+        // HSET(다중 필드) + EXPIRE(프레즌스보다 긴 TTL) + 프레즌스 SETEX를 파이프라인 1회로 전송
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForHash().putAll(sessionKey, fields);
+                ops.expire(sessionKey, SESSION_TTL);
+                ops.opsForValue().set(getPresenceKey(userId), RedisKeys.PRESENCE_ONLINE_VALUE, PRESENCE_TTL);
+                return null;
+            }
+        });
         
         return user;
     }
     
     @Override
     public Optional<User> findById(String userId) {
-        String sessionKey = getSessionKey(userId);
-        
-        if (!redisTemplate.hasKey(sessionKey)) {
-            return Optional.empty();
+        // HMGET 1회 (세션 키가 없으면 모든 필드가 null)
+        List<String> values = redisTemplate.<String, String>opsForHash()
+                .multiGet(getSessionKey(userId), UserValueCodec.SESSION_FIELDS);
+        return codec.decodeSession(userId, values);
+    }
+    
+    /**
+     * 여러 사용자 일괄 조회
+     * 사용자별 HMGET을 파이프라인 1회로 전송 → 사용자 수와 무관하게 왕복 1회
+     */
+    @Override
+    public Map<String, User> findAll(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
         }
+        List<String> ids = List.copyOf(new LinkedHashSet<>(userIds));
         
-        String sessionId = (String) redisTemplate.opsForHash().get(sessionKey, "sessionId");
-        String roomId = (String) redisTemplate.opsForHash().get(sessionKey, "roomId");
-        String joinedAtStr = (String) redisTemplate.opsForHash().get(sessionKey, "joinedAt");
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String userId : ids) {
+                    ops.<String, String>opsForHash().multiGet(getSessionKey(userId), UserValueCodec.SESSION_FIELDS);
+                }
+                return null;
+            }
+        });
         
-        if (sessionId == null) {
-            return Optional.empty();
+        Map<String, User> users = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String userId = ids.get(i);
+            @SuppressWarnings("unchecked")
+            List<String> values = (List<String>) results.get(i);
+            codec.decodeSession(userId, values).ifPresent(user -> users.put(userId, user));
         }
-        
-        LocalDateTime joinedAt = LocalDateTime.parse(joinedAtStr);
-        boolean online = isOnline(userId);
-        
-        User user = new User(userId, sessionId, roomId, joinedAt);
-        // User 클래스에 온라인 상태 설정 메서드가 있다면 사용
-        return Optional.of(user);
+        return users;
     }
     
     @Override
@@ -104,13 +137,23 @@ public class UserRedisRepository implements UserRepository {
         String presenceKey = getPresenceKey(userId);
         
         // 명세서: "SETEX user:{uid}:presence 30 online"
-        redisTemplate.opsForValue().set(presenceKey, ONLINE_VALUE, PRESENCE_TTL);
+        redisTemplate.opsForValue().set(presenceKey, RedisKeys.PRESENCE_ONLINE_VALUE, PRESENCE_TTL);
     }
     
     @Override
     public boolean isOnline(String userId) {
+        return isOnline(userId, ReadConsistency.STRICT);
+    }
+    
+    /**
+     * 온라인 여부 확인 (STRICT면 마스터, 그 외는 복제본)
+     * 복제본에서는 방금 하트비트/만료된 프레즌스가 복제 지연만큼 늦게 보일 수 있음
+     */
+    @Override
+    public boolean isOnline(String userId, ReadConsistency consistency) {
         String presenceKey = getPresenceKey(userId);
-        return redisTemplate.hasKey(presenceKey);
+        RedisTemplate<String, String> template = consistency == ReadConsistency.STRICT ? redisTemplate : replicaTemplate;
+        return template.hasKey(presenceKey);
     }
     
     @Override
@@ -121,18 +164,18 @@ public class UserRedisRepository implements UserRepository {
     
     @Override
     public Set<String> findOnlineUsers() {
-        // 모든 프레즌스 키 패턴 검색
-        String pattern = USER_KEY_PREFIX + "*" + PRESENCE_KEY_SUFFIX;
-        Set<String> keys = redisTemplate.keys(pattern);
-        
-        if (keys == null) {
-            return Set.of();
+        try (Stream<String> users = streamOnlineUsers()) {
+            return users.collect(Collectors.toSet());
         }
-        
-        // 키에서 userId 추출
-        return keys.stream()
-                .map(this::extractUserIdFromPresenceKey)
-                .collect(Collectors.toSet());
+    }
+    
+    /**
+     * 프레즌스 키 SCAN으로 온라인 사용자 지연 조회 (KEYS 대체)
+     */
+    @Override
+    public Stream<String> streamOnlineUsers() {
+        return RedisScanSupport.scanKeys(redisTemplate, RedisKeys.presencePattern(), scanCount)
+                .map(this::extractUserIdFromPresenceKey);
     }
     
     @Override
@@ -143,18 +186,23 @@ public class UserRedisRepository implements UserRepository {
     
     @Override
     public Set<String> findTimeoutUsers() {
-        // 세션은 있지만 프레즌스가 만료된 사용자 찾기
-        String sessionPattern = USER_KEY_PREFIX + "*" + SESSION_KEY_SUFFIX;
-        Set<String> sessionKeys = redisTemplate.keys(sessionPattern);
-        
-        if (sessionKeys == null) {
-            return Set.of();
+        try (Stream<String> users = streamTimeoutUsers()) {
+            return users.collect(Collectors.toSet());
         }
-        
-        return sessionKeys.stream()
-                .map(this::extractUserIdFromSessionKey)
-                .filter(userId -> !isOnline(userId)) // 프레즌스가 없는 사용자
-                .collect(Collectors.toSet());
+    }
+    
+    /**
+     * 세션은 있지만 프레즌스가 만료된 사용자 지연 조회
+     * 세션 키 SCAN 배치마다 프레즌스 EXISTS를 파이프라인 1회로 확인 (키당 왕복 제거)
+     */
+    @Override
+    public Stream<String> streamTimeoutUsers() {
+        Stream<String> sessionKeys = RedisScanSupport.scanKeys(redisTemplate, RedisKeys.sessionPattern(), scanCount);
+        return RedisScanSupport.filterPipelined(redisTemplate, sessionKeys, scanCount, 1,
+                        (connection, sessionKey) -> connection.keyCommands().exists(
+                                RedisScanSupport.raw(keys.presence(extractUserIdFromSessionKey(sessionKey)))),
+                        (sessionKey, results) -> !Boolean.TRUE.equals(results.get(0))) // 프레즌스가 없는 사용자
+                .map(this::extractUserIdFromSessionKey);
     }
     
     // === Private Helper Methods ===
@@ -164,7 +212,7 @@ public class UserRedisRepository implements UserRepository {
      * 패턴: user:{userId}:presence
      */
     private String getPresenceKey(String userId) {
-        return USER_KEY_PREFIX + userId + PRESENCE_KEY_SUFFIX;
+        return keys.presence(userId);
     }
     
     /**
@@ -172,7 +220,7 @@ public class UserRedisRepository implements UserRepository {
      * 패턴: user:{userId}:session
      */
     private String getSessionKey(String userId) {
-        return USER_KEY_PREFIX + userId + SESSION_KEY_SUFFIX;
+        return keys.session(userId);
     }
     
     /**
@@ -180,9 +228,7 @@ public class UserRedisRepository implements UserRepository {
      * user:abc123:presence -> abc123
      */
     private String extractUserIdFromPresenceKey(String presenceKey) {
-        return presenceKey
-                .substring(USER_KEY_PREFIX.length())
-                .replace(PRESENCE_KEY_SUFFIX, "");
+        return RedisKeys.userIdFromPresenceKey(presenceKey);
     }
     
     /**
@@ -190,8 +236,6 @@ public class UserRedisRepository implements UserRepository {
      * user:abc123:session -> abc123
      */
     private String extractUserIdFromSessionKey(String sessionKey) {
-        return sessionKey
-                .substring(USER_KEY_PREFIX.length())
-                .replace(SESSION_KEY_SUFFIX, "");
+        return RedisKeys.userIdFromSessionKey(sessionKey);
     }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.model.User;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.ValueFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자 세션 해시(user:{userId}:session) 값 코덱
+ *
+ * 설계 근거:
+ * - GenericJackson2JsonRedisSerializer는 문자열 필드마다 JSON 따옴표를 붙여 저장 → 필드/키마다 낭비
+ * - COMPACT: 문자열은 그대로, joinedAt은 epoch 밀리초 10진 문자열, 키에 있는 userId 필드는 생략
+ *   (Jackson/리플렉션 없이 String 하나로 변환)
+ * - JSON: 기존 형식 그대로 기록 (롤링 배포 중 이전 버전 노드가 읽을 수 있도록)
+ * - 읽기는 형식과 무관하게 두 형식 모두 해석 → 마이그레이션 경로:
+ *   1) value-format=json으로 배포(읽기 호환 확보) 2) 전체 노드 교체 후 compact로 전환
+ *   3) 기존 값은 세션 TTL(10분) 안에 새 형식으로 덮어써지거나 만료
+ */
+final class UserValueCodec {
+
+    // HMGET 필드 순서 (decodeSession에서 같은 순서로 읽음)
+    static final List<String> SESSION_FIELDS = List.of("sessionId", "roomId", "joinedAt");
+
+    // 이스케이프가 포함된 기존 JSON 값 해석용 (드묾)
+    private static final ObjectMapper LEGACY_MAPPER = new ObjectMapper();
+
+    private final ValueFormat format;
+
+    UserValueCodec(ValueFormat format) {
+        this.format = format;
+    }
+
+    ValueFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * 세션 해시 필드 (값이 있는 필드만 기록, 나머지는 기존 값 유지)
+     */
+    Map<String, String> encodeSession(User user) {
+        Map<String, String> fields = new HashMap<>(8);
+        if (format == ValueFormat.JSON) {
+            fields.put("userId", encodeText(user.getUserId()));
+        }
+        if (user.getSessionId() != null) {
+            fields.put("sessionId", encodeText(user.getSessionId()));
+        }
+        if (user.getRoomId() != null) {
+            fields.put("roomId", encodeText(user.getRoomId()));
+        }
+        if (user.getJoinedAt() != null) {
+            fields.put("joinedAt", encodeTime(user.getJoinedAt()));
+        }
+        return fields;
+    }
+
+    /**
+     * HMGET 결과(SESSION_FIELDS 순서)를 User로 변환
+     * sessionId가 없으면 세션이 없는 것으로 간주
+     */
+    Optional<User> decodeSession(String userId, List<String> values) {
+        if (values == null || values.size() < SESSION_FIELDS.size() || values.get(0) == null) {
+            return Optional.empty();
+        }
+        String sessionId = decodeText(values.get(0));
+        String roomId = values.get(1) != null ? decodeText(values.get(1)) : null;
+        LocalDateTime joinedAt = values.get(2) != null ? decodeTime(values.get(2)) : null;
+        return Optional.of(new User(userId, sessionId, roomId, joinedAt));
+    }
+
+    String encodeText(String value) {
+        if (format == ValueFormat.JSON) {
+            return '"' + new String(JsonStringEncoder.getInstance().quoteAsString(value)) + '"';
+        }
+        return value;
+    }
+
+    /**
+     * 문자열 값 해석 (따옴표로 감싼 값은 기존 JSON 형식)
+     * COMPACT 값은 서버가 생성한 ID라 따옴표로 시작/끝나지 않음
+     */
+    String decodeText(String value) {
+        int length = value.length();
+        if (length < 2 || value.charAt(0) != '"' || value.charAt(length - 1) != '"') {
+            return value;
+        }
+        if (value.indexOf('\\') < 0) {
+            return value.substring(1, length - 1);
+        }
+        try {
+            return LEGACY_MAPPER.readValue(value, String.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid legacy JSON value: " + value, e);
+        }
+    }
+
+    /**
+     * 시각 기록: COMPACT는 epoch 밀리초 (밀리초 미만 절삭), JSON은 기존 ISO-8601 문자열
+     */
+    String encodeTime(LocalDateTime time) {
+        if (format == ValueFormat.JSON) {
+            return encodeText(time.toString());
+        }
+        return Long.toString(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    LocalDateTime decodeTime(String value) {
+        String text = decodeText(value);
+        if (isDigits(text)) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(text)), ZoneId.systemDefault());
+        }
+        return LocalDateTime.parse(text);
+    }
+
+    private static boolean isDigits(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
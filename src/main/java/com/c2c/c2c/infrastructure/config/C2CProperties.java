@@ -3,6 +3,10 @@ package com.c2c.c2c.infrastructure.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * C2C 애플리케이션 설정 Properties
  * 
@@ -20,14 +24,17 @@ public class C2CProperties {
     private final Room room;
     private final Message message;
     private final Websocket websocket;
+    private final Broker broker;
     
     @ConstructorBinding
-    public C2CProperties(Redis redis, Heartbeat heartbeat, Room room, Message message, Websocket websocket) {
+    public C2CProperties(Redis redis, Heartbeat heartbeat, Room room, Message message, Websocket websocket,
+                         Broker broker) {
         this.redis = redis != null ? redis : new Redis();
         this.heartbeat = heartbeat != null ? heartbeat : new Heartbeat();
         this.room = room != null ? room : new Room();
         this.message = message != null ? message : new Message();
         this.websocket = websocket != null ? websocket : new Websocket();
+        this.broker = broker != null ? broker : new Broker();
     }
     
     // Getter methods
@@ -36,22 +43,216 @@ public class C2CProperties {
     public Room getRoom() { return room; }
     public Message getMessage() { return message; }
     public Websocket getWebsocket() { return websocket; }
+    public Broker getBroker() { return broker; }
     
     /**
      * Redis 설정
      */
     public static class Redis {
         private String url = "redis://redis:6379";
+        private int scanCount = 500;             // SCAN COUNT 힌트 겸 파이프라인 배치 크기
+        private ValueFormat valueFormat = ValueFormat.COMPACT; // 사용자 세션 값 기록 형식
+        private ConnectionMode connectionMode = ConnectionMode.SHARED; // 명령 연결 방식
+        private int poolMaxActive = 8;           // 풀 최대 연결 수 (POOLED)
+        private int poolMaxIdle = 8;             // 풀 최대 유휴 연결 수 (POOLED)
+        private int poolMinIdle = 0;             // 풀 최소 유휴 연결 수 (POOLED)
+        private long poolMaxWaitMs = 2000L;      // 풀 고갈 시 대기 상한 (POOLED)
+        private long commandTimeoutMs = 2000L;   // 명령 응답 대기 상한
+        private boolean dedicatedPubSub = false; // Pub/Sub 구독 전용 연결 팩토리 사용
+        private PipelineFlush pipelineFlush = PipelineFlush.EACH_COMMAND; // 파이프라인 전송(flush) 시점
+        private int pipelineBufferSize = 500;    // BUFFERED 모드에서 몇 개 명령마다 전송할지
+        private int ioThreads = 0;               // Lettuce I/O 스레드 수 (0 = CPU 코어 수)
+        private int computationThreads = 0;      // Lettuce 연산 스레드 수 (0 = CPU 코어 수)
+        private Topology topology = Topology.STANDALONE; // 배포 형태
+        private String nodes = "";               // SENTINEL: 센티넬 주소, CLUSTER: 시드 노드 (host:port 쉼표 구분, 비우면 url)
+        private String sentinelMaster = "mymaster"; // SENTINEL: 마스터 이름
+        private int clusterMaxRedirects = 3;     // CLUSTER: MOVED/ASK 재시도 상한
+        private long clusterRefreshMs = 30000L;  // CLUSTER: 슬롯 배치 주기적 갱신 간격
+        private boolean replicaReads = false;    // 캐시 허용 조회를 복제본으로 (REPLICA_PREFERRED)
+        private String replicaNodes = "";        // STANDALONE: 복제본 주소 (host:port 쉼표 구분)
+        private KeyLayout keyLayout = KeyLayout.TAGGED; // 키 형식 (해시 태그 여부)
+        private boolean migrateLegacyKeys = false; // 시작 시 이전 형식 키를 해시 태그 키로 옮김 (TAGGED)
         
         public Redis() {}
         
         @ConstructorBinding
-        public Redis(String url) {
+        public Redis(String url, Integer scanCount, ValueFormat valueFormat,
+                     ConnectionMode connectionMode, Integer poolMaxActive, Integer poolMaxIdle,
+                     Integer poolMinIdle, Long poolMaxWaitMs, Long commandTimeoutMs,
+                     Boolean dedicatedPubSub, PipelineFlush pipelineFlush, Integer pipelineBufferSize,
+                     Integer ioThreads, Integer computationThreads, Topology topology, String nodes,
+                     String sentinelMaster, Integer clusterMaxRedirects, Long clusterRefreshMs,
+                     Boolean replicaReads, String replicaNodes, KeyLayout keyLayout,
+                     Boolean migrateLegacyKeys) {
             this.url = url != null ? url : "redis://redis:6379";
+            this.scanCount = scanCount != null && scanCount > 0 ? scanCount : 500;
+            this.valueFormat = valueFormat != null ? valueFormat : ValueFormat.COMPACT;
+            this.connectionMode = connectionMode != null ? connectionMode : ConnectionMode.SHARED;
+            this.poolMaxActive = poolMaxActive != null && poolMaxActive > 0 ? poolMaxActive : 8;
+            this.poolMaxIdle = poolMaxIdle != null && poolMaxIdle >= 0 ? poolMaxIdle : 8;
+            this.poolMinIdle = poolMinIdle != null && poolMinIdle >= 0 ? poolMinIdle : 0;
+            this.poolMaxWaitMs = poolMaxWaitMs != null ? poolMaxWaitMs : 2000L;
+            this.commandTimeoutMs = commandTimeoutMs != null && commandTimeoutMs > 0 ? commandTimeoutMs : 2000L;
+            this.dedicatedPubSub = dedicatedPubSub != null ? dedicatedPubSub : false;
+            this.pipelineFlush = pipelineFlush != null ? pipelineFlush : PipelineFlush.EACH_COMMAND;
+            this.pipelineBufferSize = pipelineBufferSize != null && pipelineBufferSize > 0 ? pipelineBufferSize : 500;
+            this.ioThreads = ioThreads != null && ioThreads >= 0 ? ioThreads : 0;
+            this.computationThreads = computationThreads != null && computationThreads >= 0 ? computationThreads : 0;
+            this.topology = topology != null ? topology : Topology.STANDALONE;
+            this.nodes = nodes != null ? nodes : "";
+            this.sentinelMaster = sentinelMaster != null && !sentinelMaster.isBlank() ? sentinelMaster : "mymaster";
+            this.clusterMaxRedirects = clusterMaxRedirects != null && clusterMaxRedirects > 0 ? clusterMaxRedirects : 3;
+            this.clusterRefreshMs = clusterRefreshMs != null && clusterRefreshMs > 0 ? clusterRefreshMs : 30000L;
+            this.replicaReads = replicaReads != null ? replicaReads : false;
+            this.replicaNodes = replicaNodes != null ? replicaNodes : "";
+            this.keyLayout = keyLayout != null ? keyLayout : KeyLayout.TAGGED;
+            this.migrateLegacyKeys = migrateLegacyKeys != null ? migrateLegacyKeys : false;
         }
         
         public String getUrl() { return url; }
         public void setUrl(String url) { this.url = url; }
+        
+        public int getScanCount() { return scanCount; }
+        public void setScanCount(int scanCount) { this.scanCount = scanCount; }
+        
+        public ValueFormat getValueFormat() { return valueFormat; }
+        public void setValueFormat(ValueFormat valueFormat) { this.valueFormat = valueFormat; }
+        
+        public ConnectionMode getConnectionMode() { return connectionMode; }
+        public void setConnectionMode(ConnectionMode connectionMode) { this.connectionMode = connectionMode; }
+        
+        public int getPoolMaxActive() { return poolMaxActive; }
+        public void setPoolMaxActive(int poolMaxActive) { this.poolMaxActive = poolMaxActive; }
+        
+        public int getPoolMaxIdle() { return poolMaxIdle; }
+        public void setPoolMaxIdle(int poolMaxIdle) { this.poolMaxIdle = poolMaxIdle; }
+        
+        public int getPoolMinIdle() { return poolMinIdle; }
+        public void setPoolMinIdle(int poolMinIdle) { this.poolMinIdle = poolMinIdle; }
+        
+        public long getPoolMaxWaitMs() { return poolMaxWaitMs; }
+        public void setPoolMaxWaitMs(long poolMaxWaitMs) { this.poolMaxWaitMs = poolMaxWaitMs; }
+        
+        public long getCommandTimeoutMs() { return commandTimeoutMs; }
+        public void setCommandTimeoutMs(long commandTimeoutMs) { this.commandTimeoutMs = commandTimeoutMs; }
+        
+        public boolean isDedicatedPubSub() { return dedicatedPubSub; }
+        public void setDedicatedPubSub(boolean dedicatedPubSub) { this.dedicatedPubSub = dedicatedPubSub; }
+        
+        public PipelineFlush getPipelineFlush() { return pipelineFlush; }
+        public void setPipelineFlush(PipelineFlush pipelineFlush) { this.pipelineFlush = pipelineFlush; }
+        
+        public int getPipelineBufferSize() { return pipelineBufferSize; }
+        public void setPipelineBufferSize(int pipelineBufferSize) { this.pipelineBufferSize = pipelineBufferSize; }
+        
+        public int getIoThreads() { return ioThreads; }
+        public void setIoThreads(int ioThreads) { this.ioThreads = ioThreads; }
+        
+        public int getComputationThreads() { return computationThreads; }
+        public void setComputationThreads(int computationThreads) { this.computationThreads = computationThreads; }
+        
+        public Topology getTopology() { return topology; }
+        public void setTopology(Topology topology) { this.topology = topology; }
+        
+        public String getNodes() { return nodes; }
+        public void setNodes(String nodes) { this.nodes = nodes; }
+        
+        public String getSentinelMaster() { return sentinelMaster; }
+        public void setSentinelMaster(String sentinelMaster) { this.sentinelMaster = sentinelMaster; }
+        
+        public int getClusterMaxRedirects() { return clusterMaxRedirects; }
+        public void setClusterMaxRedirects(int clusterMaxRedirects) { this.clusterMaxRedirects = clusterMaxRedirects; }
+        
+        public long getClusterRefreshMs() { return clusterRefreshMs; }
+        public void setClusterRefreshMs(long clusterRefreshMs) { this.clusterRefreshMs = clusterRefreshMs; }
+        
+        public boolean isReplicaReads() { return replicaReads; }
+        public void setReplicaReads(boolean replicaReads) { this.replicaReads = replicaReads; }
+        
+        public String getReplicaNodes() { return replicaNodes; }
+        public void setReplicaNodes(String replicaNodes) { this.replicaNodes = replicaNodes; }
+        
+        public KeyLayout getKeyLayout() { return keyLayout; }
+        public void setKeyLayout(KeyLayout keyLayout) { this.keyLayout = keyLayout; }
+        
+        public boolean isMigrateLegacyKeys() { return migrateLegacyKeys; }
+        public void setMigrateLegacyKeys(boolean migrateLegacyKeys) { this.migrateLegacyKeys = migrateLegacyKeys; }
+        
+        /**
+         * 노드 주소 목록 (nodes를 쉼표로 분리, 비어 있으면 빈 목록)
+         */
+        public List<String> nodeAddresses() {
+            return splitAddresses(nodes);
+        }
+        
+        /**
+         * 복제본 주소 목록 (replicaNodes를 쉼표로 분리, 비어 있으면 빈 목록)
+         */
+        public List<String> replicaAddresses() {
+            return splitAddresses(replicaNodes);
+        }
+        
+        private static List<String> splitAddresses(String addresses) {
+            return Arrays.stream(addresses.split(","))
+                    .map(String::trim)
+                    .filter(node -> !node.isEmpty())
+                    .toList();
+        }
+        
+        /**
+         * 사용자 세션 값 기록 형식 (읽기는 두 형식 모두 지원)
+         * - COMPACT: 따옴표 없는 문자열, epoch 밀리초 시각
+         * - JSON: 기존 GenericJackson2JsonRedisSerializer 형식 (이전 버전 노드와 롤링 배포 중 사용)
+         */
+        public enum ValueFormat {
+            COMPACT,
+            JSON
+        }
+        
+        /**
+         * 명령 연결 방식
+         * - SHARED: 노드 전체가 다중화 연결 1개를 공유 (기본, 단건 명령 위주 부하에 유리)
+         * - POOLED: commons-pool2 풀에서 연결 대여 (파이프라인/트랜잭션 등 전용 연결이 필요한 작업이 잦을 때)
+         */
+        public enum ConnectionMode {
+            SHARED,
+            POOLED
+        }
+        
+        /**
+         * 파이프라인(executePipelined) 전송 시점
+         * - EACH_COMMAND: 명령마다 즉시 전송 (기본, Lettuce 자동 flush)
+         * - ON_CLOSE: 파이프라인을 닫을 때 한 번에 전송
+         * - BUFFERED: pipeline-buffer-size개 명령마다 전송
+         */
+        public enum PipelineFlush {
+            EACH_COMMAND,
+            ON_CLOSE,
+            BUFFERED
+        }
+        
+        /**
+         * Redis 배포 형태
+         * - STANDALONE: 단일 인스턴스 (url)
+         * - SENTINEL: 센티넬이 알려주는 마스터로 연결, 장애 조치 시 자동 전환
+         * - CLUSTER: 슬롯 단위 샤딩, 명령은 키의 슬롯을 담당하는 노드로 라우팅
+         *   (다중 키 스크립트는 같은 해시 태그 키만 사용 - RedisKeys 참고)
+         */
+        public enum Topology {
+            STANDALONE,
+            SENTINEL,
+            CLUSTER
+        }
+        
+        /**
+         * Redis 키 형식 (ID 해석은 두 형식 모두 지원)
+         * - TAGGED: room:{roomId}:members처럼 ID를 해시 태그로 감쌈 (기본, CLUSTER 필수)
+         * - LEGACY: room:roomId:members 이전 형식 (해시 태그 이전 버전 노드와 롤링 배포 중 사용, CLUSTER 불가)
+         */
+        public enum KeyLayout {
+            TAGGED,
+            LEGACY
+        }
     }
     
     /**
@@ -61,13 +262,22 @@ public class C2CProperties {
     public static class Heartbeat {
         private long intervalMs = 10000L;        // 10초
         private long presenceTtlSec = 30L;       // 30초
+        private boolean expiryEvents = true;     // 프레즌스 만료 키이벤트 구독으로 즉시 타임아웃 처리
+        private long coalesceWindowMs = 200L;    // 프레즌스 갱신 모아 쓰기 주기 (0 = 즉시 개별 SETEX)
+        private long skipRefreshAboveTtlSec = 0L; // 남은 TTL이 이보다 길면 갱신 생략 (0 = 간격 기준 자동)
         
         public Heartbeat() {}
         
         @ConstructorBinding
-        public Heartbeat(Long intervalMs, Long presenceTtlSec) {
+        public Heartbeat(Long intervalMs, Long presenceTtlSec, Boolean expiryEvents,
+                         Long coalesceWindowMs, Long skipRefreshAboveTtlSec) {
             this.intervalMs = intervalMs != null ? intervalMs : 10000L;
             this.presenceTtlSec = presenceTtlSec != null ? presenceTtlSec : 30L;
+            this.expiryEvents = expiryEvents != null ? expiryEvents : true;
+            this.coalesceWindowMs = coalesceWindowMs != null && coalesceWindowMs >= 0 ? coalesceWindowMs : 200L;
+            // 0 또는 미설정 = skipRefreshAboveTtlMs()에서 하트비트 간격 기준으로 계산
+            this.skipRefreshAboveTtlSec = skipRefreshAboveTtlSec != null && skipRefreshAboveTtlSec > 0
+                    ? skipRefreshAboveTtlSec : 0L;
         }
         
         public long getIntervalMs() { return intervalMs; }
@@ -75,6 +285,26 @@ public class C2CProperties {
         
         public long getPresenceTtlSec() { return presenceTtlSec; }
         public void setPresenceTtlSec(long presenceTtlSec) { this.presenceTtlSec = presenceTtlSec; }
+        
+        public boolean isExpiryEvents() { return expiryEvents; }
+        public void setExpiryEvents(boolean expiryEvents) { this.expiryEvents = expiryEvents; }
+        
+        public long getCoalesceWindowMs() { return coalesceWindowMs; }
+        public void setCoalesceWindowMs(long coalesceWindowMs) { this.coalesceWindowMs = coalesceWindowMs; }
+        
+        public long getSkipRefreshAboveTtlSec() { return skipRefreshAboveTtlSec; }
+        public void setSkipRefreshAboveTtlSec(long skipRefreshAboveTtlSec) { this.skipRefreshAboveTtlSec = skipRefreshAboveTtlSec; }
+        
+        /**
+         * 갱신 생략 기준 (밀리초)
+         * 미설정이면 ping 하나를 잃어도 다음 ping까지 키가 살아 있도록 2 × 간격 + 모아 쓰기 주기
+         * (기본 TTL 30초 / 10초 간격이면 생략하지 않음, TTL을 늘린 경우에만 생략)
+         */
+        public long skipRefreshAboveTtlMs() {
+            return skipRefreshAboveTtlSec > 0
+                    ? skipRefreshAboveTtlSec * 1000L
+                    : 2 * intervalMs + coalesceWindowMs;
+        }
     }
     
     /**
@@ -84,13 +314,24 @@ public class C2CProperties {
     public static class Room {
         private long idleTtlSec = 300L;          // 5분
         private int maxMembers = 10;             // 최대 멤버 수
+        private boolean orderedEvents = true;    // 방 단위 직렬 처리 (입장/메시지/퇴장 순서 보장)
+        private int eventWorkers = 0;            // 방 이벤트 워커 스레드 수 (0 = 방 레인마다 가상 스레드)
+        private boolean nearCache = true;        // 노드 로컬 방 존재/멤버 캐시
+        private int nearCacheMaxRooms = 10000;   // 근접 캐시 최대 방 수 (초과 시 축출)
+        private long nearCacheTtlMs = 10000L;    // 근접 캐시 항목 최대 유지 시간 (무효화 유실 대비)
         
         public Room() {}
         
         @ConstructorBinding
-        public Room(Long idleTtlSec, Integer maxMembers) {
+        public Room(Long idleTtlSec, Integer maxMembers, Boolean orderedEvents, Integer eventWorkers,
+                    Boolean nearCache, Integer nearCacheMaxRooms, Long nearCacheTtlMs) {
             this.idleTtlSec = idleTtlSec != null ? idleTtlSec : 300L;
             this.maxMembers = maxMembers != null ? maxMembers : 10;
+            this.orderedEvents = orderedEvents != null ? orderedEvents : true;
+            this.eventWorkers = eventWorkers != null && eventWorkers > 0 ? eventWorkers : 0;
+            this.nearCache = nearCache != null ? nearCache : true;
+            this.nearCacheMaxRooms = nearCacheMaxRooms != null && nearCacheMaxRooms > 0 ? nearCacheMaxRooms : 10000;
+            this.nearCacheTtlMs = nearCacheTtlMs != null && nearCacheTtlMs > 0 ? nearCacheTtlMs : 10000L;
         }
         
         public long getIdleTtlSec() { return idleTtlSec; }
@@ -98,6 +339,21 @@ public class C2CProperties {
         
         public int getMaxMembers() { return maxMembers; }
         public void setMaxMembers(int maxMembers) { this.maxMembers = maxMembers; }
+        
+        public boolean isOrderedEvents() { return orderedEvents; }
+        public void setOrderedEvents(boolean orderedEvents) { this.orderedEvents = orderedEvents; }
+        
+        public int getEventWorkers() { return eventWorkers; }
+        public void setEventWorkers(int eventWorkers) { this.eventWorkers = eventWorkers; }
+        
+        public boolean isNearCache() { return nearCache; }
+        public void setNearCache(boolean nearCache) { this.nearCache = nearCache; }
+        
+        public int getNearCacheMaxRooms() { return nearCacheMaxRooms; }
+        public void setNearCacheMaxRooms(int nearCacheMaxRooms) { this.nearCacheMaxRooms = nearCacheMaxRooms; }
+        
+        public long getNearCacheTtlMs() { return nearCacheTtlMs; }
+        public void setNearCacheTtlMs(long nearCacheTtlMs) { this.nearCacheTtlMs = nearCacheTtlMs; }
     }
     
     /**
@@ -129,13 +385,23 @@ public class C2CProperties {
     public static class Websocket {
         private String allowedOrigins = "*";     // 개발용, 운영시 특정 도메인으로 제한
         private int bufferSize = 8192;           // 8KB
+        private int outboundQueueDepth = 256;    // 세션별 송신 대기 프레임 수 상한
+        private int outboundQueueBytes = 524288; // 세션별 송신 대기 바이트 상한 (512KB)
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_EPHEMERAL; // 느린 소비자 처리 정책
+        private boolean virtualThreadInbound = false; // 수신 프레임을 가상 스레드에서 처리 (세션별 순서 보장)
         
         public Websocket() {}
         
         @ConstructorBinding
-        public Websocket(String allowedOrigins, Integer bufferSize) {
+        public Websocket(String allowedOrigins, Integer bufferSize, Integer outboundQueueDepth,
+                         Integer outboundQueueBytes, OverflowPolicy overflowPolicy,
+                         Boolean virtualThreadInbound) {
             this.allowedOrigins = allowedOrigins != null ? allowedOrigins : "*";
             this.bufferSize = bufferSize != null ? bufferSize : 8192;
+            this.outboundQueueDepth = outboundQueueDepth != null ? outboundQueueDepth : 256;
+            this.outboundQueueBytes = outboundQueueBytes != null ? outboundQueueBytes : 524288;
+            this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.DROP_EPHEMERAL;
+            this.virtualThreadInbound = virtualThreadInbound != null ? virtualThreadInbound : false;
         }
         
         public String getAllowedOrigins() { return allowedOrigins; }
@@ -144,6 +410,18 @@ public class C2CProperties {
         public int getBufferSize() { return bufferSize; }
         public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
         
+        public int getOutboundQueueDepth() { return outboundQueueDepth; }
+        public void setOutboundQueueDepth(int outboundQueueDepth) { this.outboundQueueDepth = outboundQueueDepth; }
+        
+        public int getOutboundQueueBytes() { return outboundQueueBytes; }
+        public void setOutboundQueueBytes(int outboundQueueBytes) { this.outboundQueueBytes = outboundQueueBytes; }
+        
+        public OverflowPolicy getOverflowPolicy() { return overflowPolicy; }
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) { this.overflowPolicy = overflowPolicy; }
+        
+        public boolean isVirtualThreadInbound() { return virtualThreadInbound; }
+        public void setVirtualThreadInbound(boolean virtualThreadInbound) { this.virtualThreadInbound = virtualThreadInbound; }
+        
         /**
          * CORS 허용 도메인을 배열로 반환
          */
@@ -153,16 +431,125 @@ public class C2CProperties {
             }
             return allowedOrigins.split(",");
         }
+        
+        /**
+         * 송신 큐 초과 시 처리 정책
+         * - DROP_OLDEST: 가장 오래된 대기 프레임부터 버림
+         * - DROP_EPHEMERAL: 휘발성 프레임(pong, 입장/퇴장 알림)만 버리고, 그래도 넘치면 연결 종료
+         * - DISCONNECT: 즉시 연결 종료
+         */
+        public enum OverflowPolicy {
+            DROP_OLDEST,
+            DROP_EPHEMERAL,
+            DISCONNECT
+        }
+    }
+    
+    /**
+     * 메시지 브로커 설정
+     * 명세서: "chan:{roomId} (Pub/Sub) — 메시지 팬아웃", 다중 인스턴스 수평 확장
+     */
+    public static class Broker {
+        private String nodeId = generateNodeId();    // 노드 식별자 (자기 발행 메시지 필터링용)
+        private boolean crossNodeFanout = false;     // 채팅 메시지를 chan:{roomId}로 발행하여 다른 노드에 전달
+        private SubscriptionMode subscriptionMode = SubscriptionMode.CHANNEL; // 방 채널 구독 방식
+        private Impl impl = Impl.REDIS_PUBSUB;       // 브로커 구현체
+        private long streamMaxLen = 10000L;          // 방 스트림 최대 길이 (근사 MAXLEN)
+        private int streamReadCount = 100;           // XREAD 1회당 최대 메시지 수
+        private long streamBlockMs = 500L;           // XREAD 블로킹 대기 시간
+        private int dispatchThreads = Runtime.getRuntime().availableProcessors(); // 수신 메시지 처리 스레드 수
+        private boolean dispatchVirtualThreads = false; // 수신 메시지 처리를 가상 스레드로 수행
+        private int dispatchMaxPending = 10000;      // 처리 대기 메시지 상한 (초과 시 버림)
+        
+        public Broker() {}
+        
+        @ConstructorBinding
+        public Broker(String nodeId, Boolean crossNodeFanout, SubscriptionMode subscriptionMode, Impl impl,
+                      Long streamMaxLen, Integer streamReadCount, Long streamBlockMs,
+                      Integer dispatchThreads, Boolean dispatchVirtualThreads, Integer dispatchMaxPending) {
+            this.nodeId = nodeId != null && !nodeId.isBlank() ? nodeId : generateNodeId();
+            this.crossNodeFanout = crossNodeFanout != null ? crossNodeFanout : false;
+            this.subscriptionMode = subscriptionMode != null ? subscriptionMode : SubscriptionMode.CHANNEL;
+            this.impl = impl != null ? impl : Impl.REDIS_PUBSUB;
+            this.streamMaxLen = streamMaxLen != null ? streamMaxLen : 10000L;
+            this.streamReadCount = streamReadCount != null ? streamReadCount : 100;
+            this.streamBlockMs = streamBlockMs != null ? streamBlockMs : 500L;
+            this.dispatchThreads = dispatchThreads != null && dispatchThreads > 0
+                    ? dispatchThreads : Runtime.getRuntime().availableProcessors();
+            this.dispatchVirtualThreads = dispatchVirtualThreads != null ? dispatchVirtualThreads : false;
+            this.dispatchMaxPending = dispatchMaxPending != null ? dispatchMaxPending : 10000;
+        }
+        
+        public String getNodeId() { return nodeId; }
+        public void setNodeId(String nodeId) { this.nodeId = nodeId; }
+        
+        public boolean isCrossNodeFanout() { return crossNodeFanout; }
+        public void setCrossNodeFanout(boolean crossNodeFanout) { this.crossNodeFanout = crossNodeFanout; }
+        
+        public SubscriptionMode getSubscriptionMode() { return subscriptionMode; }
+        public void setSubscriptionMode(SubscriptionMode subscriptionMode) { this.subscriptionMode = subscriptionMode; }
+        
+        public Impl getImpl() { return impl; }
+        public void setImpl(Impl impl) { this.impl = impl; }
+        
+        public long getStreamMaxLen() { return streamMaxLen; }
+        public void setStreamMaxLen(long streamMaxLen) { this.streamMaxLen = streamMaxLen; }
+        
+        public int getStreamReadCount() { return streamReadCount; }
+        public void setStreamReadCount(int streamReadCount) { this.streamReadCount = streamReadCount; }
+        
+        public long getStreamBlockMs() { return streamBlockMs; }
+        public void setStreamBlockMs(long streamBlockMs) { this.streamBlockMs = streamBlockMs; }
+        
+        public int getDispatchThreads() { return dispatchThreads; }
+        public void setDispatchThreads(int dispatchThreads) { this.dispatchThreads = dispatchThreads; }
+        
+        public boolean isDispatchVirtualThreads() { return dispatchVirtualThreads; }
+        public void setDispatchVirtualThreads(boolean dispatchVirtualThreads) { this.dispatchVirtualThreads = dispatchVirtualThreads; }
+        
+        public int getDispatchMaxPending() { return dispatchMaxPending; }
+        public void setDispatchMaxPending(int dispatchMaxPending) { this.dispatchMaxPending = dispatchMaxPending; }
+        
+        /**
+         * 미지정 시 프로세스마다 고유한 노드 ID 생성
+         */
+        private static String generateNodeId() {
+            return "node-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        
+        /**
+         * 방 채널 구독 방식
+         * - CHANNEL: 방마다 SUBSCRIBE chan:{roomId} (입장/퇴장 시 구독 변경)
+         * - PATTERN: 노드당 PSUBSCRIBE chan:* 한 번, 로컬 멤버가 없는 방 메시지는 노드에서 필터링
+         */
+        public enum SubscriptionMode {
+            CHANNEL,
+            PATTERN
+        }
+        
+        /**
+         * 브로커 구현체 (BROKER_IMPL 토글)
+         * - REDIS_PUBSUB: chan:{roomId} Pub/Sub (기본)
+         * - REDIS_STREAMS: stream:{roomId} XADD/XREAD, 재연결 시 마지막 ID부터 이어 읽기
+         */
+        public enum Impl {
+            REDIS_PUBSUB,
+            REDIS_STREAMS
+        }
     }
     
     @Override
     public String toString() {
         return "C2CProperties{" +
-                "redis=" + redis.getUrl() +
+                "redis=" + redis.getTopology() + "/" + redis.getUrl() + "/" + redis.getConnectionMode() + "/" + redis.getPipelineFlush() +
                 ", heartbeat=" + heartbeat.getIntervalMs() + "ms/" + heartbeat.getPresenceTtlSec() + "s" +
                 ", room=" + room.getIdleTtlSec() + "s/" + room.getMaxMembers() + "members" +
                 ", message=" + message.getRateLimitPerSec() + "msgs/s/" + message.getMaxSizeBytes() + "bytes" +
-                ", websocket=" + websocket.getAllowedOrigins() +
+                ", websocket=" + websocket.getAllowedOrigins() + "/" + websocket.getOutboundQueueDepth() + "frames/"
+                        + websocket.getOutboundQueueBytes() + "bytes/" + websocket.getOverflowPolicy()
+                        + (websocket.isVirtualThreadInbound() ? "/vt-inbound" : "") +
+                ", broker=" + broker.getNodeId() + (broker.isCrossNodeFanout() ? "/cross-node" : "/local")
+                        + "/" + broker.getImpl() + "/" + broker.getSubscriptionMode() +
                 '}';
     }
 }
\ No newline at end of file
@@ -1,18 +1,40 @@
 package com.c2c.c2c.infrastructure.config;
 
+import com.c2c.c2c.infrastructure.adapter.out.redis.RedisKeys;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Redis 설정
@@ -22,6 +44,14 @@ import java.net.URI;
  * - application.yml에서 호스트/포트 설정 분리
  * - C2CProperties를 통한 타입 안전한 설정 바인딩
  * - Lettuce 커넥션 팩토리 사용 (비동기 지원)
+ * - 연결 방식/타임아웃/파이프라인 전송 시점/I/O 스레드 수는 c2c.redis.*로 조정
+ * - 배포 형태(standalone/sentinel/cluster)도 c2c.redis.topology로 선택
+ *   클러스터는 Lettuce가 키의 슬롯을 담당하는 노드로 직접 라우팅하고, MOVED/ASK 응답 시 슬롯 배치를 즉시 갱신
+ *   (조합별 처리량은 RedisConnectionBenchmark로 비교)
+ * - 복제본 읽기(c2c.redis.replica-reads)를 켜면 조회 전용 팩토리/템플릿이 REPLICA_PREFERRED로 복제본에서 읽음
+ *   쓰기와 STRICT 조회는 항상 기본 템플릿(마스터)
+ * - 키 형식(c2c.redis.key-layout)은 RedisKeys 빈으로 만들어 저장소/브로커에 주입 (전역 상태 없음)
+ *   LEGACY는 키가 슬롯에 흩어져 클러스터 스크립트가 CROSSSLOT으로 실패하므로 CLUSTER와 함께 쓰면 시작 실패
  */
 @Configuration
 @EnableConfigurationProperties(C2CProperties.class)
@@ -33,59 +63,302 @@ public class RedisConfig {
         this.properties = properties;
     }
     
+    /**
+     * 키 규칙 (c2c.redis.key-layout 형식으로 조립)
+     */
+    @Bean
+    public RedisKeys redisKeys() {
+        return new RedisKeys(keyLayout(properties.getRedis()));
+    }
+    
+    /**
+     * 키 형식 검증 (LEGACY + CLUSTER 거부)
+     */
+    static C2CProperties.Redis.KeyLayout keyLayout(C2CProperties.Redis redis) {
+        if (redis.getKeyLayout() == C2CProperties.Redis.KeyLayout.LEGACY
+                && redis.getTopology() == C2CProperties.Redis.Topology.CLUSTER) {
+            throw new IllegalStateException("c2c.redis.key-layout=legacy is not supported with c2c.redis.topology=cluster; "
+                    + "room/user scripts need hash-tagged keys");
+        }
+        return redis.getKeyLayout();
+    }
+    
+    /**
+     * Lettuce 클라이언트 리소스 (I/O 이벤트 루프, 연산 스레드)
+     * 명령용/구독용 팩토리와 비동기 저장소 연결이 같은 스레드를 공유
+     * Spring Boot 기본 빈과 같은 이름이라 자동 설정은 생성하지 않음
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources() {
+        return createClientResources(properties.getRedis());
+    }
+    
     /**
      * Redis 연결 팩토리 설정
      * Docker Compose 환경에서 서비스명 'redis' 사용
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    @Primary
+    public RedisConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
+        return createConnectionFactory(properties.getRedis(), lettuceClientResources);
+    }
+    
+    /**
+     * Pub/Sub 구독 전용 연결 팩토리 (c2c.redis.dedicated-pub-sub=true일 때만)
+     * 
+     * 리스너 컨테이너는 원래도 구독 연결을 따로 열지만 명령용 팩토리의 풀/타임아웃 설정을 그대로 따름
+     * 전용 팩토리는 풀 없이 자체 RedisClient로 구독 연결을 열어 명령 부하(풀 고갈, 재연결)와 분리
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "c2c.redis", name = "dedicated-pub-sub", havingValue = "true")
+    public LettuceConnectionFactory pubSubConnectionFactory(ClientResources lettuceClientResources) {
+        LettuceConnectionFactory factory = newConnectionFactory(properties.getRedis(),
+                clientConfiguration(properties.getRedis(), lettuceClientResources, false));
+        factory.setShareNativeConnection(true);
+        return factory;
+    }
+    
+    /**
+     * 복제본 조회용 연결 팩토리 (c2c.redis.replica-reads=true일 때만)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "c2c.redis", name = "replica-reads", havingValue = "true")
+    public LettuceConnectionFactory replicaConnectionFactory(ClientResources lettuceClientResources) {
+        return createReplicaConnectionFactory(properties.getRedis(), lettuceClientResources);
+    }
+    
+    /**
+     * 클라이언트 리소스 생성 (0이면 Lettuce 기본값 = CPU 코어 수)
+     */
+    public static ClientResources createClientResources(C2CProperties.Redis redis) {
+        DefaultClientResources.Builder builder = DefaultClientResources.builder();
+        if (redis.getIoThreads() > 0) {
+            builder.ioThreadPoolSize(redis.getIoThreads());
+        }
+        if (redis.getComputationThreads() > 0) {
+            builder.computationThreadPoolSize(redis.getComputationThreads());
+        }
+        return builder.build();
+    }
+    
+    /**
+     * 명령용 연결 팩토리 생성 (벤치마크에서도 같은 조립 경로 사용)
+     * 
+     * - SHARED: 단건 명령은 다중화 연결 1개를 공유
+     *   단, executePipelined/트랜잭션은 호출마다 전용 연결을 새로 열고 닫음
+     * - POOLED: 모든 명령이 풀에서 연결을 대여 (파이프라인도 연결 재사용)
+     * - 연결 검증(validateConnection)은 사용하지 않음: 사용할 때마다 PING 왕복이 추가되고,
+     *   끊어진 연결은 Lettuce 자동 재연결이 처리
+     */
+    public static LettuceConnectionFactory createConnectionFactory(C2CProperties.Redis redis, ClientResources clientResources) {
         try {
-            String redisUrl = properties.getRedis().getUrl();
-            URI redisUri = URI.create(redisUrl);
-            
-            RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
-            
-            // Docker Compose에서는 서비스명으로 연결
-            String host = redisUri.getHost();
-            if (host == null || host.isEmpty()) {
-                host = "redis"; // 기본값: Docker Compose 서비스명
-            }
-            config.setHostName(host);
-            
-            int port = redisUri.getPort();
-            if (port <= 0) {
-                port = 6379; // 기본 Redis 포트
-            }
-            config.setPort(port);
-            
-            // 인증 정보가 있다면 설정
-            String userInfo = redisUri.getUserInfo();
-            if (userInfo != null && userInfo.contains(":")) {
-                String[] credentials = userInfo.split(":");
-                if (credentials.length >= 2) {
-                    config.setUsername(credentials[0]);
-                    config.setPassword(credentials[1]);
-                }
-            } else if (userInfo != null && !userInfo.isEmpty()) {
-                config.setPassword(userInfo); // 비밀번호만 있는 경우
-            }
+            boolean pooled = redis.getConnectionMode() == C2CProperties.Redis.ConnectionMode.POOLED;
             
             // Lettuce 커넥션 팩토리 (비동기 지원, 스레드 안전)
-            LettuceConnectionFactory factory = new LettuceConnectionFactory(config);
-            factory.setValidateConnection(true);
+            LettuceConnectionFactory factory = newConnectionFactory(redis, clientConfiguration(redis, clientResources, pooled));
+            factory.setShareNativeConnection(!pooled);
+            factory.setPipeliningFlushPolicy(pipeliningFlushPolicy(redis));
             
             return factory;
             
         } catch (Exception e) {
-            throw new RuntimeException("Redis 연결 설정 실패: " + properties.getRedis().getUrl(), e);
+            throw new RuntimeException("Redis 연결 설정 실패: " + redis.getUrl(), e);
+        }
+    }
+    
+    /**
+     * 복제본 조회용 연결 팩토리 생성 (명령용 팩토리와 같은 연결 방식/타임아웃, 읽기 노드만 다름)
+     * 
+     * - REPLICA_PREFERRED: 복제본이 모두 내려가면 마스터에서 읽음 (조회 실패 대신 부하 이동)
+     * - STANDALONE: url = 마스터, replicaNodes = 복제본 주소 (정적 마스터/복제본 구성)
+     * - SENTINEL/CLUSTER: 복제본은 센티넬/CLUSTER NODES로 자동 탐색
+     */
+    public static LettuceConnectionFactory createReplicaConnectionFactory(C2CProperties.Redis redis,
+                                                                          ClientResources clientResources) {
+        boolean pooled = redis.getConnectionMode() == C2CProperties.Redis.ConnectionMode.POOLED;
+        LettuceClientConfiguration clientConfiguration =
+                clientConfiguration(redis, clientResources, pooled, ReadFrom.REPLICA_PREFERRED);
+        
+        LettuceConnectionFactory factory = redis.getTopology() == C2CProperties.Redis.Topology.STANDALONE
+                ? new LettuceConnectionFactory(staticMasterReplicaConfiguration(redis), clientConfiguration)
+                : newConnectionFactory(redis, clientConfiguration);
+        factory.setShareNativeConnection(!pooled);
+        factory.setPipeliningFlushPolicy(pipeliningFlushPolicy(redis));
+        return factory;
+    }
+    
+    private static LettuceConnectionFactory newConnectionFactory(C2CProperties.Redis redis,
+                                                                 LettuceClientConfiguration clientConfiguration) {
+        return switch (redis.getTopology()) {
+            case STANDALONE -> new LettuceConnectionFactory(standaloneConfiguration(redis), clientConfiguration);
+            case SENTINEL -> new LettuceConnectionFactory(sentinelConfiguration(redis), clientConfiguration);
+            case CLUSTER -> new LettuceConnectionFactory(clusterConfiguration(redis), clientConfiguration);
+        };
+    }
+    
+    private static RedisStandaloneConfiguration standaloneConfiguration(C2CProperties.Redis redis) {
+        URI redisUri = URI.create(redis.getUrl());
+        
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
+        
+        // Docker Compose에서는 서비스명으로 연결
+        String host = redisUri.getHost();
+        if (host == null || host.isEmpty()) {
+            host = "redis"; // 기본값: Docker Compose 서비스명
         }
+        config.setHostName(host);
+        
+        int port = redisUri.getPort();
+        if (port <= 0) {
+            port = 6379; // 기본 Redis 포트
+        }
+        config.setPort(port);
+        
+        applyCredentials(config, redisUri);
+        return config;
     }
     
     /**
-     * RedisTemplate 설정 - 문자열 키-값 (Repository용)
+     * 정적 마스터/복제본: url = 마스터, replicaNodes = 복제본 주소 (인증 정보는 모든 노드 공통)
+     */
+    private static RedisStaticMasterReplicaConfiguration staticMasterReplicaConfiguration(C2CProperties.Redis redis) {
+        RedisStandaloneConfiguration master = standaloneConfiguration(redis);
+        
+        RedisStaticMasterReplicaConfiguration config =
+                new RedisStaticMasterReplicaConfiguration(master.getHostName(), master.getPort());
+        for (String node : redis.replicaAddresses()) {
+            int separator = node.lastIndexOf(':');
+            config.node(node.substring(0, separator), Integer.parseInt(node.substring(separator + 1)));
+        }
+        
+        applyCredentials(config, URI.create(redis.getUrl()));
+        return config;
+    }
+    
+    /**
+     * 센티넬: nodes = 센티넬 주소 목록 (비어 있으면 url의 호스트/포트를 센티넬로 사용)
+     * 인증 정보(url)는 데이터 노드 접속용
+     */
+    private static RedisSentinelConfiguration sentinelConfiguration(C2CProperties.Redis redis) {
+        URI redisUri = URI.create(redis.getUrl());
+        
+        RedisSentinelConfiguration config = new RedisSentinelConfiguration();
+        config.master(redis.getSentinelMaster());
+        for (String node : nodesOrUrl(redis, redisUri)) {
+            int separator = node.lastIndexOf(':');
+            config.sentinel(node.substring(0, separator), Integer.parseInt(node.substring(separator + 1)));
+        }
+        
+        applyCredentials(config, redisUri);
+        return config;
+    }
+    
+    /**
+     * 클러스터: nodes = 시드 노드 목록 (나머지 노드/슬롯 배치는 CLUSTER SLOTS로 조회)
+     */
+    private static RedisClusterConfiguration clusterConfiguration(C2CProperties.Redis redis) {
+        URI redisUri = URI.create(redis.getUrl());
+        
+        RedisClusterConfiguration config = new RedisClusterConfiguration(nodesOrUrl(redis, redisUri));
+        config.setMaxRedirects(redis.getClusterMaxRedirects());
+        
+        applyCredentials(config, redisUri);
+        return config;
+    }
+    
+    private static List<String> nodesOrUrl(C2CProperties.Redis redis, URI redisUri) {
+        List<String> nodes = redis.nodeAddresses();
+        if (!nodes.isEmpty()) {
+            return nodes;
+        }
+        String host = redisUri.getHost() != null && !redisUri.getHost().isEmpty() ? redisUri.getHost() : "redis";
+        int port = redisUri.getPort() > 0 ? redisUri.getPort() : 6379;
+        return List.of(host + ":" + port);
+    }
+    
+    // 인증 정보가 있다면 설정
+    private static void applyCredentials(RedisConfiguration.WithAuthentication config, URI redisUri) {
+        String userInfo = redisUri.getUserInfo();
+        if (userInfo != null && userInfo.contains(":")) {
+            String[] credentials = userInfo.split(":");
+            if (credentials.length >= 2) {
+                config.setUsername(credentials[0]);
+                config.setPassword(credentials[1]);
+            }
+        } else if (userInfo != null && !userInfo.isEmpty()) {
+            config.setPassword(userInfo); // 비밀번호만 있는 경우
+        }
+    }
+    
+    private static LettuceClientConfiguration clientConfiguration(C2CProperties.Redis redis,
+                                                                  ClientResources clientResources,
+                                                                  boolean pooled) {
+        return clientConfiguration(redis, clientResources, pooled, null);
+    }
+    
+    private static LettuceClientConfiguration clientConfiguration(C2CProperties.Redis redis,
+                                                                  ClientResources clientResources,
+                                                                  boolean pooled,
+                                                                  ReadFrom readFrom) {
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder;
+        if (pooled) {
+            GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+            poolConfig.setMaxTotal(redis.getPoolMaxActive());
+            poolConfig.setMaxIdle(redis.getPoolMaxIdle());
+            poolConfig.setMinIdle(redis.getPoolMinIdle());
+            poolConfig.setMaxWait(Duration.ofMillis(redis.getPoolMaxWaitMs()));
+            builder = LettucePoolingClientConfiguration.builder().poolConfig(poolConfig);
+        } else {
+            builder = LettuceClientConfiguration.builder();
+        }
+        if (redis.getTopology() == C2CProperties.Redis.Topology.CLUSTER) {
+            // 슬롯 배치 갱신: 주기적 + MOVED/ASK/재연결 시 즉시 (리샤딩/장애 조치 후 라우팅 복구)
+            builder.clientOptions(ClusterClientOptions.builder()
+                    .topologyRefreshOptions(ClusterTopologyRefreshOptions.builder()
+                            .enablePeriodicRefresh(Duration.ofMillis(redis.getClusterRefreshMs()))
+                            .enableAllAdaptiveRefreshTriggers()
+                            .build())
+                    .build());
+        }
+        if (readFrom != null) {
+            builder.readFrom(readFrom);
+        }
+        return builder
+                .clientResources(clientResources)
+                .commandTimeout(Duration.ofMillis(redis.getCommandTimeoutMs()))
+                .build();
+    }
+    
+    private static LettuceConnection.PipeliningFlushPolicy pipeliningFlushPolicy(C2CProperties.Redis redis) {
+        return switch (redis.getPipelineFlush()) {
+            case EACH_COMMAND -> LettuceConnection.PipeliningFlushPolicy.flushEachCommand();
+            case ON_CLOSE -> LettuceConnection.PipeliningFlushPolicy.flushOnClose();
+            case BUFFERED -> LettuceConnection.PipeliningFlushPolicy.buffered(redis.getPipelineBufferSize());
+        };
+    }
+    
+    /**
+     * RedisTemplate 설정 - 문자열 키-값 (Repository용, 쓰기/STRICT 조회)
      */
     @Bean
+    @Primary
     public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
+        return stringTemplate(connectionFactory);
+    }
+    
+    /**
+     * 복제본 조회용 RedisTemplate (표시용 멤버 목록, 근접 캐시 채우기 등)
+     * 복제본 읽기가 꺼져 있으면 명령용 팩토리를 그대로 사용 (저장소 코드는 설정과 무관)
+     */
+    @Bean("replicaRedisTemplate")
+    public RedisTemplate<String, String> replicaRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            @Qualifier("replicaConnectionFactory") ObjectProvider<LettuceConnectionFactory> replicaConnectionFactory) {
+        RedisConnectionFactory replicaFactory = replicaConnectionFactory.getIfAvailable();
+        return stringTemplate(replicaFactory != null ? replicaFactory : connectionFactory);
+    }
+    
+    private static RedisTemplate<String, String> stringTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, String> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         
@@ -133,12 +406,17 @@ public class RedisConfig {
      * Pub/Sub 메시지 수신용
      */
     @Bean
-    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            @Qualifier("pubSubConnectionFactory") ObjectProvider<LettuceConnectionFactory> pubSubConnectionFactory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
-        container.setConnectionFactory(connectionFactory);
+        // 전용 구독 팩토리가 있으면 사용, 없으면 명령용 팩토리에서 구독 연결을 엶
+        RedisConnectionFactory subscriptionFactory = pubSubConnectionFactory.getIfAvailable();
+        container.setConnectionFactory(subscriptionFactory != null ? subscriptionFactory : connectionFactory);
         
-        // 스레드 풀 설정 (Docker 환경에서 리소스 고려)
-        container.setTaskExecutor(null); // 기본 SimpleAsyncTaskExecutor 사용
+        // 수신 스레드에서 바로 리스너 호출: 리스너(RedisListenerDispatcher로 감싼)가 즉시 워커로 넘김
+        // 기본 SimpleAsyncTaskExecutor는 메시지마다 스레드를 생성하므로 사용하지 않음
+        container.setTaskExecutor(new SyncTaskExecutor());
         
         // 에러 핸들러 설정
         container.setErrorHandler(throwable -> {
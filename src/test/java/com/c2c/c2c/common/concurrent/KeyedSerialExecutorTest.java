@@ -0,0 +1,160 @@
+package com.c2c.c2c.common.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * KeyedSerialExecutor 단위 테스트
+ *
+ * 테스트 범위:
+ * - 같은 키 작업의 순서 보장 및 동시 실행 금지
+ * - 서로 다른 키의 병렬 실행
+ * - 작업 예외 격리와 유휴 레인 제거
+ * - 비동기 작업은 단계 완료까지 같은 키의 다음 작업을 미루고 워커는 반납
+ */
+@DisplayName("KeyedSerialExecutor 단위 테스트")
+class KeyedSerialExecutorTest {
+
+    private final ExecutorService workers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업은 제출 순서대로 하나씩 실행")
+    void shouldRunSameKeyTasksInOrder() throws Exception {
+        // Given
+        KeyedSerialExecutor<String> executor = new KeyedSerialExecutor<>("test", workers, 8);
+        List<Integer> executed = new ArrayList<>(); // 동기화 없음: 직렬 실행이 아니면 유실/역전 발생
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1000);
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            int seq = i;
+            executor.execute("room-1", () -> {
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                executed.add(seq);
+                concurrent.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxConcurrent.get()).isEqualTo(1);
+        assertThat(executed).hasSize(1000).isSorted();
+    }
+
+    @Test
+    @DisplayName("서로 다른 키의 작업은 병렬 실행")
+    void shouldRunDifferentKeysInParallel() throws Exception {
+        // Given
+        KeyedSerialExecutor<String> executor = new KeyedSerialExecutor<>("test", workers, 8);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When - 두 키가 서로를 기다림 → 직렬이면 교착
+        for (String key : List.of("room-1", "room-2")) {
+            executor.execute(key, () -> {
+                bothStarted.countDown();
+                awaitQuietly(release);
+            });
+        }
+
+        // Then
+        assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("작업 예외가 같은 레인의 다음 작업을 막지 않고, 빈 레인은 제거")
+    void shouldIsolateFailuresAndRetireIdleLanes() throws Exception {
+        // Given
+        KeyedSerialExecutor<String> executor = new KeyedSerialExecutor<>("test", workers, 8);
+        CountDownLatch done = new CountDownLatch(1);
+        ConcurrentHashMap<String, Boolean> ran = new ConcurrentHashMap<>();
+
+        // When
+        executor.execute("room-1", () -> { throw new IllegalStateException("boom"); });
+        executor.execute("room-1", () -> {
+            ran.put("second", true);
+            done.countDown();
+        });
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran).containsKey("second");
+        waitUntilIdle(executor);
+        assertThat(executor.getActiveLaneCount()).isZero();
+        assertThat(executor.getPendingTaskCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 작업 - 단계가 끝날 때까지 같은 키의 다음 작업은 대기, 다른 키는 계속 실행")
+    void shouldHoldLaneUntilAsyncTaskCompletes() throws Exception {
+        // Given - 워커 1개: 대기 중 워커를 점유하면 다른 키가 실행되지 않음
+        ExecutorService singleWorker = Executors.newSingleThreadExecutor();
+        KeyedSerialExecutor<String> executor = new KeyedSerialExecutor<>("test", singleWorker, 8);
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        List<String> executed = new ArrayList<>();
+        CountDownLatch otherKey = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        try {
+            // When
+            executor.executeAsync("room-1", () -> {
+                executed.add("async-start");
+                return pending.thenRun(() -> executed.add("async-end"));
+            });
+            executor.execute("room-1", () -> {
+                executed.add("next");
+                done.countDown();
+            });
+            executor.execute("room-2", otherKey::countDown);
+
+            // Then - 대기 중에도 다른 키는 실행되고 같은 키의 다음 작업은 완료 후 실행
+            assertThat(otherKey.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(done.getCount()).isEqualTo(1);
+            pending.complete(null);
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(executed).containsExactly("async-start", "async-end", "next");
+            waitUntilIdle(executor);
+            assertThat(executor.getPendingTaskCount()).isZero();
+        } finally {
+            singleWorker.shutdownNow();
+        }
+    }
+
+    // Helper Methods
+    private void waitUntilIdle(KeyedSerialExecutor<?> executor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getActiveLaneCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
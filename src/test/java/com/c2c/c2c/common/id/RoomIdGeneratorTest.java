@@ -0,0 +1,133 @@
+package com.c2c.c2c.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RoomIdGenerator 단위 테스트
+ *
+ * 테스트 범위:
+ * - URL 안전 고정 폭 형식([0-9a-z] 25자리)
+ * - 같은 시각/카운터에서도 난수 부분으로 이웃 ID를 추측할 수 없음
+ * - 같은 밀리초/동시 생성/시계 역행에서도 중복 없이 단조 증가
+ * - 같은 시각이라도 노드가 다르면 다른 ID
+ */
+@DisplayName("RoomIdGenerator 단위 테스트")
+class RoomIdGeneratorTest {
+
+    private static final long NOW = RoomIdGenerator.EPOCH_MS + 86_400_000L;
+
+    @Test
+    @DisplayName("ID는 소문자/숫자 25자리 (URL 그대로 사용 가능)")
+    void shouldGenerateUrlSafeFixedLengthIds() {
+        // Given
+        RoomIdGenerator generator = new RoomIdGenerator("node-a");
+
+        // When
+        String roomId = generator.nextId();
+
+        // Then
+        assertThat(roomId).matches("[0-9a-z]{25}");
+    }
+
+    @Test
+    @DisplayName("연속 ID라도 난수 부분이 달라 앞 ID로 다음 ID를 만들 수 없음")
+    void shouldNotBePredictableFromNeighbour() {
+        // Given - 시계 고정: 시각/노드가 같고 카운터만 1 차이
+        RoomIdGenerator generator = new RoomIdGenerator("node-a", () -> NOW);
+
+        // When
+        String first = generator.nextId();
+        String second = generator.nextId();
+
+        // Then
+        String firstRandom = first.substring(RoomIdGenerator.SEQUENCE_LENGTH);
+        String secondRandom = second.substring(RoomIdGenerator.SEQUENCE_LENGTH);
+        assertThat(firstRandom).isNotEqualTo(secondRandom);
+        assertThat(Long.parseLong(firstRandom, Character.MAX_RADIX)).isLessThan(1L << RoomIdGenerator.RANDOM_BITS);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 카운터를 넘겨도 중복 없이 생성 순서대로 정렬")
+    void shouldStayUniqueAndOrderedWithinSameMillisecond() {
+        // Given - 시계 고정, 밀리초당 카운터(4096)보다 많이 생성
+        RoomIdGenerator generator = new RoomIdGenerator("node-a", () -> NOW);
+        List<String> ids = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // Then
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 이전 ID보다 큰 ID 생성")
+    void shouldStayMonotonicWhenClockGoesBackwards() {
+        // Given
+        AtomicLong clock = new AtomicLong(NOW);
+        RoomIdGenerator generator = new RoomIdGenerator("node-a", clock::get);
+        String before = generator.nextId();
+
+        // When
+        clock.set(NOW - 5_000L);
+        String after = generator.nextId();
+
+        // Then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 생성해도 중복 없음")
+    void shouldBeUniqueUnderConcurrency() throws Exception {
+        // Given
+        RoomIdGenerator generator = new RoomIdGenerator("node-a");
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(workers.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        // Then
+        assertThat(ids).hasSize(40_000);
+    }
+
+    @Test
+    @DisplayName("같은 시각이라도 노드가 다르면 다른 ID")
+    void shouldDifferByNode() {
+        // Given
+        RoomIdGenerator nodeA = new RoomIdGenerator("node-a", () -> NOW);
+        RoomIdGenerator nodeB = new RoomIdGenerator("node-b", () -> NOW);
+
+        // When & Then
+        assertThat(RoomIdGenerator.nodeBits("node-a")).isNotEqualTo(RoomIdGenerator.nodeBits("node-b"));
+        assertThat(nodeA.nextId()).isNotEqualTo(nodeB.nextId());
+    }
+}
@@ -0,0 +1,173 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket;
+
+import com.c2c.c2c.infrastructure.adapter.in.websocket.protocol.C2CMessage;
+import com.c2c.c2c.infrastructure.adapter.in.websocket.protocol.EncodedMessage;
+import com.c2c.c2c.infrastructure.adapter.in.websocket.protocol.ProtocolParser;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Websocket.OverflowPolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboundQueueSession 단위 테스트
+ *
+ * 테스트 범위:
+ * - 드레인 전까지 프레임이 큐에 쌓이는지 (느린 소비자 시뮬레이션)
+ * - DROP_OLDEST / DROP_EPHEMERAL / DISCONNECT 정책
+ * - 드레인 시 순서대로 전송되는지
+ */
+@DisplayName("OutboundQueueSession 단위 테스트")
+class OutboundQueueSessionTest {
+
+    private WebSocketSession delegate;
+    private List<Runnable> pendingDrains;
+    private ProtocolParser protocolParser;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn("session-1");
+        when(delegate.isOpen()).thenReturn(true);
+
+        // 드레인 작업을 즉시 실행하지 않고 보관 → 소비자가 느린 상황 재현
+        pendingDrains = new ArrayList<>();
+        protocolParser = new ProtocolParser(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("드레인 전까지 프레임이 큐에 쌓이고, 드레인 시 순서대로 전송")
+    void shouldQueueUntilDrainedAndSendInOrder() throws Exception {
+        // Given
+        OutboundQueueSession session = newSession(10, 1_000_000, OverflowPolicy.DISCONNECT);
+
+        // When
+        session.enqueue(chat("first"));
+        session.enqueue(chat("second"));
+
+        // Then
+        assertThat(session.getQueueDepth()).isEqualTo(2);
+        assertThat(pendingDrains).hasSize(1); // 세션당 드레인 작업은 하나만 예약
+        verify(delegate, never()).sendMessage(any());
+
+        // When - 드레인 실행
+        runDrains();
+
+        // Then
+        var captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(delegate, times(2)).sendMessage(captor.capture());
+        assertThat(captor.getAllValues().get(0).getPayload()).contains("first");
+        assertThat(captor.getAllValues().get(1).getPayload()).contains("second");
+        assertThat(session.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST - 가장 오래된 프레임부터 폐기")
+    void shouldDropOldestWhenFull() throws Exception {
+        // Given
+        OutboundQueueSession session = newSession(2, 1_000_000, OverflowPolicy.DROP_OLDEST);
+
+        // When
+        session.enqueue(chat("m1"));
+        session.enqueue(chat("m2"));
+        session.enqueue(chat("m3"));
+
+        // Then
+        assertThat(session.getQueueDepth()).isEqualTo(2);
+        assertThat(session.getDroppedCount()).isEqualTo(1);
+
+        runDrains();
+        var captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(delegate, times(2)).sendMessage(captor.capture());
+        assertThat(captor.getAllValues()).extracting(TextMessage::getPayload)
+                .noneMatch(payload -> payload.contains("m1"));
+    }
+
+    @Test
+    @DisplayName("DROP_EPHEMERAL - 휘발성 프레임만 폐기하고 채팅 메시지는 유지")
+    void shouldDropEphemeralFramesFirst() throws Exception {
+        // Given
+        OutboundQueueSession session = newSession(2, 1_000_000, OverflowPolicy.DROP_EPHEMERAL);
+        session.enqueue(encode(C2CMessage.userJoined("room", "u2")));
+        session.enqueue(chat("m1"));
+
+        // When - 가득 찬 상태에서 휘발성 프레임 도착 → 들어오는 프레임 폐기
+        session.enqueue(encode(C2CMessage.pong()));
+
+        // Then
+        assertThat(session.getQueueDepth()).isEqualTo(2);
+        assertThat(session.getDroppedCount()).isEqualTo(1);
+
+        // When - 채팅 메시지 도착 → 대기 중인 휘발성 프레임 폐기 후 추가
+        session.enqueue(chat("m2"));
+
+        // Then
+        assertThat(session.getQueueDepth()).isEqualTo(2);
+        assertThat(session.getDroppedCount()).isEqualTo(2);
+        verify(delegate, never()).close(any(CloseStatus.class));
+    }
+
+    @Test
+    @DisplayName("DROP_EPHEMERAL - 휘발성 프레임이 없으면 연결 종료")
+    void shouldDisconnectWhenOnlyDurableFramesRemain() throws Exception {
+        // Given
+        OutboundQueueSession session = newSession(2, 1_000_000, OverflowPolicy.DROP_EPHEMERAL);
+        session.enqueue(chat("m1"));
+        session.enqueue(chat("m2"));
+
+        // When
+        session.enqueue(chat("m3"));
+
+        // Then
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(session.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("DISCONNECT - 바이트 상한 초과 시 즉시 연결 종료")
+    void shouldDisconnectOnByteLimit() throws Exception {
+        // Given
+        EncodedMessage frame = chat("x".repeat(100));
+        OutboundQueueSession session = newSession(100, frame.getSizeBytes() + 10L, OverflowPolicy.DISCONNECT);
+        session.enqueue(frame);
+
+        // When
+        session.enqueue(chat("y".repeat(100)));
+
+        // Then
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+
+        // 종료 이후 프레임은 무시
+        session.enqueue(chat("z"));
+        assertThat(session.getQueueDepth()).isZero();
+    }
+
+    // Helper Methods
+    private OutboundQueueSession newSession(int maxDepth, long maxBytes, OverflowPolicy policy) {
+        return new OutboundQueueSession(delegate, maxDepth, maxBytes, policy, pendingDrains::add);
+    }
+
+    private void runDrains() {
+        List<Runnable> drains = new ArrayList<>(pendingDrains);
+        pendingDrains.clear();
+        drains.forEach(Runnable::run);
+    }
+
+    private EncodedMessage chat(String text) throws Exception {
+        return encode(C2CMessage.messageNotification("room", "u1", text));
+    }
+
+    private EncodedMessage encode(C2CMessage message) throws Exception {
+        return protocolParser.encode(message);
+    }
+}
@@ -0,0 +1,131 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket;
+
+import com.c2c.c2c.infrastructure.adapter.out.redis.ClusterKeyEvents;
+import com.c2c.c2c.infrastructure.adapter.out.redis.RedisListenerDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * PresenceExpiryListener 단위 테스트
+ *
+ * 테스트 범위:
+ * - 만료 키이벤트 패턴 구독 (클러스터는 모든 마스터 구독)
+ * - user:{userId}:presence 만료만 퇴장 처리로 전달
+ * - 로컬 세션이 있는 사용자만 처리 메트릭에 반영
+ */
+@DisplayName("PresenceExpiryListener 단위 테스트")
+class PresenceExpiryListenerTest {
+
+    private static final String EXPIRED_CHANNEL = "__keyevent@0__:expired";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RedisMessageListenerContainer container;
+    private C2CWebSocketHandler handler;
+    private RedisListenerDispatcher dispatcher;
+    private PresenceExpiryListener listener;
+
+    @BeforeEach
+    void setUp() {
+        container = mock(RedisMessageListenerContainer.class);
+        handler = mock(C2CWebSocketHandler.class);
+
+        // 리스너를 감싸지 않고 그대로 반환 → 동기 검증
+        dispatcher = mock(RedisListenerDispatcher.class);
+        when(dispatcher.control(any(MessageListener.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        listener = new PresenceExpiryListener(container, clusterKeyEvents(null), dispatcher, handler, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("모든 DB의 만료 키이벤트 채널을 패턴 구독")
+    void shouldSubscribeExpiredKeyEvents() {
+        // When
+        listener.subscribe();
+
+        // Then
+        verify(container).addMessageListener(any(MessageListener.class), eq(new PatternTopic("__keyevent@*__:expired")));
+    }
+
+    @Test
+    @DisplayName("클러스터에서는 리스너 컨테이너 대신 모든 마스터의 키이벤트를 구독")
+    void shouldSubscribeAllMastersInCluster() {
+        // Given
+        ClusterKeyEvents clusterKeyEvents = mock(ClusterKeyEvents.class);
+        PresenceExpiryListener clusterListener = new PresenceExpiryListener(container, clusterKeyEvents(clusterKeyEvents),
+                dispatcher, handler, meterRegistry);
+
+        // When
+        clusterListener.subscribe();
+
+        // Then
+        verify(clusterKeyEvents).psubscribe(eq("__keyevent@*__:expired"), any(MessageListener.class));
+        verifyNoInteractions(container);
+    }
+
+    @Test
+    @DisplayName("프레즌스 키 만료는 퇴장 처리로 전달")
+    void shouldForwardPresenceExpiry() {
+        // Given
+        when(handler.handlePresenceExpired("u1")).thenReturn(true);
+
+        // When
+        listener.onExpired(expired("user:{u1}:presence"), null);
+
+        // Then
+        verify(handler).handlePresenceExpired("u1");
+        assertThat(meterRegistry.get("c2c.presence.expired").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("c2c.presence.expired.handled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드 사용자의 만료는 집계만 하고 처리 수에는 포함하지 않음")
+    void shouldCountRemoteExpiryWithoutHandling() {
+        // Given
+        when(handler.handlePresenceExpired("u2")).thenReturn(false);
+
+        // When - 해시 태그 없는 이전 형식 키
+        listener.onExpired(expired("user:u2:presence"), null);
+
+        // Then
+        assertThat(meterRegistry.get("c2c.presence.expired").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("c2c.presence.expired.handled").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("프레즌스가 아닌 키 만료는 무시")
+    void shouldIgnoreOtherKeys() {
+        // When
+        listener.onExpired(expired("room:{r1}:empty"), null);
+        listener.onExpired(expired("user:{u1}:session"), null);
+
+        // Then
+        verifyNoInteractions(handler);
+        assertThat(meterRegistry.get("c2c.presence.expired").counter().count()).isZero();
+    }
+
+    // Helper Methods
+    @SuppressWarnings("unchecked")
+    private ObjectProvider<ClusterKeyEvents> clusterKeyEvents(ClusterKeyEvents clusterKeyEvents) {
+        ObjectProvider<ClusterKeyEvents> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(clusterKeyEvents);
+        return provider;
+    }
+
+    private DefaultMessage expired(String key) {
+        return new DefaultMessage(EXPIRED_CHANNEL.getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket;
+
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RoomEventExecutor 단위 테스트
+ *
+ * 테스트 범위:
+ * - 같은 방 이벤트의 도착 순서 보장
+ * - 비활성 모드 / roomId 없는 이벤트의 즉시 실행
+ * - 기본(가상 스레드) 레인: 블로킹 중인 방이 코어 수를 넘어도 다른 방 처리가 막히지 않음
+ */
+@DisplayName("RoomEventExecutor 단위 테스트")
+class RoomEventExecutorTest {
+
+    @Test
+    @DisplayName("같은 방의 입장/메시지/퇴장 이벤트는 도착 순서대로 처리")
+    void shouldKeepRoomEventOrder() throws Exception {
+        // Given
+        RoomEventExecutor executor = newExecutor(true);
+        List<String> events = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(300);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            int seq = i;
+            executor.execute("room-1", () -> { events.add("joined-" + seq); done.countDown(); });
+            executor.execute("room-1", () -> { events.add("message-" + seq); done.countDown(); });
+            executor.execute("room-1", () -> { events.add("left-" + seq); done.countDown(); });
+        }
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(events).hasSize(300);
+        assertThat(events.subList(0, 3)).containsExactly("joined-0", "message-0", "left-0");
+        assertThat(events.subList(297, 300)).containsExactly("joined-99", "message-99", "left-99");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("비활성 모드나 roomId가 없는 이벤트는 호출 스레드에서 즉시 실행")
+    void shouldRunInlineWhenDisabledOrWithoutRoom() {
+        // Given
+        RoomEventExecutor disabled = newExecutor(false);
+        RoomEventExecutor enabled = newExecutor(true);
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        disabled.execute("room-1", () -> threads.add(Thread.currentThread()));
+        enabled.execute(null, () -> threads.add(Thread.currentThread()));
+
+        // Then
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(threads).containsExactly(caller, caller);
+        enabled.shutdown();
+    }
+
+    @Test
+    @DisplayName("기본 설정은 방 레인마다 가상 스레드 - 코어 수보다 많은 방이 동시에 블로킹 가능")
+    void shouldNotCapBlockingRoomsAtCoreCount() throws Exception {
+        // Given
+        C2CProperties.Room room = new C2CProperties.Room(null, null, true, null, null, null, null);
+        RoomEventExecutor executor = new RoomEventExecutor(new C2CProperties(null, null, room, null, null, null));
+        int rooms = Runtime.getRuntime().availableProcessors() * 8;
+        CountDownLatch started = new CountDownLatch(rooms);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When - 방마다 Redis 응답 대기처럼 블로킹
+        for (int i = 0; i < rooms; i++) {
+            executor.execute("room-" + i, () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        // Then
+        try {
+            assertThat(room.getEventWorkers()).isZero();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    // Helper Methods
+    private RoomEventExecutor newExecutor(boolean ordered) {
+        C2CProperties.Room room = new C2CProperties.Room(null, null, ordered, 2, null, null, null);
+        return new RoomEventExecutor(new C2CProperties(null, null, room, null, null, null));
+    }
+}
@@ -0,0 +1,167 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket;
+
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * WebSocketSessionManager 단위 테스트
+ *
+ * 테스트 범위:
+ * - 방 조건부 해제: 늦게 도착한 이전 방 퇴장이 새 방 등록을 지우지 않음
+ * - 다른 방으로 재등록 시 이전 방 인덱스에서 이동
+ * - 방의 마지막 세션 해제 시 방 엔트리 제거
+ * - 동시 등록/해제 후에도 방 인덱스와 사용자별 방 매핑이 일치
+ */
+@DisplayName("WebSocketSessionManager 단위 테스트")
+class WebSocketSessionManagerTest {
+
+    private WebSocketSessionManager sessionManager;
+
+    @BeforeEach
+    void setUp() {
+        sessionManager = new WebSocketSessionManager(new C2CProperties(null, null, null, null, null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionManager.shutdown();
+    }
+
+    @Test
+    @DisplayName("방 B 입장 후 늦게 처리된 방 A 퇴장은 B 등록을 유지")
+    void shouldIgnoreLateLeaveOfPreviousRoom() {
+        // Given - 같은 세션으로 A 입장 후 B 입장 (B 입장이 A 퇴장보다 먼저 처리됨)
+        WebSocketSession session = session("s1");
+        sessionManager.registerSession(session, "u1", "room-a");
+        String replaced = sessionManager.registerSession(session, "u1", "room-b");
+
+        // When - 방 A 레인의 퇴장
+        String removed = sessionManager.unregisterUser("u1", "room-a");
+
+        // Then
+        assertThat(replaced).isEqualTo("room-a");
+        assertThat(removed).isNull();
+        assertThat(sessionManager.getRoomId("u1")).isEqualTo("room-b");
+        assertThat(sessionManager.getUserId("s1")).isEqualTo("u1");
+        assertThat(sessionManager.getUsersInRoom("room-b")).containsExactly("u1");
+        assertThat(sessionManager.unregisterUser("u1", "room-b")).isEqualTo("room-b");
+        assertThat(sessionManager.getSessionCountInRoom("room-b")).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 방으로 재등록하면 이전 방 인덱스에서 빠지고 새 방에만 남음")
+    void shouldMoveToAnotherRoomOnReRegister() {
+        // Given
+        WebSocketSession first = session("s1");
+        WebSocketSession second = session("s2");
+        sessionManager.registerSession(first, "u1", "room-a");
+        sessionManager.registerSession(session("s3"), "u2", "room-a");
+
+        // When - 새 연결로 다른 방 입장
+        String replaced = sessionManager.registerSession(second, "u1", "room-b");
+
+        // Then
+        assertThat(replaced).isEqualTo("room-a");
+        assertThat(sessionManager.getRoomId("u1")).isEqualTo("room-b");
+        assertThat(sessionManager.getUsersInRoom("room-a")).containsExactly("u2");
+        assertThat(sessionManager.getUsersInRoom("room-b")).containsExactly("u1");
+        assertThat(sessionManager.getUserId("s1")).isNull();
+        assertThat(sessionManager.getUserId("s2")).isEqualTo("u1");
+    }
+
+    @Test
+    @DisplayName("방의 마지막 세션을 해제하면 방 엔트리도 제거")
+    void shouldRemoveRoomEntryWithLastSession() {
+        // Given
+        sessionManager.registerSession(session("s1"), "u1", "room-a");
+        sessionManager.registerSession(session("s2"), "u2", "room-a");
+
+        // When
+        sessionManager.unregisterUser("u1", "room-a");
+        int roomsAfterFirst = sessionManager.getIndexedRoomCount();
+        sessionManager.removeSession("s2");
+
+        // Then
+        assertThat(roomsAfterFirst).isEqualTo(1);
+        assertThat(sessionManager.getIndexedRoomCount()).isZero();
+        assertThat(sessionManager.getSessionCountInRoom("room-a")).isZero();
+        assertThat(sessionManager.getRoomId("u2")).isNull();
+    }
+
+    @Test
+    @DisplayName("동시 등록/해제 후에도 방 인덱스가 사용자별 방 매핑과 일치")
+    void shouldKeepRoomIndexConsistentUnderConcurrency() throws Exception {
+        // Given - 사용자 50명이 방 5개 사이를 오가며 입장/퇴장 반복
+        int users = 50;
+        int rooms = 5;
+        List<WebSocketSession> sessions = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            sessions.add(session("s" + u));
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(workers.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 5_000; i++) {
+                        int u = random.nextInt(users);
+                        String roomId = "room-" + random.nextInt(rooms);
+                        switch (random.nextInt(3)) {
+                            case 0 -> sessionManager.registerSession(sessions.get(u), "u" + u, roomId);
+                            case 1 -> sessionManager.unregisterUser("u" + u, roomId);
+                            default -> sessionManager.unregisterUser("u" + u);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        // Then - 등록된 사용자는 자기 방 인덱스에만 있고, 빈 방 엔트리는 남지 않음
+        Map<String, Integer> expectedCounts = new HashMap<>();
+        for (int u = 0; u < users; u++) {
+            String roomId = sessionManager.getRoomId("u" + u);
+            if (roomId != null) {
+                assertThat(sessionManager.getUsersInRoom(roomId)).contains("u" + u);
+                expectedCounts.merge(roomId, 1, Integer::sum);
+            }
+        }
+        for (int r = 0; r < rooms; r++) {
+            String roomId = "room-" + r;
+            assertThat(sessionManager.getSessionCountInRoom(roomId))
+                    .isEqualTo(expectedCounts.getOrDefault(roomId, 0));
+        }
+        assertThat(sessionManager.getIndexedRoomCount()).isEqualTo(expectedCounts.size());
+    }
+
+    // Helper Methods
+    static WebSocketSession session(String sessionId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+}
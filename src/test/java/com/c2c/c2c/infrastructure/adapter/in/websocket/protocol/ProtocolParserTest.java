@@ -0,0 +1,114 @@
+package com.c2c.c2c.infrastructure.adapter.in.websocket.protocol;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ProtocolParser 수신 프레임 파싱 테스트
+ *
+ * 테스트 범위:
+ * - join/msg/ping/leave 프레임을 타입과 필요한 필드로 파싱 (필드 순서 무관)
+ * - 타입에 필요 없는 필드는 버림
+ * - 타입 누락/알 수 없는 타입/잘못된 JSON/알 수 없는 필드 거부
+ */
+@DisplayName("ProtocolParser 수신 프레임 파싱 테스트")
+class ProtocolParserTest {
+
+    private final ProtocolParser parser = new ProtocolParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("join 프레임 - 타입, 방 ID, 토큰")
+    void shouldParseJoin() throws Exception {
+        // When
+        C2CMessage message = parser.parse("{\"t\":\"join\",\"roomId\":\"room-1\",\"token\":\"user1\"}");
+
+        // Then
+        assertThat(message.getMessageType()).isEqualTo(MessageType.JOIN);
+        assertThat(message.getType()).isEqualTo("join");
+        assertThat(message.getRoomId()).isEqualTo("room-1");
+        assertThat(message.getToken()).isEqualTo("user1");
+        assertThat(message.getText()).isNull();
+    }
+
+    @Test
+    @DisplayName("t가 뒤에 와도 같은 결과, 타입에 필요 없는 필드는 버림")
+    void shouldParseRegardlessOfFieldOrder() throws Exception {
+        // When
+        C2CMessage message = parser.parse("{\"text\":\"안녕하세요\",\"token\":\"user1\",\"roomId\":\"room-1\",\"t\":\"msg\"}");
+
+        // Then
+        assertThat(message.getMessageType()).isEqualTo(MessageType.MSG);
+        assertThat(message.getRoomId()).isEqualTo("room-1");
+        assertThat(message.getText()).isEqualTo("안녕하세요");
+        assertThat(message.getToken()).isNull();
+    }
+
+    @Test
+    @DisplayName("ping 프레임 - 다른 필드는 디코딩하지 않음")
+    void shouldParsePing() throws Exception {
+        // When
+        C2CMessage message = parser.parse("{\"t\":\"ping\",\"roomId\":\"room-1\",\"members\":[\"a\",\"b\"]}");
+
+        // Then
+        assertThat(message.getMessageType()).isEqualTo(MessageType.PING);
+        assertThat(message.getRoomId()).isNull();
+        assertThat(message.getMembers()).isNull();
+    }
+
+    @Test
+    @DisplayName("타입 누락/알 수 없는 타입/빈 메시지 거부")
+    void shouldRejectMissingOrUnknownType() {
+        assertThatThrownBy(() -> parser.parse("{\"roomId\":\"room-1\"}"))
+                .isInstanceOf(ProtocolParser.ProtocolParseException.class)
+                .hasMessageContaining("메시지 타입(t)이 없습니다");
+        assertThatThrownBy(() -> parser.parse("{\"t\":\"dance\"}"))
+                .isInstanceOf(ProtocolParser.ProtocolParseException.class)
+                .hasMessageContaining("알 수 없는 메시지 타입: dance");
+        assertThatThrownBy(() -> parser.parse("   "))
+                .isInstanceOf(ProtocolParser.ProtocolParseException.class)
+                .hasMessageContaining("빈 메시지입니다");
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON, 객체가 아닌 값, 문자열이 아닌 필드 거부")
+    void shouldRejectMalformedJson() {
+        assertThatThrownBy(() -> parser.parse("{\"t\":\"join\",\"roomId\":"))
+                .isInstanceOf(ProtocolParser.ProtocolParseException.class)
+                .hasMessageStartingWith("JSON 파싱 실패");
+        assertThatThrownBy(() -> parser.parse("[\"join\"]"))
+                .isInstanceOf(ProtocolParser.ProtocolParseException.class)
+                .hasMessageStartingWith("JSON 파싱 실패");
+        assertThatThrownBy(() -> parser.parse("{\"t\":\"join\",\"roomId\":{\"id\":1}}"))
+                .isInstanceOf(ProtocolParser.ProtocolParseException.class)
+                .hasMessageContaining("roomId");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 필드는 ObjectMapper 설정(FAIL_ON_UNKNOWN_PROPERTIES)을 따름")
+    void shouldFollowUnknownPropertySetting() throws Exception {
+        // Given
+        String json = "{\"t\":\"ping\",\"ts\":123}";
+        ProtocolParser lenient = new ProtocolParser(new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+
+        // When & Then
+        assertThatThrownBy(() -> parser.parse(json))
+                .isInstanceOf(ProtocolParser.ProtocolParseException.class)
+                .hasMessageContaining("ts");
+        assertThat(lenient.parse(json).getMessageType()).isEqualTo(MessageType.PING);
+    }
+
+    @Test
+    @DisplayName("인코딩 결과는 타입 캐시 필드를 포함하지 않음")
+    void shouldNotSerializeResolvedType() throws Exception {
+        // When
+        String json = parser.serialize(C2CMessage.pong());
+
+        // Then
+        assertThat(json).isEqualTo("{\"t\":\"pong\"}");
+    }
+}
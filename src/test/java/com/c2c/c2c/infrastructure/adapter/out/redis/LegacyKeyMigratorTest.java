@@ -0,0 +1,108 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.KeyLayout;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 키 형식 전환(LEGACY → TAGGED) 테스트
+ *
+ * 테스트 범위:
+ * - LEGACY 형식은 해시 태그 이전 버전과 같은 키 문자열, ID 추출은 두 형식 모두 해석
+ * - 이전: 멤버 SET은 태그 키와 합치고, 빈 방 표시/프레즌스는 TTL을 유지한 채 옮김
+ * - 이미 태그 키가 있으면 이전 키만 삭제, 다시 실행해도 옮길 키 없음
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("LegacyKeyMigrator 테스트")
+class LegacyKeyMigratorTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static final RedisKeys legacyKeys = new RedisKeys(KeyLayout.LEGACY);
+    private static final RedisKeys taggedKeys = new RedisKeys(KeyLayout.TAGGED);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private LegacyKeyMigrator migrator;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        migrator = new LegacyKeyMigrator(redisTemplate, taggedKeys, new C2CProperties(null, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("LEGACY 형식 - 태그 없는 이전 키, ID 추출은 두 형식 모두")
+    void shouldBuildLegacyKeys() {
+        // Then
+        assertThat(legacyKeys.layout()).isEqualTo(KeyLayout.LEGACY);
+        assertThat(legacyKeys.roomMembers("r1")).isEqualTo("room:r1:members");
+        assertThat(legacyKeys.presence("u1")).isEqualTo("user:u1:presence");
+        assertThat(legacyKeys.roomStream("r1")).isEqualTo("stream:r1");
+        assertThat(RedisKeys.roomIdFromMembersKey("room:{r1}:members")).isEqualTo("r1");
+        assertThat(RedisKeys.roomIdFromMembersKey("room:r1:members")).isEqualTo("r1");
+
+        assertThat(taggedKeys.roomMembers("r1")).isEqualTo("room:{r1}:members");
+    }
+
+    @Test
+    @DisplayName("TAGGED 전환 - 이전 키를 태그 키로 옮기고 멤버는 합치며 TTL 유지")
+    void shouldMigrateLegacyKeys() {
+        // Given - LEGACY 노드가 만든 키 + 전환 후 태그 키에 먼저 입장한 u3
+        redisTemplate.opsForSet().add(legacyKeys.roomMembers("r1"), "u1", "u2");
+        redisTemplate.opsForValue().set(legacyKeys.roomEmptyMarker("r2"), "1", Duration.ofSeconds(300));
+        redisTemplate.opsForValue().set(legacyKeys.presence("u1"), RedisKeys.PRESENCE_ONLINE_VALUE, Duration.ofSeconds(30));
+        redisTemplate.opsForValue().set(legacyKeys.presence("u2"), RedisKeys.PRESENCE_ONLINE_VALUE, Duration.ofSeconds(30));
+        redisTemplate.opsForSet().add(taggedKeys.roomMembers("r1"), "u3");
+        redisTemplate.opsForValue().set(taggedKeys.presence("u2"), RedisKeys.PRESENCE_ONLINE_VALUE, Duration.ofSeconds(30));
+
+        // When
+        int migrated = migrator.migrate();
+
+        // Then
+        assertThat(migrated).isEqualTo(4);
+        assertThat(redisTemplate.opsForSet().members("room:{r1}:members")).containsExactlyInAnyOrder("u1", "u2", "u3");
+        assertThat(redisTemplate.getExpire("room:{r2}:empty")).isBetween(1L, 300L);
+        assertThat(redisTemplate.getExpire("user:{u1}:presence")).isBetween(1L, 30L);
+        assertThat(redisTemplate.hasKey("user:{u2}:presence")).isTrue();
+        assertThat(redisTemplate.keys("*")).allMatch(key -> !RedisKeys.isLegacyKey(key));
+        assertThat(migrator.migrate()).isZero();
+    }
+}
@@ -0,0 +1,197 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.port.out.ReadConsistency;
+import com.c2c.c2c.domain.port.out.RoomRepository.JoinResult;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * NearCacheRoomRepository 단위 테스트
+ *
+ * 테스트 범위:
+ * - 반복 조회는 캐시 적중, STRICT 조회는 항상 Redis
+ * - 쓰기 후 로컬 항목 제거 + 무효화 채널 발행
+ * - 다른 노드의 무효화 메시지 수신 시 항목 제거
+ * - 비동기 조회/입장도 같은 캐시와 무효화 사용
+ */
+@DisplayName("NearCacheRoomRepository 단위 테스트")
+class NearCacheRoomRepositoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RoomRedisRepository delegate;
+    private RoomRedisAsyncRepository asyncDelegate;
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisMessageListenerContainer container;
+    private NearCacheRoomRepository repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        delegate = mock(RoomRedisRepository.class);
+        asyncDelegate = mock(RoomRedisAsyncRepository.class);
+        redisTemplate = mock(RedisTemplate.class);
+        container = mock(RedisMessageListenerContainer.class);
+
+        RedisListenerDispatcher dispatcher = mock(RedisListenerDispatcher.class);
+        when(dispatcher.control(any(MessageListener.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        when(delegate.getMembers("room-1", ReadConsistency.STRICT)).thenReturn(Set.of("u1", "u2"));
+
+        repository = new NearCacheRoomRepository(delegate, asyncDelegate, redisTemplate, container, dispatcher,
+                new C2CProperties(null, null, null, null, null, null), meterRegistry);
+        repository.subscribeInvalidations();
+    }
+
+    @Test
+    @DisplayName("반복 조회는 Redis를 한 번만 조회하고 적중률에 반영")
+    void shouldServeRepeatedReadsFromCache() {
+        // When
+        boolean exists = repository.exists("room-1");
+        Set<String> members = repository.getMembers("room-1");
+        int memberCount = repository.findById("room-1").orElseThrow().getMemberCount();
+
+        // Then
+        assertThat(exists).isTrue();
+        assertThat(members).containsExactlyInAnyOrder("u1", "u2");
+        assertThat(memberCount).isEqualTo(2);
+        verify(delegate, times(1)).getMembers("room-1", ReadConsistency.STRICT);
+        assertThat(meterRegistry.get("c2c.room.near_cache.hit_ratio").gauge().value()).isGreaterThan(0.5);
+    }
+
+    @Test
+    @DisplayName("STRICT 조회는 캐시를 거치지 않음")
+    void shouldBypassCacheForStrictReads() {
+        // Given
+        when(delegate.exists("room-1", ReadConsistency.STRICT)).thenReturn(true);
+        repository.exists("room-1");
+
+        // When
+        repository.exists("room-1", ReadConsistency.STRICT);
+        repository.getMembers("room-1", ReadConsistency.STRICT);
+
+        // Then - 캐시 채우기(멤버 조회) 1회 + 캐시 적중과 무관한 직접 조회
+        verify(delegate, times(1)).exists("room-1", ReadConsistency.STRICT);
+        verify(delegate, times(2)).getMembers("room-1", ReadConsistency.STRICT);
+    }
+
+    @Test
+    @DisplayName("REPLICA 조회는 캐시를 거치지 않고 복제본 조회로 위임")
+    void shouldDelegateReplicaReads() {
+        // Given
+        when(delegate.getMembers("room-1", ReadConsistency.REPLICA)).thenReturn(Set.of("u1"));
+        repository.getMembers("room-1");
+
+        // When
+        Set<String> members = repository.getMembers("room-1", ReadConsistency.REPLICA);
+
+        // Then
+        assertThat(members).containsExactly("u1");
+        verify(delegate, times(1)).getMembers("room-1", ReadConsistency.STRICT);
+        verify(delegate).getMembers("room-1", ReadConsistency.REPLICA);
+    }
+
+    @Test
+    @DisplayName("입장 후 로컬 항목을 제거하고 무효화 채널로 발행")
+    void shouldInvalidateAfterWrite() {
+        // Given
+        repository.getMembers("room-1");
+        when(delegate.join("room-1", "u3", 10, 30))
+                .thenReturn(new JoinResult(JoinResult.Status.JOINED, false, Set.of("u1", "u2", "u3")));
+
+        // When
+        repository.join("room-1", "u3", 10, 30);
+        repository.getMembers("room-1");
+
+        // Then
+        verify(redisTemplate).convertAndSend("room-inv", "room-1");
+        verify(delegate, times(2)).getMembers("room-1", ReadConsistency.STRICT);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 항목 제거")
+    void shouldEvictOnRemoteInvalidation() {
+        // Given
+        var listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(container).addMessageListener(listenerCaptor.capture(), eq(new ChannelTopic("room-inv")));
+        repository.getMembers("room-1");
+        assertThat(repository.getCachedRoomCount()).isEqualTo(1);
+
+        // When
+        listenerCaptor.getValue().onMessage(new DefaultMessage(
+                "room-inv".getBytes(StandardCharsets.UTF_8), "room-1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertThat(repository.getCachedRoomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 방은 존재하지 않음으로 캐시")
+    void shouldCacheMissingRoom() {
+        // Given
+        when(delegate.getMembers("room-x", ReadConsistency.STRICT)).thenReturn(Set.of());
+        when(delegate.exists("room-x", ReadConsistency.STRICT)).thenReturn(false);
+
+        // When
+        repository.exists("room-x");
+        boolean exists = repository.exists("room-x");
+
+        // Then
+        assertThat(exists).isFalse();
+        assertThat(repository.findById("room-x")).isEmpty();
+        verify(delegate, times(1)).exists("room-x", ReadConsistency.STRICT);
+    }
+
+    @Test
+    @DisplayName("비동기 조회도 같은 캐시를 사용 - 적중 시 Redis 호출 없이 즉시 완료")
+    void shouldServeAsyncReadsFromCache() {
+        // Given
+        when(asyncDelegate.getMembersAsync("room-2"))
+                .thenReturn(CompletableFuture.completedFuture(Set.of("u1")));
+
+        // When
+        Set<String> first = repository.getMembersAsync("room-2").toCompletableFuture().join();
+        CompletableFuture<Boolean> second = repository.existsAsync("room-2").toCompletableFuture();
+        repository.getMembers("room-2");
+
+        // Then
+        assertThat(first).containsExactly("u1");
+        assertThat(second).isCompletedWithValue(true);
+        verify(asyncDelegate, times(1)).getMembersAsync("room-2");
+        verify(delegate, never()).getMembers("room-2", ReadConsistency.STRICT);
+    }
+
+    @Test
+    @DisplayName("비동기 입장 완료 후 무효화")
+    void shouldInvalidateAfterAsyncJoin() {
+        // Given
+        repository.getMembers("room-1");
+        when(asyncDelegate.joinAsync("room-1", "u2", 10, 30))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new JoinResult(JoinResult.Status.JOINED, false, Set.of("u1", "u2"))));
+
+        // When
+        repository.joinAsync("room-1", "u2", 10, 30).toCompletableFuture().join();
+
+        // Then
+        verify(redisTemplate).convertAndSend("room-inv", "room-1");
+        assertThat(repository.getCachedRoomCount()).isZero();
+    }
+}
@@ -0,0 +1,155 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.KeyLayout;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * PresenceHeartbeatAggregator 단위 테스트
+ *
+ * 테스트 범위:
+ * - 같은 주기 내 갱신 요청을 한 번에 기록(c2c_heartbeat), 사용자별 중복 제거
+ * - 남은 TTL이 충분하면 갱신 생략
+ * - 합치기 비활성(0) 시 즉시 기록
+ * - 기본 생략 기준: ping을 하나 잃어도 프레즌스가 만료되지 않음
+ */
+@DisplayName("PresenceHeartbeatAggregator 단위 테스트")
+class PresenceHeartbeatAggregatorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RedisFunctions functions = mock(RedisFunctions.class);
+    private final RedisKeys redisKeys = new RedisKeys(KeyLayout.TAGGED);
+    private PresenceHeartbeatAggregator aggregator;
+
+    @AfterEach
+    void tearDown() {
+        aggregator.shutdown();
+    }
+
+    @Test
+    @DisplayName("주기 내 요청을 모아 한 번에 기록하고 같은 사용자는 1건으로 합침")
+    void shouldCoalesceIntoOnePipeline() {
+        // Given - 자동 플러시가 끼어들지 않도록 긴 주기
+        aggregator = newAggregator(60_000L);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            aggregator.refresh("u" + (i % 40));
+        }
+        aggregator.flush();
+
+        // Then
+        verify(functions, times(40)).call(eq(RedisFunction.HEARTBEAT), anyList(), any(String[].class));
+        assertThat(aggregator.getPendingCount()).isZero();
+        assertThat(meterRegistry.get("c2c.presence.flush.size").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("c2c.presence.flush.size").summary().max()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("기록 직후 남은 TTL이 충분하면 다음 하트비트는 생략")
+    void shouldSkipWhileTtlIsComfortablyLong() {
+        // Given
+        aggregator = newAggregator(60_000L);
+        aggregator.refresh("u1");
+        aggregator.flush();
+
+        // When - 바로 다시 ping (남은 TTL ≈ 30초 > 15초)
+        aggregator.refresh("u1");
+        aggregator.flush();
+
+        // Then
+        verify(functions, times(1)).call(eq(RedisFunction.HEARTBEAT), anyList(), any(String[].class));
+        assertThat(meterRegistry.get("c2c.presence.refresh.skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("합치기 비활성 시 요청 스레드에서 즉시 기록")
+    void shouldWriteImmediatelyWhenDisabled() {
+        // Given
+        aggregator = newAggregator(0L);
+
+        // When
+        aggregator.refresh("u1");
+
+        // Then
+        verify(functions).call(RedisFunction.HEARTBEAT, List.of("user:{u1}:presence", "user:{u1}:session"),
+                "30", RedisKeys.PRESENCE_ONLINE_VALUE, "600");
+        assertThat(aggregator.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("기본 설정(TTL 30초, 10초 간격) - ping 하나를 잃어도 다음 ping 전에 만료되지 않음")
+    void shouldSurviveOneLostPingWithDefaults() {
+        for (int lost = 1; lost < 12; lost++) {
+            assertSurvivesLostPing(30L, lost);
+        }
+    }
+
+    @Test
+    @DisplayName("TTL이 길면 생략하면서도 ping 하나 유실은 허용")
+    void shouldSkipButSurviveOneLostPingWithLongTtl() {
+        for (int lost = 1; lost < 12; lost++) {
+            List<Long> writes = assertSurvivesLostPing(60L, lost);
+            assertThat(writes.size()).isLessThan(12);
+        }
+    }
+
+    // Helper Methods
+    /**
+     * 10초 간격 ping 12회 중 lost번째를 잃었을 때 도착한 모든 ping 시점에 프레즌스가 살아 있는지 확인
+     *
+     * @return 기록 시각(초) 목록
+     */
+    private List<Long> assertSurvivesLostPing(long presenceTtlSec, int lost) {
+        AtomicLong clock = new AtomicLong();
+        List<Long> writes = new ArrayList<>();
+        RedisFunctions recording = mock(RedisFunctions.class);
+        doAnswer(invocation -> {
+            writes.add(TimeUnit.NANOSECONDS.toSeconds(clock.get()));
+            return CompletableFuture.completedFuture(1L);
+        }).when(recording).call(any(), anyList(), any(String[].class));
+
+        C2CProperties properties = new C2CProperties(null,
+                new C2CProperties.Heartbeat(10_000L, presenceTtlSec, null, 0L, null), null, null, null, null);
+        aggregator = new PresenceHeartbeatAggregator(recording, redisKeys, properties, meterRegistry, clock::get);
+
+        for (int ping = 0; ping < 12; ping++) {
+            long nowSec = ping * 10L;
+            clock.set(TimeUnit.SECONDS.toNanos(nowSec));
+            if (ping == lost) {
+                continue;
+            }
+            if (!writes.isEmpty()) {
+                long expiresAt = writes.get(writes.size() - 1) + presenceTtlSec;
+                assertThat(nowSec).as("ttl=%ds, lost ping #%d", presenceTtlSec, lost).isLessThan(expiresAt);
+            }
+            aggregator.refresh("u1");
+        }
+        return writes;
+    }
+
+
+    private PresenceHeartbeatAggregator newAggregator(long coalesceWindowMs) {
+        doReturn(CompletableFuture.completedFuture(1L))
+                .when(functions).call(any(), anyList(), any(String[].class));
+
+        C2CProperties properties = new C2CProperties(null,
+                new C2CProperties.Heartbeat(null, 30L, null, coalesceWindowMs, null), null, null, null, null);
+        return new PresenceHeartbeatAggregator(functions, redisKeys, properties, meterRegistry);
+    }
+}
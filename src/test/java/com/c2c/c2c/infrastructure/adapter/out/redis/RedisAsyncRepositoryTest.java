@@ -0,0 +1,154 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.model.User;
+import com.c2c.c2c.domain.port.out.RoomRepository.JoinResult;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.KeyLayout;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 비동기 Redis 저장소 테스트
+ *
+ * 테스트 범위:
+ * - 한 스레드에서 여러 입장을 동시에 진행해도 정원 유지
+ * - 서버 스크립트 캐시가 비어 있으면 EVAL로 재시도
+ * - 비동기 멤버/존재 확인
+ * - 비동기 사용자 저장이 동기 저장소와 같은 형식으로 기록
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("비동기 Redis 저장소 테스트")
+class RedisAsyncRepositoryTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static final RedisKeys redisKeys = new RedisKeys(KeyLayout.TAGGED);
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+    private static RedisAsyncConnection asyncConnection;
+    private static RedisFunctions functions;
+
+    private RoomRedisAsyncRepository roomRepository;
+    private UserRedisAsyncRepository userRepository;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        asyncConnection = new RedisAsyncConnection(connectionFactory);
+        functions = new RedisFunctions(asyncConnection, new SimpleMeterRegistry());
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        asyncConnection.close();
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        roomRepository = new RoomRedisAsyncRepository(asyncConnection, functions, redisKeys, new C2CProperties(null, null, null, null, null, null));
+        userRepository = new UserRedisAsyncRepository(asyncConnection, redisKeys, new C2CProperties(null, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("한 스레드에서 100건 입장을 동시에 진행해도 정원(50)을 넘지 않음")
+    void shouldKeepManyJoinsInFlightFromOneThread() {
+        // Given
+        redisTemplate.opsForSet().add("room:{r1}:members", "owner");
+
+        // When - 응답을 기다리지 않고 모두 전송한 뒤 한 번에 대기
+        List<CompletableFuture<JoinResult>> joins = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            joins.add(roomRepository.joinAsync("r1", "u" + i, 50, 30).toCompletableFuture());
+        }
+        CompletableFuture.allOf(joins.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        long joined = joins.stream().filter(join -> join.join().status() == JoinResult.Status.JOINED).count();
+        long full = joins.stream().filter(join -> join.join().status() == JoinResult.Status.ROOM_FULL).count();
+        assertThat(joined).isEqualTo(49);
+        assertThat(full).isEqualTo(51);
+        assertThat(roomRepository.getMembersAsync("r1").toCompletableFuture().join()).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("스크립트 캐시가 비어 있으면 EVAL로 재시도")
+    void shouldFallBackToEvalWhenScriptIsNotLoaded() {
+        // Given
+        redisTemplate.opsForSet().add("room:{r1}:members", "owner");
+        redisTemplate.getConnectionFactory().getConnection().scriptingCommands().scriptFlush();
+
+        // When
+        JoinResult result = roomRepository.joinAsync("r1", "u1", 10, 30).toCompletableFuture().join();
+
+        // Then
+        assertThat(result.status()).isEqualTo(JoinResult.Status.JOINED);
+        assertThat(result.members()).containsExactlyInAnyOrder("owner", "u1");
+    }
+
+    @Test
+    @DisplayName("비동기 존재 확인 - 멤버가 있거나 빈 방 유예 중이면 존재")
+    void shouldCheckExistenceAsync() {
+        // Given
+        redisTemplate.opsForSet().add("room:{r1}:members", "u1");
+        redisTemplate.opsForValue().set("room:{r2}:empty", "1");
+
+        // When & Then
+        assertThat(roomRepository.getMembersAsync("r1").toCompletableFuture().join()).containsExactly("u1");
+        assertThat(roomRepository.existsAsync("r1").toCompletableFuture().join()).isTrue();
+        assertThat(roomRepository.existsAsync("r2").toCompletableFuture().join()).isTrue();
+        assertThat(roomRepository.existsAsync("missing").toCompletableFuture().join()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비동기 사용자 저장은 동기 저장소에서 그대로 조회 가능")
+    void shouldShareUserFormatWithSyncRepository() {
+        // Given
+        LocalDateTime joinedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        UserRedisRepository syncRepository = new UserRedisRepository(redisTemplate, redisTemplate, redisKeys,
+                new C2CProperties(null, null, null, null, null, null));
+
+        // When
+        userRepository.saveAsync(new User("u1", "s1", "room-1", joinedAt)).toCompletableFuture().join();
+        syncRepository.save(new User("u2", "s2", "room-1", joinedAt));
+
+        // Then
+        assertThat(syncRepository.findById("u1").orElseThrow().getSessionId()).isEqualTo("s1");
+        assertThat(syncRepository.isOnline("u1")).isTrue();
+        Map<String, User> users = userRepository.findAllAsync(List.of("u1", "u2", "missing")).toCompletableFuture().join();
+        assertThat(users.keySet()).containsExactly("u1", "u2");
+        assertThat(users.get("u2").getJoinedAt()).isEqualTo(joinedAt);
+    }
+}
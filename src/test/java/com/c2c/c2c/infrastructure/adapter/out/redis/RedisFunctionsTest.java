@@ -0,0 +1,207 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.KeyLayout;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RedisFunctions 라이브러리 적재/호출 테스트
+ *
+ * 테스트 범위:
+ * - 기동 시 적재: 라이브러리 설치, 설치된 버전이 더 높으면 유지
+ * - 라이브러리가 사라지면(FUNCTION FLUSH) 첫 호출에서 다시 적재 후 성공
+ * - 함수별 지연 메트릭 기록
+ * - 하트비트는 퇴장한 사용자의 프레즌스를 되살리지 않음
+ * - 함수 미지원 서버(Redis 6)는 같은 본문의 스크립트로 대체
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisFunctions 라이브러리 테스트")
+class RedisFunctionsTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    // Functions 이전 버전 (스크립트 대체 확인용)
+    @Container
+    static GenericContainer<?> legacyRedis = new GenericContainer<>(DockerImageName.parse("redis:6.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static final RedisKeys redisKeys = new RedisKeys(KeyLayout.TAGGED);
+    private static LettuceConnectionFactory connectionFactory;
+    private static LettuceConnectionFactory legacyConnectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+    private static RedisAsyncConnection asyncConnection;
+    private static RedisAsyncConnection legacyAsyncConnection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RedisFunctions functions;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = connectionFactory(redis);
+        legacyConnectionFactory = connectionFactory(legacyRedis);
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        asyncConnection = new RedisAsyncConnection(connectionFactory);
+        legacyAsyncConnection = new RedisAsyncConnection(legacyConnectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        asyncConnection.close();
+        legacyAsyncConnection.close();
+        connectionFactory.destroy();
+        legacyConnectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        execute("FUNCTION", "FLUSH");
+        meterRegistry = new SimpleMeterRegistry();
+        functions = new RedisFunctions(asyncConnection, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("기동 시 라이브러리를 적재하고 FCALL로 호출")
+    void shouldLoadLibraryOnStartup() {
+        // When
+        functions.loadOnStartup();
+
+        // Then
+        assertThat(execute("FCALL", "c2c_version", "0")).isEqualTo((long) RedisFunctions.LIBRARY_VERSION);
+        Long created = functions.callAndWait(RedisFunction.CREATE,
+                List.of(redisKeys.roomMembers("room-1"), redisKeys.roomEmptyMarker("room-1")), "u1", "30", "1");
+        assertThat(created).isEqualTo(1L);
+        assertThat(redisTemplate.opsForSet().members(redisKeys.roomMembers("room-1"))).containsExactly("u1");
+    }
+
+    @Test
+    @DisplayName("설치된 라이브러리 버전이 더 높으면 교체하지 않음 (롤링 배포 중 이전 노드)")
+    void shouldKeepNewerLibrary() {
+        // Given
+        execute("FUNCTION", "LOAD", "#!lua name=c2c\nredis.register_function('c2c_version', function() return 99 end)");
+
+        // When
+        functions.loadOnStartup();
+
+        // Then
+        assertThat(execute("FCALL", "c2c_version", "0")).isEqualTo(99L);
+    }
+
+    @Test
+    @DisplayName("라이브러리가 사라지면 첫 호출에서 다시 적재 후 성공")
+    void shouldReloadMissingLibrary() {
+        // Given
+        functions.loadOnStartup();
+        execute("FUNCTION", "FLUSH");
+
+        // When
+        List<Object> result = functions.callAndWait(RedisFunction.JOIN,
+                List.of(redisKeys.roomMembers("room-unknown"), redisKeys.roomEmptyMarker("room-unknown")),
+                "u1", "10", "30", "1");
+
+        // Then
+        assertThat(result.get(0)).isEqualTo(-1L);
+        assertThat(execute("FCALL", "c2c_version", "0")).isEqualTo((long) RedisFunctions.LIBRARY_VERSION);
+    }
+
+    @Test
+    @DisplayName("함수별 지연을 c2c.redis.function 타이머로 기록")
+    void shouldRecordLatencyPerFunction() {
+        // Given - 입장 중인 사용자 (프레즌스 기록됨)
+        redisTemplate.opsForValue().set(redisKeys.presence("u1"), RedisKeys.PRESENCE_ONLINE_VALUE);
+        redisTemplate.opsForValue().set(redisKeys.presence("u2"), RedisKeys.PRESENCE_ONLINE_VALUE);
+
+        // When
+        functions.callAndWait(RedisFunction.HEARTBEAT,
+                List.of(redisKeys.presence("u1"), redisKeys.session("u1")), "30", "1", "600");
+        functions.callAndWait(RedisFunction.HEARTBEAT,
+                List.of(redisKeys.presence("u2"), redisKeys.session("u2")), "30", "1", "600");
+
+        // Then
+        assertThat(meterRegistry.get("c2c.redis.function")
+                .tag("function", "c2c_heartbeat").tag("outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(redisTemplate.getExpire(redisKeys.presence("u1"))).isBetween(1L, 30L);
+    }
+
+    @Test
+    @DisplayName("하트비트 - 퇴장으로 프레즌스/세션이 삭제된 사용자는 되살리지 않음")
+    void shouldNotResurrectPresenceAfterLeave() {
+        // Given - 입장 후 퇴장 (프레즌스/세션 삭제)
+        List<String> roomKeys = List.of(redisKeys.roomMembers("room-1"), redisKeys.roomEmptyMarker("room-1"));
+        List<String> userKeys = List.of(redisKeys.presence("u1"), redisKeys.session("u1"));
+        functions.callAndWait(RedisFunction.CREATE,
+                List.of(roomKeys.get(0), roomKeys.get(1), userKeys.get(0)), "u1", "30", "1");
+        Long refreshed = functions.callAndWait(RedisFunction.HEARTBEAT, userKeys, "30", "1", "600");
+        functions.callAndWait(RedisFunction.LEAVE,
+                List.of(roomKeys.get(0), roomKeys.get(1), userKeys.get(0), userKeys.get(1)), "u1", "300");
+
+        // When - 퇴장 뒤 늦게 도착한 하트비트
+        Long late = functions.callAndWait(RedisFunction.HEARTBEAT, userKeys, "30", "1", "600");
+
+        // Then
+        assertThat(refreshed).isEqualTo(1L);
+        assertThat(late).isZero();
+        assertThat(redisTemplate.hasKey(redisKeys.presence("u1"))).isFalse();
+        assertThat(redisTemplate.hasKey(redisKeys.session("u1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("함수 미지원 서버(Redis 6)는 같은 본문의 스크립트로 대체")
+    void shouldFallBackToScriptsWithoutFunctions() {
+        // Given
+        RedisFunctions legacyFunctions = new RedisFunctions(legacyAsyncConnection, new SimpleMeterRegistry());
+        legacyFunctions.loadOnStartup();
+        List<String> keys = List.of(redisKeys.roomMembers("room-legacy"), redisKeys.roomEmptyMarker("room-legacy"));
+
+        // When
+        Long created = legacyFunctions.callAndWait(RedisFunction.CREATE, keys, "u1", "30", "1");
+        List<Object> joined = legacyFunctions.callAndWait(RedisFunction.JOIN, keys, "u2", "10", "30", "1");
+
+        // Then
+        assertThat(created).isEqualTo(1L);
+        assertThat(joined.get(0)).isEqualTo(0L);
+        assertThat((List<?>) joined.get(2)).containsExactlyInAnyOrder("u1", "u2");
+    }
+
+    // Helper Methods
+    private static LettuceConnectionFactory connectionFactory(GenericContainer<?> container) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(container.getHost(), container.getMappedPort(6379)));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private Object execute(String command, String... args) {
+        byte[][] rawArgs = new byte[args.length][];
+        for (int i = 0; i < args.length; i++) {
+            rawArgs[i] = args[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute(command, rawArgs));
+    }
+}
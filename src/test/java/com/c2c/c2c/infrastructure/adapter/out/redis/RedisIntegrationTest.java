@@ -349,10 +349,10 @@ class RedisIntegrationTest {
     
     // Helper methods
     private String getRoomKey(String roomId) {
-        return "room:" + roomId + ":members";
+        return "room:{" + roomId + "}:members";
     }
     
     private String getUserPresenceKey(String userId) {
-        return "user:" + userId + ":presence";
+        return "user:{" + userId + "}:presence";
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RedisListenerDispatcher 단위 테스트
+ *
+ * 테스트 범위:
+ * - 같은 채널 메시지의 수신 순서 보장
+ * - 처리 대기 상한 초과 시 버림 및 메트릭 기록
+ * - 제어 메시지는 채팅 대기열이 가득 차도 버리지 않음
+ */
+@DisplayName("RedisListenerDispatcher 단위 테스트")
+class RedisListenerDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RedisListenerDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 채널의 메시지는 수신 순서대로 처리")
+    void shouldKeepPerChannelOrder() throws Exception {
+        // Given
+        dispatcher = newDispatcher(4, 10_000);
+        List<String> handled = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(500);
+        MessageListener listener = dispatcher.ordered((message, pattern) -> {
+            handled.add(new String(message.getBody(), StandardCharsets.UTF_8));
+            done.countDown();
+        });
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            listener.onMessage(message("chan:room-1", String.valueOf(i)), null);
+        }
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handled).extracting(Integer::parseInt).isSorted().hasSize(500);
+        assertThat(meterRegistry.get("c2c.redis.dispatch.latency").timer().count()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("처리 대기 상한을 넘으면 수신 스레드를 막지 않고 버림")
+    void shouldDropWhenPendingLimitExceeded() throws Exception {
+        // Given - 워커 1개를 붙잡아 두어 대기열이 쌓이게 함
+        dispatcher = newDispatcher(1, 3);
+        CountDownLatch release = new CountDownLatch(1);
+        MessageListener listener = dispatcher.ordered((message, pattern) -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            listener.onMessage(message("chan:room-1", String.valueOf(i)), null);
+        }
+
+        // Then
+        assertThat(dispatcher.getPendingCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("c2c.redis.dispatch.rejected").counter().count()).isEqualTo(7);
+        assertThat(meterRegistry.get("c2c.redis.dispatch.pending").gauge().value()).isEqualTo(3);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("채팅 대기열이 가득 차도 제어 메시지(무효화/만료)는 버리지 않고 처리")
+    void shouldNeverDropControlMessages() throws Exception {
+        // Given - 채팅 워커를 붙잡아 대기열을 상한까지 채움
+        dispatcher = newDispatcher(1, 3);
+        CountDownLatch release = new CountDownLatch(1);
+        MessageListener chat = dispatcher.ordered((message, pattern) -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int i = 0; i < 10; i++) {
+            chat.onMessage(message("chan:room-1", String.valueOf(i)), null);
+        }
+        List<String> handled = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(100);
+        MessageListener control = dispatcher.control((message, pattern) -> {
+            handled.add(new String(message.getBody(), StandardCharsets.UTF_8));
+            done.countDown();
+        });
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            control.onMessage(message("room-inv", String.valueOf(i)), null);
+        }
+
+        // Then - 채팅은 상한 초과분만 버리고, 제어 메시지는 전부 순서대로 처리
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handled).extracting(Integer::parseInt).isSorted().hasSize(100);
+        assertThat(meterRegistry.get("c2c.redis.dispatch.rejected").counter().count()).isEqualTo(7);
+        release.countDown();
+    }
+
+    // Helper Methods
+    private RedisListenerDispatcher newDispatcher(int threads, int maxPending) {
+        C2CProperties.Broker broker = new C2CProperties.Broker(
+                "node-test", null, null, null, null, null, null, threads, false, maxPending);
+        return new RedisListenerDispatcher(new C2CProperties(null, null, null, null, null, broker), meterRegistry);
+    }
+
+    private DefaultMessage message(String channel, String body) {
+        return new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,226 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.model.Message;
+import com.c2c.c2c.domain.port.out.MessageBroker.MessageHandler;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisMessageBroker 구독 참조 카운트 단위 테스트
+ *
+ * 테스트 범위:
+ * - 같은 방 다중 구독 시 Redis 리스너는 하나만 등록
+ * - 마지막 로컬 멤버 해제 시에만 해당 리스너 제거
+ * - 노드 간 팬아웃: 다른 노드 메시지만 전달, 자기 노드 메시지는 무시
+ * - 봉투로 발행 노드의 수신 시각 전달 (전달 지연 측정 기준)
+ * - PATTERN 모드: 노드당 패턴 구독 1회, 로컬 멤버 없는 방 메시지 필터링
+ */
+@DisplayName("RedisMessageBroker 구독/팬아웃 테스트")
+class RedisMessageBrokerTest {
+
+    private RedisMessageListenerContainer container;
+    private RedisListenerDispatcher dispatcher;
+    private RedisMessageBroker broker;
+    private final MessageHandler handler = (roomId, message) -> { };
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        container = mock(RedisMessageListenerContainer.class);
+
+        // 리스너를 감싸지 않고 그대로 반환 → 수신 스레드에서 바로 처리 (동기 검증용)
+        dispatcher = mock(RedisListenerDispatcher.class);
+        when(dispatcher.ordered(any(MessageListener.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        broker = new RedisMessageBroker(mock(RedisTemplate.class), container, new ObjectMapper(),
+                new C2CProperties(null, null, null, null, null, null), new SimpleMeterRegistry(), dispatcher);
+    }
+
+    @Test
+    @DisplayName("같은 방을 여러 번 구독해도 리스너는 하나만 등록")
+    void shouldShareSubscriptionPerRoom() {
+        // When
+        broker.subscribe("room-1", handler);
+        broker.subscribe("room-1", handler);
+        broker.subscribe("room-1", handler);
+
+        // Then
+        verify(container, times(1)).addMessageListener(any(MessageListener.class), any(Topic.class));
+        assertThat(broker.getSubscriberCount("room-1")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("마지막 멤버가 해제할 때만 등록했던 리스너를 제거")
+    void shouldRemoveListenerOnlyWhenLastMemberLeaves() {
+        // Given
+        broker.subscribe("room-1", handler);
+        broker.subscribe("room-1", handler);
+        var listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(container).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+
+        // When - 첫 번째 해제: 다른 로컬 멤버가 남아 있음
+        broker.unsubscribe("room-1");
+
+        // Then
+        verify(container, never()).removeMessageListener(any(MessageListener.class), any(Topic.class));
+        assertThat(broker.getSubscriberCount("room-1")).isEqualTo(1);
+
+        // When - 마지막 해제
+        broker.unsubscribe("room-1");
+
+        // Then
+        verify(container).removeMessageListener(listenerCaptor.getValue(), new ChannelTopic("chan:room-1"));
+        assertThat(broker.getSubscriberCount("room-1")).isZero();
+    }
+
+    @Test
+    @DisplayName("구독하지 않은 방의 해제는 무시")
+    void shouldIgnoreUnsubscribeWithoutSubscription() {
+        // When
+        broker.unsubscribe("room-unknown");
+
+        // Then
+        verify(container, never()).removeMessageListener(any(MessageListener.class), any(Topic.class));
+        assertThat(broker.getSubscriberCount("room-unknown")).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 메시지만 로컬 핸들러로 전달하고 자기 노드 메시지는 무시")
+    @SuppressWarnings("unchecked")
+    void shouldDeliverOnlyMessagesFromOtherNodes() {
+        // Given - 같은 Redis를 쓰는 두 노드
+        RedisTemplate<String, String> templateA = mock(RedisTemplate.class);
+        RedisTemplate<String, String> templateB = mock(RedisTemplate.class);
+        RedisMessageBroker nodeA = newBroker(templateA, "node-a");
+        RedisMessageBroker nodeB = newBroker(templateB, "node-b");
+
+        List<Message> received = new ArrayList<>();
+        nodeA.subscribe("room-1", (roomId, message) -> received.add(message));
+        var listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(container).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+        MessageListener nodeAListener = listenerCaptor.getValue();
+
+        // When - 두 노드가 각각 발행한 페이로드를 node-a 리스너가 수신
+        nodeA.publish("room-1", new Message("u1", "room-1", "from-a", LocalDateTime.now()));
+        nodeB.publish("room-1", new Message("u2", "room-1", "from-b", LocalDateTime.now()));
+        nodeAListener.onMessage(published(templateA), null);
+        nodeAListener.onMessage(published(templateB), null);
+
+        // Then
+        assertThat(received).extracting(Message::getText).containsExactly("from-b");
+        assertThat(received.get(0).getFromUserId()).isEqualTo("u2");
+    }
+
+    @Test
+    @DisplayName("발행 노드의 수신 시각(Instant)을 수신 노드 메시지로 그대로 전달")
+    @SuppressWarnings("unchecked")
+    void shouldCarryIngressTimeAcrossNodes() {
+        // Given
+        RedisTemplate<String, String> remoteTemplate = mock(RedisTemplate.class);
+        RedisMessageBroker remote = newBroker(remoteTemplate, "node-b");
+        List<Message> received = new ArrayList<>();
+        broker.subscribe("room-1", (roomId, message) -> received.add(message));
+        var listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(container).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+        Instant receivedAt = Instant.parse("2026-01-01T00:00:00.123Z");
+
+        // When
+        remote.publish("room-1", new Message("m-1", null, "room-1", "u2", "hello", receivedAt));
+        listenerCaptor.getValue().onMessage(published(remoteTemplate), null);
+
+        // Then - 지연 측정 기준은 메시지 생성 시각이 아니라 프레임 수신 시각
+        assertThat(received).singleElement()
+                .extracting(Message::getIngressTime)
+                .isEqualTo(receivedAt);
+    }
+
+    @Test
+    @DisplayName("PATTERN 모드 - 방 입장/퇴장이 반복돼도 패턴 구독은 한 번만 등록")
+    @SuppressWarnings("unchecked")
+    void shouldSubscribePatternOnceRegardlessOfRoomChurn() {
+        // Given
+        RedisMessageBroker patternBroker = newBroker(mock(RedisTemplate.class), "node-a",
+                C2CProperties.Broker.SubscriptionMode.PATTERN);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            patternBroker.subscribe("room-" + i, handler);
+            patternBroker.unsubscribe("room-" + i);
+        }
+
+        // Then
+        verify(container, times(1)).addMessageListener(any(MessageListener.class), eq(new PatternTopic("chan:*")));
+        verify(container, never()).addMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+        verify(container, never()).removeMessageListener(any(MessageListener.class), any(Topic.class));
+    }
+
+    @Test
+    @DisplayName("PATTERN 모드 - 로컬 구독이 있는 방의 메시지만 전달")
+    @SuppressWarnings("unchecked")
+    void shouldFilterPatternMessagesByLocalRooms() {
+        // Given
+        RedisTemplate<String, String> remoteTemplate = mock(RedisTemplate.class);
+        RedisMessageBroker remote = newBroker(remoteTemplate, "node-b", null);
+        RedisMessageBroker patternBroker = newBroker(mock(RedisTemplate.class), "node-a",
+                C2CProperties.Broker.SubscriptionMode.PATTERN);
+
+        List<String> received = new ArrayList<>();
+        patternBroker.subscribe("room-1", (roomId, message) -> received.add(roomId + ":" + message.getText()));
+        var listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(container).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+
+        remote.publish("room-1", new Message("u2", "room-1", "hello", LocalDateTime.now()));
+        DefaultMessage forRoom1 = published(remoteTemplate);
+        DefaultMessage forRoom2 = new DefaultMessage("chan:room-2".getBytes(StandardCharsets.UTF_8), forRoom1.getBody());
+
+        // When
+        listenerCaptor.getValue().onMessage(forRoom1, "chan:*".getBytes(StandardCharsets.UTF_8));
+        listenerCaptor.getValue().onMessage(forRoom2, "chan:*".getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(received).containsExactly("room-1:hello");
+    }
+
+    // Helper Methods
+    private RedisMessageBroker newBroker(RedisTemplate<String, String> template, String nodeId) {
+        return newBroker(template, nodeId, null);
+    }
+
+    private RedisMessageBroker newBroker(RedisTemplate<String, String> template, String nodeId,
+                                         C2CProperties.Broker.SubscriptionMode mode) {
+        C2CProperties properties = new C2CProperties(null, null, null, null, null,
+                new C2CProperties.Broker(nodeId, true, mode, null, null, null, null, null, null, null));
+        return new RedisMessageBroker(template, container, new ObjectMapper(), properties,
+                new SimpleMeterRegistry(), dispatcher);
+    }
+
+    private DefaultMessage published(RedisTemplate<String, String> template) {
+        var payloadCaptor = ArgumentCaptor.forClass(String.class);
+        verify(template).convertAndSend(eq("chan:room-1"), payloadCaptor.capture());
+        return new DefaultMessage("chan:room-1".getBytes(StandardCharsets.UTF_8),
+                payloadCaptor.getValue().getBytes(StandardCharsets.UTF_8));
+    }
+}
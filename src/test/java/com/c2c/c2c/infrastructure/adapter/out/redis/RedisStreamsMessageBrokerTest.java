@@ -0,0 +1,160 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.model.Message;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.KeyLayout;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RedisStreamsMessageBroker 테스트
+ *
+ * 테스트 범위:
+ * - 리더 중단 동안 발행된 메시지를 재시작 후 마지막 ID부터 이어서 수신
+ * - 실행 중 reconnect() 요청 시 리더 연결을 교체하고 계속 수신
+ * - 발행마다 스트림 TTL(빈 방 유예 시간)을 갱신하고 발행이 끊기면 스트림 삭제
+ *
+ * 처리량 비교(Pub/Sub vs Streams)는 JMH MessageBrokerBenchmark 참고
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisStreamsMessageBroker 테스트")
+class RedisStreamsMessageBrokerTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static final RedisKeys redisKeys = new RedisKeys(KeyLayout.TAGGED);
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+    private static RedisAsyncConnection asyncConnection;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        asyncConnection = new RedisAsyncConnection(connectionFactory);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        asyncConnection.close();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("리더 중단 동안 발행된 메시지를 재시작 후 이어서 수신")
+    void streamsCatchUpAfterReconnect() throws Exception {
+        // Given
+        RedisStreamsMessageBroker publisher = broker("publisher");
+        RedisStreamsMessageBroker receiver = broker("receiver");
+        CountDownLatch received = new CountDownLatch(10);
+        receiver.subscribe("catch-up-room", (roomId, message) -> received.countDown());
+
+        // When - 리더가 멈춘 상태에서 발행 후 재연결
+        for (int i = 0; i < 10; i++) {
+            publisher.publish("catch-up-room", new Message("u1", "catch-up-room", "m" + i, LocalDateTime.now()));
+        }
+        receiver.reconnect();
+
+        // Then
+        try {
+            assertThat(received.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            receiver.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("실행 중 reconnect() - 리더 연결을 새로 열고 이후 메시지도 수신")
+    void shouldKeepReadingAfterReconnectWhileRunning() throws Exception {
+        // Given
+        RedisStreamsMessageBroker publisher = broker("publisher");
+        RedisStreamsMessageBroker receiver = broker("receiver");
+        CountDownLatch first = new CountDownLatch(5);
+        CountDownLatch second = new CountDownLatch(10);
+        receiver.subscribe("reconnect-room", (roomId, message) -> {
+            first.countDown();
+            second.countDown();
+        });
+        receiver.start();
+
+        try {
+            for (int i = 0; i < 5; i++) {
+                publisher.publish("reconnect-room", new Message("u1", "reconnect-room", "a" + i, LocalDateTime.now()));
+            }
+            assertThat(first.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // When - 블로킹 XREAD 중인 리더에 재연결 요청
+            receiver.reconnect();
+            for (int i = 0; i < 5; i++) {
+                publisher.publish("reconnect-room", new Message("u1", "reconnect-room", "b" + i, LocalDateTime.now()));
+            }
+
+            // Then
+            assertThat(second.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            receiver.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("발행마다 스트림 TTL을 빈 방 유예 시간으로 갱신, 발행이 끊기면 스트림 삭제")
+    void shouldExpireIdleStream() throws Exception {
+        // Given - 빈 방 유예 시간 1초
+        C2CProperties.Room room = new C2CProperties.Room();
+        room.setIdleTtlSec(1);
+        RedisStreamsMessageBroker publisher = broker("publisher", room);
+        String streamKey = redisKeys.roomStream("idle-room");
+
+        // When
+        publisher.publish("idle-room", new Message("u1", "idle-room", "m0", LocalDateTime.now()));
+
+        // Then
+        assertThat(redisTemplate.getExpire(streamKey, TimeUnit.MILLISECONDS)).isBetween(1L, 1000L);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (Boolean.TRUE.equals(redisTemplate.hasKey(streamKey)) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(redisTemplate.hasKey(streamKey)).isFalse();
+    }
+
+    // Helper Methods
+    private RedisStreamsMessageBroker broker(String nodeId) {
+        return broker(nodeId, null);
+    }
+
+    private RedisStreamsMessageBroker broker(String nodeId, C2CProperties.Room room) {
+        C2CProperties properties = new C2CProperties(null, null, room, null, null,
+                new C2CProperties.Broker(nodeId, true, null, C2CProperties.Broker.Impl.REDIS_STREAMS,
+                        null, null, null, null, null, null));
+        return new RedisStreamsMessageBroker(redisTemplate, asyncConnection, new ObjectMapper(), redisKeys, properties,
+                new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,186 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.port.out.ReadConsistency;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.KeyLayout;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import com.c2c.c2c.infrastructure.config.RedisConfig;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 복제본 읽기 라우팅 테스트 (로컬 마스터/복제본 한 쌍)
+ *
+ * 테스트 범위:
+ * - 마스터 쓰기가 복제되면 복제본 조회(CACHED/REPLICA)로도 보임
+ * - STRICT 조회는 마스터, 그 외 조회는 복제본으로 라우팅
+ *   (복제본에만 있는 키를 직접 기록해 어느 노드에서 읽었는지 구분)
+ * - 근접 캐시 채우기는 복제본 값과 무관하게 마스터에서 읽음
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("복제본 읽기 라우팅 테스트")
+class ReplicaReadRoutingTest {
+
+    private static final Network network = Network.newNetwork();
+
+    @Container
+    static GenericContainer<?> primary = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withNetwork(network)
+            .withNetworkAliases("primary")
+            .withExposedPorts(6379);
+
+    // 쓰기 가능한 복제본: 라우팅 확인용 키를 복제본에만 기록
+    @Container
+    static GenericContainer<?> replica = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withNetwork(network)
+            .withCommand("redis-server", "--replicaof", "primary", "6379", "--replica-read-only", "no")
+            .dependsOn(primary)
+            .withExposedPorts(6379);
+
+    private static final RedisKeys redisKeys = new RedisKeys(KeyLayout.TAGGED);
+    private static ClientResources clientResources;
+    private static LettuceConnectionFactory primaryFactory;
+    private static LettuceConnectionFactory replicaFactory;
+    private static LettuceConnectionFactory replicaDirectFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+    private static RedisTemplate<String, String> replicaTemplate;
+    private static RedisTemplate<String, String> replicaDirectTemplate;
+    private static RedisAsyncConnection asyncConnection;
+    private static RedisFunctions functions;
+
+    private RoomRedisRepository roomRepository;
+    private UserRedisRepository userRepository;
+
+    @BeforeAll
+    static void setUpRedis() {
+        C2CProperties.Redis redis = new C2CProperties.Redis();
+        redis.setUrl("redis://" + primary.getHost() + ":" + primary.getMappedPort(6379));
+        redis.setReplicaReads(true);
+        redis.setReplicaNodes(replica.getHost() + ":" + replica.getMappedPort(6379));
+
+        clientResources = RedisConfig.createClientResources(redis);
+        primaryFactory = RedisConfig.createConnectionFactory(redis, clientResources);
+        replicaFactory = RedisConfig.createReplicaConnectionFactory(redis, clientResources);
+        replicaDirectFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(replica.getHost(), replica.getMappedPort(6379)));
+
+        redisTemplate = template(primaryFactory);
+        replicaTemplate = template(replicaFactory);
+        replicaDirectTemplate = template(replicaDirectFactory);
+
+        asyncConnection = new RedisAsyncConnection(primaryFactory);
+        functions = new RedisFunctions(asyncConnection, new SimpleMeterRegistry());
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        asyncConnection.close();
+        replicaDirectFactory.destroy();
+        replicaFactory.destroy();
+        primaryFactory.destroy();
+        clientResources.shutdown();
+        network.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 마스터 FLUSHALL은 복제본에도 전파 (복제본에만 기록한 키 포함)
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> replicaDirectTemplate.getConnectionFactory().getConnection().serverCommands().dbSize() == 0);
+
+        C2CProperties properties = new C2CProperties(null, null, null, null, null, null);
+        roomRepository = new RoomRedisRepository(redisTemplate, replicaTemplate, functions, redisKeys, properties);
+        userRepository = new UserRedisRepository(redisTemplate, replicaTemplate, redisKeys, properties);
+    }
+
+    @Test
+    @DisplayName("마스터에 기록한 멤버가 복제되면 복제본 조회로도 보임")
+    void shouldSeeReplicatedMembersOnReplica() {
+        // Given
+        redisTemplate.opsForSet().add(redisKeys.roomMembers("room-1"), "u1", "u2");
+
+        // When & Then
+        await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(roomRepository.getMembers("room-1", ReadConsistency.REPLICA))
+                        .containsExactlyInAnyOrder("u1", "u2"));
+        assertThat(roomRepository.exists("room-1")).isTrue();
+        assertThat(roomRepository.getMembers("room-1", ReadConsistency.STRICT)).containsExactlyInAnyOrder("u1", "u2");
+    }
+
+    @Test
+    @DisplayName("STRICT 조회는 마스터, CACHED/REPLICA 조회는 복제본에서 읽음")
+    void shouldRouteReadsByConsistency() {
+        // Given - 복제본에만 있는 방/프레즌스 (마스터에는 없음)
+        replicaDirectTemplate.opsForSet().add(redisKeys.roomMembers("replica-only"), "u9");
+        replicaDirectTemplate.opsForValue().set(redisKeys.presence("u9"), RedisKeys.PRESENCE_ONLINE_VALUE);
+
+        // When & Then - 입장 판단용 조회는 마스터
+        assertThat(roomRepository.exists("replica-only", ReadConsistency.STRICT)).isFalse();
+        assertThat(roomRepository.getMembers("replica-only", ReadConsistency.STRICT)).isEmpty();
+        assertThat(userRepository.isOnline("u9")).isFalse();
+
+        // 표시용 조회는 복제본
+        assertThat(roomRepository.exists("replica-only")).isTrue();
+        assertThat(roomRepository.getMembers("replica-only", ReadConsistency.REPLICA)).containsExactly("u9");
+        assertThat(roomRepository.getMembers("replica-only")).containsExactly("u9");
+        assertThat(userRepository.isOnline("u9", ReadConsistency.REPLICA)).isTrue();
+    }
+
+    @Test
+    @DisplayName("근접 캐시는 복제 지연 중인 복제본이 아니라 마스터 값으로 채움")
+    void shouldRefillNearCacheFromPrimary() {
+        // Given - 복제본에는 아직 퇴장 전 멤버가 남아 있는 상황 (마스터에는 u1만 남음)
+        redisTemplate.opsForSet().add(redisKeys.roomMembers("room-lag"), "u1");
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> replicaDirectTemplate.opsForSet().isMember(redisKeys.roomMembers("room-lag"), "u1"));
+        replicaDirectTemplate.opsForSet().add(redisKeys.roomMembers("room-lag"), "u-left");
+        replicaDirectTemplate.opsForSet().add(redisKeys.roomMembers("replica-only"), "u9");
+
+        RedisListenerDispatcher dispatcher = mock(RedisListenerDispatcher.class);
+        when(dispatcher.control(any(MessageListener.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        C2CProperties properties = new C2CProperties(null, null, null, null, null, null);
+        NearCacheRoomRepository nearCache = new NearCacheRoomRepository(roomRepository,
+                new RoomRedisAsyncRepository(asyncConnection, functions, redisKeys, properties), redisTemplate,
+                mock(RedisMessageListenerContainer.class), dispatcher, properties, new SimpleMeterRegistry());
+
+        // When & Then - 무효화 직후 채우기에서 복제본의 이전 값이 캐시되지 않음
+        assertThat(nearCache.getMembers("room-lag")).containsExactly("u1");
+        assertThat(nearCache.exists("replica-only")).isFalse();
+        assertThat(nearCache.getCachedRoomCount()).isEqualTo(2);
+    }
+
+    // Helper Methods
+    private static RedisTemplate<String, String> template(LettuceConnectionFactory connectionFactory) {
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, String> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setDefaultSerializer(new StringRedisSerializer());
+        template.afterPropertiesSet();
+        return template;
+    }
+}
@@ -0,0 +1,385 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.port.out.RoomRepository.JoinResult;
+import com.c2c.c2c.domain.port.out.RoomRepository.LeaveResult;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.KeyLayout;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import io.lettuce.core.cluster.SlotHash;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RoomRedisRepository 원자적 함수(c2c 라이브러리) 테스트
+ *
+ * 테스트 범위:
+ * - 생성 함수: 없는 방만 생성자와 함께 생성, 유예 중이거나 이미 있는 방은 거부
+ * - 입장 함수: 방 존재 확인, 정원 강제, TTL 해제, 프레즌스 갱신, 멤버 목록 반환
+ * - 동시 입장 폭주 시에도 정원을 넘지 않음
+ * - 퇴장 함수: 멤버 제거, 프레즌스/세션 삭제, 빈 방 유예 TTL과 유예 중 재입장
+ * - 다른 방 입장 뒤 늦게 처리된 이전 방 퇴장은 프레즌스/세션 유지
+ * - 조회/삭제/TTL 설정·해제/멤버 추가도 빈 방 유예 표시(room:{id}:empty) 기준
+ * - 빈 방 SCAN 스트림: 여러 배치에 걸친 조회와 재입장한 방 제외
+ * - 클러스터 키 배치: 방/사용자 키 해시 태그, 사용자 키를 함수 밖에서 처리
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RoomRedisRepository 함수 테스트")
+class RoomRedisRepositoryScriptTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static final RedisKeys redisKeys = new RedisKeys(KeyLayout.TAGGED);
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+    private static RedisAsyncConnection asyncConnection;
+    private static RedisFunctions functions;
+
+    private RoomRedisRepository roomRepository;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        asyncConnection = new RedisAsyncConnection(connectionFactory);
+        functions = new RedisFunctions(asyncConnection, new SimpleMeterRegistry());
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        asyncConnection.close();
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        roomRepository = new RoomRedisRepository(redisTemplate, redisTemplate, functions, redisKeys, new C2CProperties(null, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("생성 - 없는 방만 생성자를 첫 멤버로 생성하고 프레즌스 기록, 같은 ID는 거부")
+    void shouldCreateOnlyMissingRoom() {
+        // When
+        boolean created = roomRepository.create("room-new", "u1", 30);
+        boolean duplicated = roomRepository.create("room-new", "u2", 30);
+
+        // Then
+        assertThat(created).isTrue();
+        assertThat(duplicated).isFalse();
+        assertThat(redisTemplate.opsForSet().members(redisKeys.roomMembers("room-new"))).containsExactly("u1");
+        assertThat(redisTemplate.getExpire(redisKeys.presence("u1"))).isBetween(1L, 30L);
+        assertThat(redisTemplate.hasKey(redisKeys.presence("u2"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("생성 - 빈 방 유예 중인 ID는 재사용하지 않음")
+    void shouldNotCreateRoomDuringGracePeriod() {
+        // Given
+        roomRepository.create("room-1", "u1", 30);
+        roomRepository.leave("room-1", "u1", 300);
+
+        // When & Then
+        assertThat(roomRepository.create("room-1", "u2", 30)).isFalse();
+        assertThat(roomRepository.getMembers("room-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("입장 - 멤버 추가, TTL 해제, 프레즌스 설정 후 멤버 목록 반환")
+    void shouldJoinAtomically() {
+        // Given - 빈 방 TTL이 걸린 방
+        roomRepository.addMember("room-1", "creator");
+        redisTemplate.expire(redisKeys.roomMembers("room-1"), Duration.ofSeconds(300));
+
+        // When
+        JoinResult result = roomRepository.join("room-1", "u1", 10, 30);
+
+        // Then
+        assertThat(result.status()).isEqualTo(JoinResult.Status.JOINED);
+        assertThat(result.wasEmpty()).isFalse();
+        assertThat(result.members()).containsExactlyInAnyOrder("creator", "u1");
+        assertThat(redisTemplate.getExpire(redisKeys.roomMembers("room-1"))).isEqualTo(-1L);
+        assertThat(redisTemplate.opsForValue().get(redisKeys.presence("u1"))).isEqualTo(RedisKeys.PRESENCE_ONLINE_VALUE);
+        assertThat(redisTemplate.getExpire(redisKeys.presence("u1"))).isBetween(1L, 30L);
+    }
+
+    @Test
+    @DisplayName("입장 - 존재하지 않는 방은 ROOM_NOT_FOUND, 키를 만들지 않음")
+    void shouldRejectUnknownRoom() {
+        // When
+        JoinResult result = roomRepository.join("room-unknown", "u1", 10, 30);
+
+        // Then
+        assertThat(result.status()).isEqualTo(JoinResult.Status.ROOM_NOT_FOUND);
+        assertThat(roomRepository.exists("room-unknown")).isFalse();
+        assertThat(redisTemplate.hasKey(redisKeys.presence("u1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("입장 - 정원이 찬 방은 신규 멤버를 거부하고 기존 멤버 재입장은 허용")
+    void shouldEnforceMaxMembers() {
+        // Given
+        roomRepository.addMember("room-1", "u1");
+        roomRepository.join("room-1", "u2", 2, 30);
+
+        // When
+        JoinResult rejected = roomRepository.join("room-1", "u3", 2, 30);
+        JoinResult rejoined = roomRepository.join("room-1", "u2", 2, 30);
+
+        // Then
+        assertThat(rejected.status()).isEqualTo(JoinResult.Status.ROOM_FULL);
+        assertThat(rejected.members()).containsExactlyInAnyOrder("u1", "u2");
+        assertThat(rejoined.status()).isEqualTo(JoinResult.Status.JOINED);
+        assertThat(roomRepository.getMembers("room-1")).containsExactlyInAnyOrder("u1", "u2");
+    }
+
+    @Test
+    @DisplayName("입장 폭주 - 동시에 입장해도 정원을 넘지 않음")
+    void shouldNotExceedMaxMembersUnderJoinStorm() throws Exception {
+        // Given
+        roomRepository.addMember("room-1", "creator");
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+
+        // When
+        List<Future<JoinResult>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String userId = "u" + i;
+            futures.add(pool.submit(() -> roomRepository.join("room-1", userId, 10, 30)));
+        }
+        long joined = 0;
+        for (Future<JoinResult> future : futures) {
+            if (future.get().status() == JoinResult.Status.JOINED) {
+                joined++;
+            }
+        }
+        pool.shutdown();
+
+        // Then
+        assertThat(joined).isEqualTo(9);
+        assertThat(roomRepository.getMembers("room-1")).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("퇴장 - 멤버 제거와 프레즌스/세션 삭제 후 남은 멤버 반환")
+    void shouldLeaveAtomically() {
+        // Given
+        roomRepository.addMember("room-1", "u1");
+        roomRepository.join("room-1", "u2", 10, 30);
+        redisTemplate.opsForHash().put(redisKeys.session("u2"), "userId", "u2");
+
+        // When
+        LeaveResult result = roomRepository.leave("room-1", "u2", 300);
+
+        // Then
+        assertThat(result.removed()).isTrue();
+        assertThat(result.roomEmptied()).isFalse();
+        assertThat(result.remainingMembers()).containsExactly("u1");
+        assertThat(redisTemplate.hasKey(redisKeys.presence("u2"))).isFalse();
+        assertThat(redisTemplate.hasKey(redisKeys.session("u2"))).isFalse();
+        assertThat(redisTemplate.hasKey(redisKeys.roomEmptyMarker("room-1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("퇴장 - 마지막 멤버가 나가면 유예 TTL 동안 방이 유지되고 재입장 시 해제")
+    void shouldKeepEmptyRoomDuringGracePeriod() {
+        // Given
+        roomRepository.addMember("room-1", "u1");
+
+        // When - 마지막 멤버 퇴장
+        LeaveResult left = roomRepository.leave("room-1", "u1", 300);
+
+        // Then - 멤버 SET은 사라지지만 유예 표시 키로 방 존재 유지
+        assertThat(left.roomEmptied()).isTrue();
+        assertThat(left.remainingMembers()).isEmpty();
+        assertThat(redisTemplate.getExpire(redisKeys.roomEmptyMarker("room-1"))).isBetween(1L, 300L);
+        assertThat(roomRepository.exists("room-1")).isTrue();
+        assertThat(roomRepository.findEmptyRooms()).containsExactly("room-1");
+
+        // When - 유예 기간 중 재입장
+        JoinResult rejoined = roomRepository.join("room-1", "u2", 10, 30);
+
+        // Then
+        assertThat(rejoined.status()).isEqualTo(JoinResult.Status.JOINED);
+        assertThat(rejoined.wasEmpty()).isTrue();
+        assertThat(redisTemplate.hasKey(redisKeys.roomEmptyMarker("room-1"))).isFalse();
+        assertThat(roomRepository.findEmptyRooms()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("퇴장 - 멤버가 아닌 사용자의 퇴장은 방 상태를 바꾸지 않음")
+    void shouldIgnoreLeaveOfNonMember() {
+        // When
+        LeaveResult result = roomRepository.leave("room-unknown", "u1", 300);
+
+        // Then
+        assertThat(result.removed()).isFalse();
+        assertThat(result.roomEmptied()).isFalse();
+        assertThat(roomRepository.exists("room-unknown")).isFalse();
+    }
+
+    @Test
+    @DisplayName("퇴장 - 다른 방 입장 후 늦게 처리된 이전 방 퇴장은 멤버만 제거하고 프레즌스/세션 유지")
+    void shouldKeepPresenceOnStaleLeaveAfterJoiningAnotherRoom() {
+        // Given - room-A에 있던 u1이 room-B로 입장 (room-A 퇴장은 아직 처리 전)
+        roomRepository.addMember("room-A", "u0");
+        roomRepository.join("room-A", "u1", 10, 30);
+        roomRepository.addMember("room-B", "u2");
+        roomRepository.join("room-B", "u1", 10, 30);
+        redisTemplate.opsForHash().put(redisKeys.session("u1"), "roomId", "room-B");
+
+        // When - room-A 퇴장이 room-B 입장 뒤에 처리 (세션은 이미 room-B 소유)
+        LeaveResult stale = roomRepository.leave("room-A", "u1", 300, false);
+
+        // Then
+        assertThat(stale.removed()).isTrue();
+        assertThat(stale.remainingMembers()).containsExactly("u0");
+        assertThat(redisTemplate.hasKey(redisKeys.presence("u1"))).isTrue();
+        assertThat(redisTemplate.hasKey(redisKeys.session("u1"))).isTrue();
+        assertThat(roomRepository.findById("room-B")).hasValueSatisfying(
+                room -> assertThat(room.getMembers()).contains("u1"));
+    }
+
+    @Test
+    @DisplayName("조회 - 빈 방 유예 중인 방도 exists와 같은 기준으로 존재")
+    void shouldFindRoomDuringGracePeriod() {
+        // Given
+        roomRepository.create("room-1", "u1", 30);
+        roomRepository.leave("room-1", "u1", 300);
+
+        // When & Then
+        assertThat(roomRepository.exists("room-1")).isTrue();
+        assertThat(roomRepository.findById("room-1")).hasValueSatisfying(room -> assertThat(room.isEmpty()).isTrue());
+        assertThat(roomRepository.findById("room-unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제 - 멤버 키와 빈 방 유예 표시를 함께 제거")
+    void shouldDeleteMembersAndEmptyMarker() {
+        // Given - 멤버가 있는 방과 유예 중인 방
+        roomRepository.create("room-1", "u1", 30);
+        roomRepository.create("room-2", "u2", 30);
+        roomRepository.leave("room-2", "u2", 300);
+
+        // When
+        roomRepository.delete("room-1");
+        roomRepository.delete("room-2");
+
+        // Then
+        assertThat(roomRepository.exists("room-1")).isFalse();
+        assertThat(roomRepository.exists("room-2")).isFalse();
+        assertThat(redisTemplate.hasKey(redisKeys.roomEmptyMarker("room-2"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("TTL 설정/해제 - 빈 방 유예 표시를 기록/제거하고 멤버 추가도 유예를 취소")
+    void shouldManageGraceThroughEmptyMarker() {
+        // Given
+        roomRepository.create("room-1", "u1", 30);
+        roomRepository.removeMember("room-1", "u1");
+        roomRepository.removeTTL("room-1");
+
+        // When - 유예 설정
+        roomRepository.setTTL("room-1", 120);
+
+        // Then
+        assertThat(redisTemplate.getExpire(redisKeys.roomEmptyMarker("room-1"))).isBetween(1L, 120L);
+        assertThat(roomRepository.exists("room-1")).isTrue();
+        try (Stream<String> rooms = roomRepository.streamEmptyRooms()) {
+            assertThat(rooms).containsExactly("room-1");
+        }
+
+        // When - 유예 중 멤버 추가
+        roomRepository.addMember("room-1", "u2");
+
+        // Then
+        assertThat(redisTemplate.hasKey(redisKeys.roomEmptyMarker("room-1"))).isFalse();
+        assertThat(roomRepository.findById("room-1")).hasValueSatisfying(
+                room -> assertThat(room.getMembers()).containsExactly("u2"));
+    }
+
+    @Test
+    @DisplayName("빈 방 스트림 - SCAN 배치 여러 개에 걸쳐 조회하고 재입장한 방은 제외")
+    void shouldStreamEmptyRoomsAcrossScanBatches() {
+        // Given - SCAN COUNT/배치 크기 10, 빈 방 25개 + 유예 중 재입장한 방 1개
+        C2CProperties.Redis smallBatch = new C2CProperties.Redis();
+        smallBatch.setScanCount(10);
+        RoomRedisRepository smallBatchRepository = new RoomRedisRepository(redisTemplate, redisTemplate, functions, redisKeys,
+                new C2CProperties(smallBatch, null, null, null, null, null));
+        for (int i = 0; i < 25; i++) {
+            smallBatchRepository.addMember("empty-" + i, "u" + i);
+            smallBatchRepository.leave("empty-" + i, "u" + i, 300);
+        }
+        smallBatchRepository.addMember("rejoined", "u1");
+        smallBatchRepository.leave("rejoined", "u1", 300);
+        smallBatchRepository.addMember("rejoined", "u2"); // 유예 중 재입장 (표시 키 제거)
+
+        // When
+        Set<String> emptyRooms;
+        try (Stream<String> rooms = smallBatchRepository.streamEmptyRooms()) {
+            emptyRooms = rooms.collect(Collectors.toSet());
+        }
+
+        // Then
+        assertThat(emptyRooms).hasSize(25).doesNotContain("rejoined");
+    }
+
+    @Test
+    @DisplayName("클러스터 키 배치 - 방 키/사용자 키는 각각 같은 슬롯, 사용자 키는 함수 밖에서 처리")
+    void shouldKeepScriptKeysInOneSlotForCluster() {
+        // Given - 클러스터 설정 (함수 동작은 단일 인스턴스에서 검증)
+        C2CProperties.Redis cluster = new C2CProperties.Redis();
+        cluster.setTopology(C2CProperties.Redis.Topology.CLUSTER);
+        RoomRedisRepository clusterRepository = new RoomRedisRepository(redisTemplate, redisTemplate, functions, redisKeys,
+                new C2CProperties(cluster, null, null, null, null, null));
+        clusterRepository.addMember("room-1", "u1");
+
+        // When
+        JoinResult joined = clusterRepository.join("room-1", "u2", 10, 30);
+        boolean onlineAfterJoin = redisTemplate.hasKey(redisKeys.presence("u2"));
+        redisTemplate.opsForHash().put(redisKeys.session("u2"), "sessionId", "s2");
+        LeaveResult left = clusterRepository.leave("room-1", "u2", 300);
+
+        // Then
+        assertThat(RoomRedisRepository.leaveKeys(redisKeys, "room-1", "u2", false))
+                .extracting(key -> SlotHash.getSlot(key)).containsOnly(SlotHash.getSlot(redisKeys.roomMembers("room-1")));
+        assertThat(RoomRedisRepository.userKeys(redisKeys, "u2"))
+                .extracting(key -> SlotHash.getSlot(key)).containsOnly(SlotHash.getSlot(redisKeys.presence("u2")));
+        assertThat(joined.status()).isEqualTo(JoinResult.Status.JOINED);
+        assertThat(onlineAfterJoin).isTrue();
+        assertThat(left.remainingMembers()).containsExactly("u1");
+        assertThat(redisTemplate.hasKey(redisKeys.presence("u2"))).isFalse();
+        assertThat(redisTemplate.hasKey(redisKeys.session("u2"))).isFalse();
+    }
+}
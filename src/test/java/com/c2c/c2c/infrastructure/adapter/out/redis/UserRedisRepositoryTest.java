@@ -0,0 +1,193 @@
+package com.c2c.c2c.infrastructure.adapter.out.redis;
+
+import com.c2c.c2c.domain.model.User;
+import com.c2c.c2c.infrastructure.config.C2CProperties.Redis.KeyLayout;
+import com.c2c.c2c.infrastructure.config.C2CProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * UserRedisRepository 세션 해시 테스트
+ *
+ * 테스트 범위:
+ * - 저장: 다중 필드 HSET + 세션 TTL + 프레즌스를 한 번에 기록
+ * - 단건 조회: HMGET 결과를 User로 복원, 세션이 없으면 빈 결과
+ * - 일괄 조회: 파이프라인 1회로 여러 사용자 조회, 세션 없는 사용자 제외
+ * - 값 형식: 기존 JSON 값 읽기 호환, compact 형식의 사용자당 Redis 메모리 비교
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("UserRedisRepository 세션 해시 테스트")
+class UserRedisRepositoryTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    private static final RedisKeys redisKeys = new RedisKeys(KeyLayout.TAGGED);
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+    private static RedisTemplate<String, Object> jsonRedisTemplate;
+
+    private UserRedisRepository userRepository;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisSerializer stringSerializer = new StringRedisSerializer();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(stringSerializer);
+        redisTemplate.afterPropertiesSet();
+
+        // 기존 형식(GenericJackson2JsonRedisSerializer) 값 기록용
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+        jsonRedisTemplate = new RedisTemplate<>();
+        jsonRedisTemplate.setConnectionFactory(connectionFactory);
+        jsonRedisTemplate.setKeySerializer(stringSerializer);
+        jsonRedisTemplate.setHashKeySerializer(stringSerializer);
+        jsonRedisTemplate.setValueSerializer(jsonSerializer);
+        jsonRedisTemplate.setHashValueSerializer(jsonSerializer);
+        jsonRedisTemplate.setDefaultSerializer(stringSerializer);
+        jsonRedisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        userRepository = new UserRedisRepository(redisTemplate, redisTemplate, redisKeys, new C2CProperties(null, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("저장 - 세션 필드, 세션 TTL, 프레즌스를 함께 기록하고 단건 조회로 복원")
+    void shouldSaveAndFindById() {
+        // Given
+        LocalDateTime joinedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+        // When
+        userRepository.save(new User("u1", "s1", "room-1", joinedAt));
+
+        // Then
+        User found = userRepository.findById("u1").orElseThrow();
+        assertThat(found.getSessionId()).isEqualTo("s1");
+        assertThat(found.getRoomId()).isEqualTo("room-1");
+        assertThat(found.getJoinedAt()).isEqualTo(joinedAt);
+        assertThat(redisTemplate.getExpire("user:{u1}:session")).isBetween(1L, 600L);
+        assertThat(userRepository.isOnline("u1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션이 없는 사용자 조회 시 빈 결과")
+    void shouldReturnEmptyForMissingSession() {
+        // When & Then
+        assertThat(userRepository.findById("nobody")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - 요청 순서대로 반환하고 세션 없는 사용자는 제외")
+    void shouldFindAllInOneRoundTrip() {
+        // Given
+        LocalDateTime joinedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        userRepository.save(new User("u1", "s1", "room-1", joinedAt));
+        userRepository.save(new User("u2", "s2", "room-1", joinedAt));
+        userRepository.save(new User("u3", "s3", "room-1", joinedAt));
+
+        // When
+        Map<String, User> users = userRepository.findAll(List.of("u3", "missing", "u1", "u2", "u1"));
+
+        // Then
+        assertThat(users.keySet()).containsExactly("u3", "u1", "u2");
+        assertThat(users.get("u2").getSessionId()).isEqualTo("s2");
+        assertThat(userRepository.findAll(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기존 JSON 형식으로 기록된 세션도 그대로 조회 (마이그레이션 호환)")
+    void shouldReadLegacyJsonValues() {
+        // Given - 이전 버전(jsonRedisTemplate)이 기록한 세션
+        jsonRedisTemplate.opsForHash().putAll("user:{u1}:session", Map.of(
+                "userId", "u1", "sessionId", "s1", "roomId", "room-1", "joinedAt", "2025-01-01T12:00"));
+
+        // When
+        User found = userRepository.findById("u1").orElseThrow();
+
+        // Then
+        assertThat(found.getSessionId()).isEqualTo("s1");
+        assertThat(found.getRoomId()).isEqualTo("room-1");
+        assertThat(found.getJoinedAt()).isEqualTo(LocalDateTime.of(2025, 1, 1, 12, 0));
+    }
+
+    @Test
+    @DisplayName("json 형식 설정 시 이전 버전이 읽을 수 있는 형식으로 기록")
+    void shouldWriteLegacyFormatWhenConfigured() {
+        // Given
+        UserRedisRepository jsonRepository = jsonFormatRepository();
+        LocalDateTime joinedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+        // When
+        jsonRepository.save(new User("u1", "s1", "room-1", joinedAt));
+
+        // Then - 이전 버전 방식(JSON 직렬화기)으로 읽기
+        assertThat(jsonRedisTemplate.opsForHash().get("user:{u1}:session", "sessionId")).isEqualTo("s1");
+        assertThat(jsonRedisTemplate.opsForHash().get("user:{u1}:session", "joinedAt")).isEqualTo(joinedAt.toString());
+        assertThat(userRepository.findById("u1").orElseThrow().getJoinedAt()).isEqualTo(joinedAt);
+    }
+
+    @Test
+    @DisplayName("compact 형식은 사용자당 Redis 메모리가 JSON 형식보다 작음")
+    void shouldUseLessMemoryPerUserThanJson() {
+        // Given
+        UserRedisRepository jsonRepository = jsonFormatRepository();
+        LocalDateTime joinedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_000_000);
+
+        // When
+        userRepository.save(new User("compact", "session-0123456789", "room-0123456789", joinedAt));
+        jsonRepository.save(new User("json", "session-0123456789", "room-0123456789", joinedAt));
+
+        // Then
+        long compactBytes = memoryUsage("user:{compact}:session");
+        long jsonBytes = memoryUsage("user:{json}:session");
+        assertThat(compactBytes).isLessThan(jsonBytes);
+    }
+
+    // Helper Methods
+    private UserRedisRepository jsonFormatRepository() {
+        C2CProperties.Redis redis = new C2CProperties.Redis();
+        redis.setValueFormat(C2CProperties.Redis.ValueFormat.JSON);
+        return new UserRedisRepository(redisTemplate, redisTemplate, redisKeys, new C2CProperties(redis, null, null, null, null, null));
+    }
+
+    private long memoryUsage(String key) {
+        Object usage = redisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.execute("MEMORY", "USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)));
+        return (Long) usage;
+    }
+}